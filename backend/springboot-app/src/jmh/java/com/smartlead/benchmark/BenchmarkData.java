@@ -0,0 +1,215 @@
+package com.smartlead.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.smartlead.entity.Interaction;
+import com.smartlead.entity.Interaction.InteractionType;
+import com.smartlead.entity.Lead;
+import com.smartlead.entity.LeadEngagement;
+import com.smartlead.entity.Tenant;
+import com.smartlead.repository.LeadEngagementRepository;
+import com.smartlead.scoring.AIAdjustmentCache;
+import com.smartlead.scoring.AICircuitBreaker;
+import com.smartlead.scoring.AIScoringGateway;
+import com.smartlead.scoring.ScoringRuleRegistry;
+import com.smartlead.scoring.StubOpenAiServer;
+import com.smartlead.scoring.TenantRateLimiter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.RestTemplate;
+
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Synthetic, reproducible leads and interaction histories plus stubs for
+ * the collaborators of the scoring path (engagement summaries, OpenAI).
+ */
+public final class BenchmarkData {
+
+    private static final String[] FIRST_NAMES = {
+        "James", "Maria", "Wei", "Aisha", "Lucas", "Priya", "Olga", "Kenji", "Fatima", "Noah"
+    };
+    private static final String[] LAST_NAMES = {
+        "Smith", "Garcia", "Chen", "Khan", "Müller", "Patel", "Ivanova", "Tanaka", "Haddad", "Johnson"
+    };
+    private static final String[] COMPANIES = {
+        "Acme Corp", "Globex Technologies", "Initech", "Umbrella Solutions LLC", "Stark Industries",
+        "Wayne Enterprises", "Hooli Inc", "Pied Piper", "Vandelay Industries", "", null
+    };
+    private static final String[] JOB_TITLES = {
+        "CEO", "Founder & CTO", "VP of Sales", "Director of Engineering", "Head of Marketing",
+        "Engineering Manager", "Senior Software Engineer", "Team Lead", "Analyst", "Intern", null
+    };
+    private static final String[] EMAIL_DOMAINS = {
+        "gmail.com", "yahoo.com", "outlook.com", "acme.com", "globex.io", "initech.net",
+        "stark.com", "mit.edu", "hooli.xyz"
+    };
+    private static final InteractionType[] INTERACTION_TYPES = InteractionType.values();
+
+    private BenchmarkData() {}
+
+    public static Tenant tenant() {
+        Tenant tenant = new Tenant("bench-tenant", "Benchmark Co", "benchmark.io");
+        tenant.setId(1L);
+        return tenant;
+    }
+
+    public static List<Lead> leads(int count, long seed) {
+        Random random = new Random(seed);
+        Tenant tenant = tenant();
+        List<Lead> leads = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String firstName = pick(random, FIRST_NAMES);
+            String lastName = pick(random, LAST_NAMES);
+            String email = (firstName + "." + lastName + i).toLowerCase() + "@" + pick(random, EMAIL_DOMAINS);
+            String phone = random.nextInt(4) == 0 ? null : "+1-555-" + (1000 + random.nextInt(9000));
+            Lead lead = new Lead(firstName, lastName, email, phone,
+                    pick(random, COMPANIES), pick(random, JOB_TITLES), tenant);
+            lead.setId((long) i + 1);
+            lead.setStatus(Lead.LeadStatus.values()[random.nextInt(Lead.LeadStatus.values().length)]);
+            lead.setScoreValue(random.nextInt(101));
+            lead.setCreatedAt(LocalDateTime.now().minusDays(random.nextInt(365)));
+            if (random.nextBoolean()) {
+                lead.setLastContactedAt(LocalDateTime.now().minusDays(random.nextInt(60)));
+            }
+            leads.add(lead);
+        }
+        return leads;
+    }
+
+    /**
+     * Interaction history per lead id, 0..maxPerLead entries spread over the last 60 days
+     */
+    public static Map<Long, List<Interaction>> interactions(List<Lead> leads, int maxPerLead, long seed) {
+        Random random = new Random(seed);
+        Map<Long, List<Interaction>> byLead = new HashMap<>();
+        for (Lead lead : leads) {
+            int count = random.nextInt(maxPerLead + 1);
+            List<Interaction> history = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                Interaction interaction = new Interaction(pick(random, INTERACTION_TYPES),
+                        "Synthetic interaction " + i, lead, null);
+                interaction.setId(lead.getId() * 1000 + i);
+                interaction.setCreatedAt(LocalDateTime.now().minusHours(random.nextInt(24 * 60)));
+                history.add(interaction);
+            }
+            byLead.put(lead.getId(), history);
+        }
+        return byLead;
+    }
+
+    /**
+     * Engagement summary repository answering id lookups from summaries
+     * built out of the in-memory interaction histories
+     */
+    public static LeadEngagementRepository leadEngagementRepository(Map<Long, List<Interaction>> byLead) {
+        return leadEngagementRepository(byLead, 0);
+    }
+
+    /**
+     * Same, with every lookup blocking for {@code latencyMs} like a database round trip
+     */
+    public static LeadEngagementRepository leadEngagementRepository(Map<Long, List<Interaction>> byLead, long latencyMs) {
+        LocalDate today = LocalDate.now();
+        Map<Long, LeadEngagement> summaries = new HashMap<>();
+        byLead.forEach((leadId, history) -> {
+            LeadEngagement summary = new LeadEngagement(leadId, today);
+            for (Interaction interaction : history) {
+                summary.record(interaction.getType(), interaction.getCreatedAt(), today);
+            }
+            summaries.put(leadId, summary);
+        });
+
+        return (LeadEngagementRepository) Proxy.newProxyInstance(
+                LeadEngagementRepository.class.getClassLoader(),
+                new Class<?>[] { LeadEngagementRepository.class },
+                (proxy, method, args) -> {
+                    String name = method.getName();
+                    if (name.equals("findAllById")) {
+                        if (latencyMs > 0) Thread.sleep(latencyMs);
+                        List<LeadEngagement> found = new ArrayList<>();
+                        for (Object id : (Iterable<?>) args[0]) {
+                            LeadEngagement summary = summaries.get(id);
+                            if (summary != null) found.add(summary);
+                        }
+                        return found;
+                    }
+                    if (name.equals("toString")) return "StubLeadEngagementRepository";
+                    if (name.equals("hashCode")) return System.identityHashCode(proxy);
+                    if (name.equals("equals")) return proxy == args[0];
+                    throw new UnsupportedOperationException(name);
+                });
+    }
+
+    /**
+     * RestTemplate answering chat completions in-process, without HTTP
+     */
+    public static RestTemplate stubOpenAi() {
+        return new RestTemplate() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <T> ResponseEntity<T> exchange(String url, HttpMethod method, HttpEntity<?> requestEntity,
+                                                  Class<T> responseType, Object... uriVariables) {
+                Map<String, Object> body = (Map<String, Object>) requestEntity.getBody();
+                List<Map<String, Object>> messages = (List<Map<String, Object>>) body.get("messages");
+                String prompt = (String) messages.get(messages.size() - 1).get("content");
+                return (ResponseEntity<T>) ResponseEntity.ok(StubOpenAiServer.completionFor(prompt, 0.0));
+            }
+        };
+    }
+
+    /**
+     * Started gateway backed by the in-process OpenAI stub
+     */
+    public static AIScoringGateway aiScoringGateway(ObjectMapper objectMapper) {
+        AIScoringGateway gateway = new AIScoringGateway(stubOpenAi(), objectMapper, noAdjustmentCache(),
+                neverOpenCircuitBreaker(), noTenantLimit(),
+                new SimpleMeterRegistry(), "http://localhost/v1/chat/completions", "benchmark-key", "gpt-4",
+                10, 1, 4, 2, 100_000);
+        gateway.start();
+        return gateway;
+    }
+
+    /**
+     * Disabled adjustment cache, so repeated runs over the same leads still exercise the gateway
+     */
+    public static AIAdjustmentCache noAdjustmentCache() {
+        return new AIAdjustmentCache(0, Duration.ofMinutes(1));
+    }
+
+    /**
+     * Circuit breaker that never trips, for measuring the gateway without fallbacks
+     */
+    public static AICircuitBreaker neverOpenCircuitBreaker() {
+        return new AICircuitBreaker(new SimpleMeterRegistry(), 2.0, 20, 20, Duration.ofSeconds(30), 1);
+    }
+
+    /**
+     * Tenant rate limiter with limiting switched off
+     */
+    public static TenantRateLimiter noTenantLimit() {
+        return new TenantRateLimiter(new SimpleMeterRegistry(), 0, 1, 0, 50);
+    }
+
+    public static ObjectMapper objectMapper() {
+        return new ObjectMapper().findAndRegisterModules();
+    }
+
+    public static ScoringRuleRegistry ruleRegistry(ObjectMapper objectMapper) {
+        return new ScoringRuleRegistry(objectMapper, new ClassPathResource("scoring-rules/default.json"), "");
+    }
+
+    private static <T> T pick(Random random, T[] values) {
+        return values[random.nextInt(values.length)];
+    }
+}
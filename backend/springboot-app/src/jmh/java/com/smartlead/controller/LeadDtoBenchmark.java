@@ -0,0 +1,81 @@
+package com.smartlead.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.smartlead.benchmark.BenchmarkData;
+import com.smartlead.dto.LeadDto;
+import com.smartlead.entity.Lead;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of the lead list response path: entity to DTO conversion in
+ * {@link LeadController} and Jackson serialization of the DTO list.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LeadDtoBenchmark {
+
+    @Param({"100", "10000"})
+    private int leadCount;
+
+    private LeadController controller;
+    private ObjectWriter writer;
+    private List<Lead> leads;
+    private List<LeadDto> dtos;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        controller = new LeadController();
+        ObjectMapper objectMapper = BenchmarkData.objectMapper();
+        writer = objectMapper.writerFor(objectMapper.getTypeFactory().constructCollectionType(List.class, LeadDto.class));
+        leads = BenchmarkData.leads(leadCount, 42L);
+        dtos = convertAll();
+    }
+
+    @Benchmark
+    public LeadDto convertToDto() {
+        return controller.convertToDto(leads.get(0));
+    }
+
+    @Benchmark
+    public List<LeadDto> convertList() {
+        return convertAll();
+    }
+
+    @Benchmark
+    public byte[] serializeDtoList() throws Exception {
+        return writer.writeValueAsBytes(dtos);
+    }
+
+    @Benchmark
+    public byte[] convertAndSerializeList() throws Exception {
+        return writer.writeValueAsBytes(convertAll());
+    }
+
+    private List<LeadDto> convertAll() {
+        List<LeadDto> result = new ArrayList<>(leads.size());
+        for (Lead lead : leads) {
+            result.add(controller.convertToDto(lead));
+        }
+        return result;
+    }
+}
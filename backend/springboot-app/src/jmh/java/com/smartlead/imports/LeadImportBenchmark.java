@@ -0,0 +1,135 @@
+package com.smartlead.imports;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.smartlead.benchmark.BenchmarkData;
+import com.smartlead.entity.Lead;
+import com.smartlead.entity.LeadImportJob.ImportFormat;
+import com.smartlead.entity.Tenant;
+import com.smartlead.service.AILeadScoringService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Rows per second through the CPU side of a bulk import: streaming parse,
+ * validation and parallel rule-based scoring, chunked as the import job does.
+ * Database inserts are not included; compare with the rows/s the job logs.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LeadImportBenchmark {
+
+    private static final int ROWS = 10_000;
+    private static final int CHUNK_SIZE = 1000;
+
+    @Param({"CSV", "NDJSON"})
+    private ImportFormat format;
+
+    private ObjectMapper objectMapper;
+    private LeadImportPipeline pipeline;
+    private Tenant tenant;
+    private byte[] file;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        objectMapper = BenchmarkData.objectMapper();
+        tenant = BenchmarkData.tenant();
+        // Provisional scoring never touches engagement summaries or the OpenAI gateway
+        pipeline = new LeadImportPipeline(new AILeadScoringService(
+                BenchmarkData.leadEngagementRepository(Collections.emptyMap()),
+                BenchmarkData.ruleRegistry(objectMapper),
+                null,
+                null,
+                new SimpleMeterRegistry()));
+
+        List<Lead> leads = BenchmarkData.leads(ROWS, 42L);
+        file = format == ImportFormat.CSV ? csv(leads) : ndjson(leads);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public int parseValidateScore() throws IOException {
+        int accepted = 0;
+        try (LeadRecordReader reader = LeadRecordReader.open(format, new ByteArrayInputStream(file), objectMapper)) {
+            List<LeadRecord> chunk = new ArrayList<>(CHUNK_SIZE);
+            LeadRecord record;
+            while ((record = reader.next()) != null) {
+                chunk.add(record);
+                if (chunk.size() == CHUNK_SIZE) {
+                    accepted += countAccepted(pipeline.prepare(chunk, tenant));
+                    chunk.clear();
+                }
+            }
+            if (!chunk.isEmpty()) {
+                accepted += countAccepted(pipeline.prepare(chunk, tenant));
+            }
+        }
+        return accepted;
+    }
+
+    private static int countAccepted(List<LeadImportPipeline.PreparedRow> rows) {
+        int accepted = 0;
+        for (LeadImportPipeline.PreparedRow row : rows) {
+            if (!row.isRejected()) accepted++;
+        }
+        return accepted;
+    }
+
+    private static byte[] csv(List<Lead> leads) {
+        StringBuilder csv = new StringBuilder("first_name,last_name,email,phone,company,job_title\r\n");
+        for (Lead lead : leads) {
+            csv.append(csvValue(lead.getFirstName())).append(',')
+               .append(csvValue(lead.getLastName())).append(',')
+               .append(csvValue(lead.getEmail())).append(',')
+               .append(csvValue(lead.getPhone())).append(',')
+               .append(csvValue(lead.getCompany())).append(',')
+               .append(csvValue(lead.getJobTitle())).append("\r\n");
+        }
+        return csv.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static String csvValue(String value) {
+        if (value == null) return "";
+        return value.contains(",") || value.contains("\"") ? "\"" + value.replace("\"", "\"\"") + "\"" : value;
+    }
+
+    private byte[] ndjson(List<Lead> leads) throws IOException {
+        StringBuilder ndjson = new StringBuilder();
+        for (Lead lead : leads) {
+            Map<String, String> row = new LinkedHashMap<>();
+            row.put("firstName", lead.getFirstName());
+            row.put("lastName", lead.getLastName());
+            row.put("email", lead.getEmail());
+            row.put("phone", lead.getPhone());
+            row.put("company", lead.getCompany());
+            row.put("jobTitle", lead.getJobTitle());
+            ndjson.append(objectMapper.writeValueAsString(row)).append('\n');
+        }
+        return ndjson.toString().getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,156 @@
+package com.smartlead.scoring;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.smartlead.benchmark.BenchmarkData;
+import com.smartlead.entity.Lead;
+import com.smartlead.entity.Tenant;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * {@link AIScoringGateway} with the production HTTP client, circuit breaker
+ * and tenant rate limiter against a stub OpenAI server injecting latency
+ * spikes (past the read timeout) and 429s. A bulk tenant rescoring large
+ * batches shares the gateway with a small tenant; the small tenant's
+ * SampleTime shows whether the bulk tenant can crowd it out. Every lead must
+ * resolve, with an adjustment or as unavailable through a fallback; the
+ * per-outcome counters are printed after each trial.
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1, time = 10)
+@Measurement(iterations = 3, time = 10)
+@Fork(1)
+public class AIGatewayResilienceBenchmark {
+
+    private static final AtomicLong SEEDS = new AtomicLong();
+
+    @Param({"50"})
+    private long latencyMs;
+
+    @Param({"0.0", "0.05"})
+    private double spikeRate;
+
+    @Param({"0.0", "0.2"})
+    private double rateLimitRate;
+
+    @Param({"1000"})
+    private long readTimeoutMs;
+
+    @Param({"200"})
+    private double tenantLeadsPerSecond;
+
+    private SimpleMeterRegistry meterRegistry;
+    private StubOpenAiServer server;
+    private TenantRateLimiter rateLimiter;
+    private AIScoringGateway gateway;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        ObjectMapper objectMapper = BenchmarkData.objectMapper();
+        meterRegistry = new SimpleMeterRegistry();
+        server = new StubOpenAiServer(latencyMs, latencyMs / 5, spikeRate, readTimeoutMs * 5, 0.0,
+                rateLimitRate, 0.0, 0.0);
+        rateLimiter = new TenantRateLimiter(meterRegistry, tenantLeadsPerSecond, 100, 10_000, 20);
+        rateLimiter.start();
+        gateway = new AIScoringGateway(
+                AIScoringGateway.openAiClient(new RestTemplateBuilder(), Duration.ofSeconds(1), Duration.ofMillis(readTimeoutMs)),
+                objectMapper, BenchmarkData.noAdjustmentCache(),
+                new AICircuitBreaker(meterRegistry, 0.5, 20, 10, Duration.ofSeconds(2), 2), rateLimiter,
+                meterRegistry, server.url(), "benchmark-key", "gpt-4",
+                10, 5, 8, 2, 100_000);
+        gateway.start();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        gateway.shutdown();
+        rateLimiter.shutdown();
+        server.close();
+
+        System.out.println();
+        for (Meter meter : meterRegistry.getMeters()) {
+            String name = meter.getId().getName();
+            if (name.equals("openai.adjustments") || name.equals("openai.circuit.opened")
+                    || name.equals("openai.tenant.admissions")) {
+                System.out.printf("%s%s = %.0f%n", name, meter.getId().getTags(),
+                        meter.measure().iterator().next().getValue());
+            }
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class BulkTenant {
+        private List<Lead> leads;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            leads = leadsOf(1L, 200);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class SmallTenant {
+        private List<Lead> leads;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            leads = leadsOf(2L, 10);
+        }
+    }
+
+    private static List<Lead> leadsOf(long tenantId, int count) {
+        Tenant tenant = new Tenant("bench-tenant-" + tenantId, "Benchmark Co " + tenantId, "tenant" + tenantId + ".io");
+        tenant.setId(tenantId);
+        List<Lead> leads = BenchmarkData.leads(count, SEEDS.incrementAndGet());
+        leads.forEach(lead -> lead.setTenant(tenant));
+        return leads;
+    }
+
+    @Benchmark
+    @Group("tenants")
+    @GroupThreads(3)
+    public int bulkTenant(BulkTenant tenant) {
+        return scoreAll(tenant.leads);
+    }
+
+    @Benchmark
+    @Group("tenants")
+    @GroupThreads(1)
+    public int smallTenant(SmallTenant tenant) {
+        return scoreAll(tenant.leads);
+    }
+
+    private int scoreAll(List<Lead> leads) {
+        CompletableFuture<?>[] futures = new CompletableFuture<?>[leads.size()];
+        for (int i = 0; i < futures.length; i++) {
+            // Unavailable adjustments (rejected, circuit open, dropped) resolve too
+            futures[i] = gateway.requestAdjustment(leads.get(i)).exceptionally(error -> null);
+        }
+        CompletableFuture.allOf(futures).join();
+        return futures.length;
+    }
+}
@@ -0,0 +1,89 @@
+package com.smartlead.scoring;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.smartlead.benchmark.BenchmarkData;
+import com.smartlead.entity.Lead;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * End-to-end lead throughput of {@link AIScoringGateway} against a local
+ * stub OpenAI server with emulated latency, 5xx errors, malformed bodies
+ * and partial answers. Every lead must resolve, either with the model's
+ * adjustment or as unavailable once retries are exhausted.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(1)
+public class AIScoringGatewayBenchmark {
+
+    private static final int LEADS_PER_INVOCATION = 200;
+
+    @Param({"50"})
+    private long latencyMs;
+
+    @Param({"1", "10"})
+    private int batchSize;
+
+    @Param({"4"})
+    private int maxInFlight;
+
+    @Param({"0.0", "0.1"})
+    private double dropLeadRate;
+
+    @Param({"0.02"})
+    private double malformedRate;
+
+    private StubOpenAiServer server;
+    private AIScoringGateway gateway;
+    private List<Lead> leads;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        ObjectMapper objectMapper = BenchmarkData.objectMapper();
+        server = new StubOpenAiServer(latencyMs, latencyMs / 5, malformedRate, malformedRate, dropLeadRate);
+        gateway = new AIScoringGateway(new RestTemplate(), objectMapper, BenchmarkData.noAdjustmentCache(),
+                BenchmarkData.neverOpenCircuitBreaker(), BenchmarkData.noTenantLimit(), new SimpleMeterRegistry(), server.url(), "benchmark-key", "gpt-4",
+                batchSize, 5, maxInFlight, 2, 100_000);
+        gateway.start();
+        leads = BenchmarkData.leads(LEADS_PER_INVOCATION, 42L);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        gateway.shutdown();
+        server.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LEADS_PER_INVOCATION)
+    public int scoreLeads() {
+        CompletableFuture<?>[] futures = new CompletableFuture<?>[leads.size()];
+        for (int i = 0; i < futures.length; i++) {
+            futures[i] = gateway.requestAdjustment(leads.get(i)).exceptionally(error -> null);
+        }
+        CompletableFuture.allOf(futures).join();
+        return futures.length;
+    }
+}
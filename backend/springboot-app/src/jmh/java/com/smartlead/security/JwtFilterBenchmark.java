@@ -0,0 +1,136 @@
+package com.smartlead.security;
+
+import com.smartlead.benchmark.BenchmarkData;
+import com.smartlead.entity.Tenant;
+import com.smartlead.entity.User;
+import com.smartlead.repository.UserRepository;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import jakarta.servlet.FilterChain;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.lang.reflect.Proxy;
+import java.security.Key;
+import java.time.Duration;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Authentication cost per request for a pool of clients that each resend
+ * the same token. {@code legacy} is the old token handling (signing key
+ * rebuilt and the token parsed three times per request); {@code uncached}
+ * and {@code cached} run {@link JwtRequestFilter} with the token cache off
+ * and on. Principals come from a warm {@link PrincipalCache} in every
+ * variant, so the users-table lookup the old filter also did is not counted.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtFilterBenchmark {
+
+    private static final String SECRET = "mySecretKey12345678901234567890123456789012345678901234567890";
+    private static final FilterChain NO_OP_CHAIN = (request, response) -> { };
+
+    @Param({"legacy", "uncached", "cached"})
+    private String variant;
+
+    @Param({"100"})
+    private int clients;
+
+    private JwtRequestFilter filter;
+    private PrincipalCache principalCache;
+    private MockHttpServletRequest[] requests;
+    private String[] tokens;
+    private MockHttpServletResponse response;
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        Tenant tenant = BenchmarkData.tenant();
+        Map<String, User> users = new HashMap<>();
+        for (int i = 0; i < clients; i++) {
+            User user = new User("user" + i + "@example.com", "hash", "First", "Last", User.Role.SALES_REP, tenant);
+            user.setId((long) i + 1);
+            users.put(user.getEmail(), user);
+        }
+        principalCache = new PrincipalCache(userRepository(users), null, 10_000, Duration.ofMinutes(5));
+
+        JwtUtil jwtUtil = new JwtUtil("cached".equals(variant) ? 10_000 : 0);
+        filter = new JwtRequestFilter();
+        ReflectionTestUtils.setField(filter, "jwtUtil", jwtUtil);
+        ReflectionTestUtils.setField(filter, "principalCache", principalCache);
+
+        requests = new MockHttpServletRequest[clients];
+        tokens = new String[clients];
+        int i = 0;
+        for (User user : users.values()) {
+            tokens[i] = jwtUtil.generateToken(user.getEmail(), tenant.getTenantId());
+            requests[i] = new MockHttpServletRequest("GET", "/api/leads");
+            requests[i].addHeader("Authorization", "Bearer " + tokens[i]);
+            principalCache.get(user.getEmail());
+            i++;
+        }
+        response = new MockHttpServletResponse();
+    }
+
+    @Benchmark
+    public Object authenticate() throws Exception {
+        int client = cursor++ % clients;
+        if ("legacy".equals(variant)) {
+            return legacyAuthenticate(tokens[client]);
+        }
+        filter.doFilter(requests[client], response, NO_OP_CHAIN);
+        Object principal = SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+        SecurityContextHolder.clearContext();
+        return principal;
+    }
+
+    // extractEmail, then validateToken's extractEmail and isTokenExpired, each with a fresh key and parser
+    private Object legacyAuthenticate(String token) {
+        String email = legacyClaims(token).getSubject();
+        PrincipalCache.CachedPrincipal principal = principalCache.get(email);
+        boolean valid = legacyClaims(token).getSubject().equals(principal.getUser().getEmail())
+                && !legacyClaims(token).getExpiration().before(new Date());
+        return valid ? principal.getUser() : null;
+    }
+
+    @SuppressWarnings("deprecation")
+    private static Claims legacyClaims(String token) {
+        Key key = Keys.hmacShaKeyFor(SECRET.getBytes());
+        return Jwts.parser().setSigningKey(key).build().parseClaimsJws(token).getBody();
+    }
+
+    private static UserRepository userRepository(Map<String, User> users) {
+        return (UserRepository) Proxy.newProxyInstance(
+            UserRepository.class.getClassLoader(),
+            new Class<?>[] { UserRepository.class },
+            (proxy, method, args) -> {
+                if (method.getName().equals("findByEmail")) {
+                    return Optional.ofNullable(users.get((String) args[0]));
+                }
+                throw new UnsupportedOperationException(method.getName());
+            });
+    }
+}
@@ -0,0 +1,107 @@
+package com.smartlead.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.smartlead.benchmark.BenchmarkData;
+import com.smartlead.entity.Interaction;
+import com.smartlead.entity.Lead;
+import com.smartlead.scoring.AIScoringGateway;
+import com.smartlead.scoring.ScoringExecutor;
+import com.smartlead.scoring.ScoringResult;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of {@link AILeadScoringService} on synthetic leads.
+ * Engagement summaries come from an in-memory stand-in for the
+ * lead_engagement repository, built from generated interactions, and OpenAI
+ * is stubbed, so the numbers cover CPU and allocation cost of scoring only.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ScoringBenchmark {
+
+    @Param({"1000"})
+    private int leadCount;
+
+    @Param({"20"})
+    private int maxInteractionsPerLead;
+
+    @Param({"false", "true"})
+    private boolean aiStubbed;
+
+    private AIScoringGateway gateway;
+    private ScoringExecutor scoringExecutor;
+    private AILeadScoringService scoringService;
+    private List<Lead> leads;
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        ObjectMapper objectMapper = BenchmarkData.objectMapper();
+        leads = BenchmarkData.leads(leadCount, 42L);
+        Map<Long, List<Interaction>> interactions = BenchmarkData.interactions(leads, maxInteractionsPerLead, 7L);
+
+        gateway = BenchmarkData.aiScoringGateway(objectMapper);
+        scoringExecutor = new ScoringExecutor(new SimpleMeterRegistry(), 256);
+        scoringService = new AILeadScoringService(
+                BenchmarkData.leadEngagementRepository(interactions),
+                BenchmarkData.ruleRegistry(objectMapper),
+                gateway,
+                scoringExecutor,
+                new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(scoringService, "aiScoringEnabled", aiStubbed);
+        ReflectionTestUtils.setField(scoringService, "scoreDeadlineMs", 30_000L);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        gateway.shutdown();
+        scoringExecutor.shutdown();
+    }
+
+    private Lead nextLead() {
+        Lead lead = leads.get(cursor);
+        cursor = cursor + 1 == leads.size() ? 0 : cursor + 1;
+        return lead;
+    }
+
+    @Benchmark
+    public int calculateLeadScore() {
+        return scoringService.calculateLeadScore(nextLead());
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public Map<Long, ScoringResult> batchScoreLeads() {
+        return scoringService.batchScoreLeads(leads);
+    }
+
+    @Benchmark
+    public void classifyLead(Blackhole bh) {
+        for (int score = 0; score <= 100; score++) {
+            bh.consume(scoringService.classifyLead(score));
+        }
+    }
+}
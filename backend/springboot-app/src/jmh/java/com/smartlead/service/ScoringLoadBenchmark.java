@@ -0,0 +1,121 @@
+package com.smartlead.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.smartlead.benchmark.BenchmarkData;
+import com.smartlead.entity.Interaction;
+import com.smartlead.entity.Lead;
+import com.smartlead.scoring.AIScoringGateway;
+import com.smartlead.scoring.ScoringExecutor;
+import com.smartlead.scoring.StubOpenAiServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 1000 concurrent scoring requests, each scoring a handful of leads whose
+ * engagement read and OpenAI adjustment block (emulated database latency,
+ * local stub OpenAI server). {@code common-pool} fans a request out with a
+ * parallel stream, as batchScoreLeads used to; {@code virtual-threads} uses
+ * {@link ScoringExecutor}. Compare Throughput and the SampleTime p0.99 row:
+ * mvn -Pbenchmarks test-compile exec:exec -Djmh.args="ScoringLoadBenchmark"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 10)
+@Measurement(iterations = 3, time = 10)
+@Threads(1000)
+@Fork(value = 1, jvmArgs = "-Xmx2g")
+public class ScoringLoadBenchmark {
+
+    private static final int LEADS_PER_REQUEST = 10;
+
+    @Param({"common-pool", "virtual-threads"})
+    private String execution;
+
+    @Param({"5"})
+    private long dbLatencyMs;
+
+    @Param({"false", "true"})
+    private boolean aiEnabled;
+
+    @Param({"100"})
+    private long openAiLatencyMs;
+
+    private StubOpenAiServer server;
+    private AIScoringGateway gateway;
+    private ScoringExecutor scoringExecutor;
+    private AILeadScoringService scoringService;
+    private List<Lead> leads;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        ObjectMapper objectMapper = BenchmarkData.objectMapper();
+        leads = BenchmarkData.leads(10_000, 42L);
+        Map<Long, List<Interaction>> interactions = BenchmarkData.interactions(leads, 20, 7L);
+
+        server = new StubOpenAiServer(openAiLatencyMs, openAiLatencyMs / 5, 0.0, 0.0, 0.0);
+        gateway = new AIScoringGateway(new RestTemplate(), objectMapper, BenchmarkData.noAdjustmentCache(),
+                BenchmarkData.neverOpenCircuitBreaker(), BenchmarkData.noTenantLimit(), new SimpleMeterRegistry(), server.url(), "benchmark-key", "gpt-4",
+                10, 5, 64, 2, 100_000);
+        gateway.start();
+        scoringExecutor = new ScoringExecutor(new SimpleMeterRegistry(), 256);
+        scoringService = new AILeadScoringService(
+                BenchmarkData.leadEngagementRepository(interactions, dbLatencyMs),
+                BenchmarkData.ruleRegistry(objectMapper),
+                gateway,
+                scoringExecutor,
+                new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(scoringService, "aiScoringEnabled", aiEnabled);
+        ReflectionTestUtils.setField(scoringService, "scoreDeadlineMs", 30_000L);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        scoringExecutor.shutdown();
+        gateway.shutdown();
+        server.close();
+    }
+
+    @Benchmark
+    public Map<Long, Integer> scoreRequest() {
+        int from = ThreadLocalRandom.current().nextInt(leads.size() - LEADS_PER_REQUEST);
+        List<Lead> batch = leads.subList(from, from + LEADS_PER_REQUEST);
+
+        if (execution.equals("common-pool")) {
+            return batch.parallelStream()
+                .collect(Collectors.toMap(Lead::getId, scoringService::calculateLeadScore, (a, b) -> a));
+        }
+
+        Map<Long, CompletableFuture<Integer>> pending = new LinkedHashMap<>();
+        for (Lead lead : batch) {
+            pending.put(lead.getId(), scoringExecutor.submit(() -> scoringService.calculateLeadScore(lead)));
+        }
+        Map<Long, Integer> scores = new HashMap<>();
+        pending.forEach((id, score) -> scores.put(id, score.join()));
+        return scores;
+    }
+}
@@ -4,9 +4,11 @@ package com.smartlead;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
 @EnableCaching
+@EnableScheduling
 public class SmartLeadApplication {
     public static void main(String[] args) {
         SpringApplication.run(SmartLeadApplication.class, args);
@@ -0,0 +1,49 @@
+package com.smartlead.cache;
+
+import com.smartlead.scoring.AIAdjustmentCache;
+import com.smartlead.security.PrincipalCache;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.util.Map;
+
+@Configuration
+@EnableConfigurationProperties(CacheSpecProperties.class)
+public class CacheConfig {
+
+    @Bean
+    public TwoTierCacheManager cacheManager(CacheSpecProperties properties,
+                                            RedisConnectionFactory connectionFactory,
+                                            StringRedisTemplate stringRedisTemplate) {
+        RedisTemplate<String, byte[]> binaryTemplate = new RedisTemplate<>();
+        binaryTemplate.setConnectionFactory(connectionFactory);
+        binaryTemplate.setKeySerializer(RedisSerializer.string());
+        binaryTemplate.setValueSerializer(RedisSerializer.byteArray());
+        binaryTemplate.afterPropertiesSet();
+
+        Map<String, CacheValueCodec<?>> codecs = Map.of(AIAdjustmentCache.CACHE_NAME, AIAdjustmentCache.CODEC);
+        return new TwoTierCacheManager(properties, binaryTemplate, stringRedisTemplate, codecs);
+    }
+
+    @Bean
+    public RedisMessageListenerContainer cacheInvalidationListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                            TenantLeadCache tenantLeadCache,
+                                                                            TwoTierCacheManager cacheManager,
+                                                                            PrincipalCache principalCache,
+                                                                            L2CacheInvalidator l2CacheInvalidator) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(tenantLeadCache, new ChannelTopic(TenantLeadCache.CHANNEL));
+        container.addMessageListener(cacheManager, new ChannelTopic(TwoTierCacheManager.EVICTION_CHANNEL));
+        container.addMessageListener(principalCache, new ChannelTopic(PrincipalCache.CHANNEL));
+        container.addMessageListener(l2CacheInvalidator, new ChannelTopic(L2CacheInvalidator.CHANNEL));
+        return container;
+    }
+}
@@ -0,0 +1,65 @@
+package com.smartlead.cache;
+
+import com.smartlead.security.PrincipalCache;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Publishes the hit/miss counters the application's own caches already keep
+ * as {@code cache.lookups{cache,tier,result}}, read from their
+ * {@code getStats()} at scrape time, so hit ratios show up in Prometheus
+ * without a second set of counters on the lookup path. Caches of
+ * {@link TwoTierCacheManager}, including the AI adjustment cache, are bound by
+ * the manager as they are created.
+ */
+@Component
+public class CacheMetrics implements MeterBinder {
+
+    private final PrincipalCache principalCache;
+
+    public CacheMetrics(PrincipalCache principalCache) {
+        this.principalCache = principalCache;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        lookups(registry, "principals", "local", "hit", principalCache, PrincipalCache::getStats, "hits");
+        lookups(registry, "principals", "none", "miss", principalCache, PrincipalCache::getStats, "misses");
+        Gauge.builder("cache.local.size", principalCache, cache -> stat(cache.getStats(), "size"))
+                .tag("cache", "principals")
+                .register(registry);
+    }
+
+    /**
+     * Counters for a Caffeine-in-front-of-Redis cache whose stats carry localHits, redisHits, misses and localSize
+     */
+    static <T> void bindTiered(MeterRegistry registry, String cache, T source, Function<T, Map<String, Object>> stats) {
+        lookups(registry, cache, "local", "hit", source, stats, "localHits");
+        lookups(registry, cache, "redis", "hit", source, stats, "redisHits");
+        lookups(registry, cache, "none", "miss", source, stats, "misses");
+        Gauge.builder("cache.local.size", source, s -> stat(stats.apply(s), "localSize"))
+                .tag("cache", cache)
+                .register(registry);
+    }
+
+    private static <T> void lookups(MeterRegistry registry, String cache, String tier, String result,
+                                    T source, Function<T, Map<String, Object>> stats, String key) {
+        FunctionCounter.builder("cache.lookups", source, s -> stat(stats.apply(s), key))
+                .description("Cache lookups by the tier that answered them")
+                .tag("cache", cache)
+                .tag("tier", tier)
+                .tag("result", result)
+                .register(registry);
+    }
+
+    private static double stat(Map<String, Object> stats, String key) {
+        Object value = stats.get(key);
+        return value instanceof Number ? ((Number) value).doubleValue() : 0.0;
+    }
+}
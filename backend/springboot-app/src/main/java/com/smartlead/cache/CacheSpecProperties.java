@@ -0,0 +1,46 @@
+package com.smartlead.cache;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Per-cache sizing for {@link TwoTierCacheManager}: {@code lead.cache.specs.<name>.*}
+ * overrides {@code lead.cache.defaults.*} for caches with that name.
+ */
+@ConfigurationProperties(prefix = "lead.cache")
+public class CacheSpecProperties {
+
+    private CacheSpec defaults = new CacheSpec();
+    private Map<String, CacheSpec> specs = new HashMap<>();
+
+    public CacheSpec specFor(String cacheName) {
+        return specs.getOrDefault(cacheName, defaults);
+    }
+
+    public CacheSpec getDefaults() { return defaults; }
+    public void setDefaults(CacheSpec defaults) { this.defaults = defaults; }
+
+    public Map<String, CacheSpec> getSpecs() { return specs; }
+    public void setSpecs(Map<String, CacheSpec> specs) { this.specs = specs; }
+
+    public static class CacheSpec {
+        // Entries held in the in-process tier
+        private long maxSize = 1000;
+        // Time to live in both tiers
+        private Duration ttl = Duration.ofMinutes(10);
+        // Whether the cache also uses Redis (requires a codec for the cache's values)
+        private boolean redisEnabled = true;
+
+        public long getMaxSize() { return maxSize; }
+        public void setMaxSize(long maxSize) { this.maxSize = maxSize; }
+
+        public Duration getTtl() { return ttl; }
+        public void setTtl(Duration ttl) { this.ttl = ttl; }
+
+        public boolean isRedisEnabled() { return redisEnabled; }
+        public void setRedisEnabled(boolean redisEnabled) { this.redisEnabled = redisEnabled; }
+    }
+}
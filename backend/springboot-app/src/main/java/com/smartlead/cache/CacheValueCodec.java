@@ -0,0 +1,17 @@
+package com.smartlead.cache;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * Explicit binary format for the values of one cache in Redis. Writing only
+ * the fields readers need keeps entries small and avoids JDK serialization of
+ * entity graphs; bump the format version when the layout changes.
+ */
+public interface CacheValueCodec<T> {
+
+    void write(T value, DataOutput out) throws IOException;
+
+    T read(DataInput in) throws IOException;
+}
@@ -0,0 +1,138 @@
+package com.smartlead.cache;
+
+import com.smartlead.entity.Tenant;
+import com.smartlead.entity.User;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Cluster-wide eviction for the Hibernate second-level cache. Each node's
+ * regions are local Caffeine caches, which Hibernate keeps current for writes
+ * made on that node only; after a Tenant or User write commits, the change is
+ * published on {@link #CHANNEL} and every node evicts the row (and, for
+ * tenants, the cached tenant lookups, which may now miss or match a new row).
+ */
+@Component
+public class L2CacheInvalidator implements MessageListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(L2CacheInvalidator.class);
+
+    public static final String CHANNEL = "l2-cache:invalidations";
+    // Region names are configured in application.conf
+    public static final String TENANTS_REGION = "tenants";
+    public static final String USERS_REGION = "users";
+    public static final String TENANT_LOOKUPS_REGION = "tenant-lookups";
+
+    private final SessionFactory sessionFactory;
+    private final StringRedisTemplate redisTemplate;
+
+    private final AtomicLong published = new AtomicLong();
+    private final AtomicLong received = new AtomicLong();
+
+    @Autowired
+    public L2CacheInvalidator(EntityManagerFactory entityManagerFactory, StringRedisTemplate redisTemplate) {
+        this.sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        this.redisTemplate = redisTemplate;
+    }
+
+    /**
+     * Evict the entity on every node once the current transaction commits (right away outside one)
+     */
+    public void evictAfterCommit(Class<?> entityClass, Object id) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict(entityClass, id);
+                }
+            });
+        } else {
+            evict(entityClass, id);
+        }
+    }
+
+    public void evict(Class<?> entityClass, Object id) {
+        evictLocal(entityClass.getName(), id.toString());
+        try {
+            redisTemplate.convertAndSend(CHANNEL, entityClass.getName() + ":" + id);
+            published.incrementAndGet();
+        } catch (Exception e) {
+            // Other nodes serve the old row until their region entry expires
+            logger.warn("L2 cache eviction via Redis failed for {} {}: {}", entityClass.getSimpleName(), id, e.getMessage());
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.lastIndexOf(':');
+        if (separator < 0) {
+            logger.warn("Ignoring malformed L2 cache invalidation '{}'", body);
+            return;
+        }
+        received.incrementAndGet();
+        evictLocal(body.substring(0, separator), body.substring(separator + 1));
+    }
+
+    private void evictLocal(String entityName, String id) {
+        try {
+            if (entityName.equals(Tenant.class.getName())) {
+                sessionFactory.getCache().evictEntityData(Tenant.class, Long.valueOf(id));
+                sessionFactory.getCache().evictQueryRegion(TENANT_LOOKUPS_REGION);
+            } else if (entityName.equals(User.class.getName())) {
+                sessionFactory.getCache().evictEntityData(User.class, Long.valueOf(id));
+            }
+        } catch (RuntimeException e) {
+            logger.warn("Ignoring L2 cache invalidation for {} {}: {}", entityName, id, e.getMessage());
+        }
+    }
+
+    /**
+     * Hits, misses and hit ratio per region, plus eviction message counts
+     */
+    public Map<String, Object> getStats() {
+        Statistics statistics = sessionFactory.getStatistics();
+        Map<String, Object> regions = new LinkedHashMap<>();
+        regions.put(TENANTS_REGION, regionStats(statistics.getDomainDataRegionStatistics(TENANTS_REGION)));
+        regions.put(USERS_REGION, regionStats(statistics.getDomainDataRegionStatistics(USERS_REGION)));
+        regions.put(TENANT_LOOKUPS_REGION, regionStats(statistics.getQueryRegionStatistics(TENANT_LOOKUPS_REGION)));
+
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("statisticsEnabled", statistics.isStatisticsEnabled());
+        stats.put("regions", regions);
+        stats.put("queryCacheHits", statistics.getQueryCacheHitCount());
+        stats.put("queryCacheMisses", statistics.getQueryCacheMissCount());
+        stats.put("evictionsPublished", published.get());
+        stats.put("evictionsReceived", received.get());
+        return stats;
+    }
+
+    private static Map<String, Object> regionStats(CacheRegionStatistics region) {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        if (region == null) return stats;
+        long hits = region.getHitCount();
+        long misses = region.getMissCount();
+        stats.put("hits", hits);
+        stats.put("misses", misses);
+        stats.put("puts", region.getPutCount());
+        stats.put("hitRatio", hits + misses == 0 ? 0.0 : (double) hits / (hits + misses));
+        stats.put("size", region.getElementCountInMemory());
+        return stats;
+    }
+}
@@ -0,0 +1,35 @@
+package com.smartlead.cache;
+
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.hibernate.Hibernate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+
+/**
+ * Evicts second-level cached reference data (Tenant, User) on every node when
+ * a row is inserted, changed or deleted. Inserts matter for tenants: another
+ * node may hold a cached "no such tenant" lookup result. Beans are looked up
+ * lazily, as in {@link com.smartlead.security.UserChangeListener}.
+ */
+public class ReferenceDataChangeListener {
+
+    @Autowired
+    private ObjectProvider<L2CacheInvalidator> invalidator;
+
+    @Autowired
+    private ObjectProvider<EntityManagerFactory> entityManagerFactory;
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void changed(Object entity) {
+        L2CacheInvalidator cache = invalidator.getIfAvailable();
+        EntityManagerFactory factory = entityManagerFactory.getIfAvailable();
+        if (cache != null && factory != null) {
+            cache.evictAfterCommit(Hibernate.getClass(entity), factory.getPersistenceUnitUtil().getIdentifier(entity));
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.smartlead.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * Node-local cache of lead query results keyed by tenant, tenant version and query.
+ * The version is the tenant's durable lead version (the VERSION row of
+ * tenant_lead_stats, bumped in every lead write transaction), read by the caller
+ * once per request, so a committed write makes older entries unreachable on every
+ * node at once. Writes are also broadcast on {@link #CHANNEL} so nodes drop the
+ * unreachable entries right away instead of waiting for them to expire; a lost
+ * message only costs memory. Concurrent misses for the same key share one load.
+ */
+@Component
+public class TenantLeadCache implements MessageListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(TenantLeadCache.class);
+
+    public static final String CHANNEL = "lead-cache:invalidations";
+
+    private final StringRedisTemplate redisTemplate;
+    private final Cache<String, Object> entries;
+    private final ConcurrentMap<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+    @Autowired
+    public TenantLeadCache(StringRedisTemplate redisTemplate,
+                           @Value("${lead.cache.tenant-leads.max-size:10000}") long maxSize,
+                           @Value("${lead.cache.tenant-leads.ttl:5m}") Duration ttl) {
+        this.redisTemplate = redisTemplate;
+        this.entries = Caffeine.newBuilder().maximumSize(maxSize).expireAfterWrite(ttl).build();
+    }
+
+    /**
+     * Cached result of {@code query} for the given tenant version, loading it
+     * at most once per node however many requests miss at the same time
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(Long tenantId, long version, String query, Supplier<T> loader) {
+        String key = tenantId + ":" + version + ":" + query;
+        Object cached = entries.getIfPresent(key);
+        if (cached != null) return (T) cached;
+
+        CompletableFuture<Object> load = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(key, load);
+        if (existing != null) {
+            return (T) existing.join();
+        }
+
+        try {
+            T value = loader.get();
+            entries.put(key, value);
+            load.complete(value);
+            return value;
+        } catch (RuntimeException e) {
+            load.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, load);
+        }
+    }
+
+    /**
+     * Drop the tenant's entries once the current transaction commits (right away outside one)
+     */
+    public void invalidateAfterCommit(Long tenantId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidate(tenantId);
+                }
+            });
+        } else {
+            invalidate(tenantId);
+        }
+    }
+
+    /**
+     * Drop the tenant's entries here and tell the other nodes to do the same
+     */
+    public void invalidate(Long tenantId) {
+        dropEntries(tenantId);
+        try {
+            redisTemplate.convertAndSend(CHANNEL, tenantId.toString());
+        } catch (Exception e) {
+            // Their entries are already unreachable under the new version and expire with the TTL
+            logger.warn("Lead cache invalidation via Redis failed for tenant {}: {}", tenantId, e.getMessage());
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        try {
+            dropEntries(Long.valueOf(body));
+        } catch (RuntimeException e) {
+            logger.warn("Ignoring malformed lead cache invalidation '{}'", body);
+        }
+    }
+
+    // Entries of older versions are unreachable anyway; dropping them frees memory right away
+    private void dropEntries(Long tenantId) {
+        String prefix = tenantId + ":";
+        entries.asMap().keySet().removeIf(key -> key.startsWith(prefix));
+    }
+}
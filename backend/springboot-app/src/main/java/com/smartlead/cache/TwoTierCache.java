@@ -0,0 +1,261 @@
+package com.smartlead.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+import org.springframework.cache.support.NullValue;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Spring cache with a bounded Caffeine tier in front of Redis. Reads try the
+ * local tier, then Redis (promoting hits), then the loader; concurrent misses
+ * for a key on one node share a single load. Redis is optional per cache and
+ * any Redis failure degrades to local-only caching. Writes and evictions are
+ * broadcast so other nodes drop their local copy of the key.
+ */
+public class TwoTierCache extends AbstractValueAdaptingCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(TwoTierCache.class);
+
+    private static final byte NULL_MARKER = 0;
+    private static final byte VALUE_MARKER = 1;
+
+    private final String name;
+    private final Cache<String, Object> local;
+    private final RedisTemplate<String, byte[]> redisTemplate;
+    private final CacheValueCodec<Object> codec;
+    private final Duration ttl;
+    private final String redisPrefix;
+    private final Consumer<String> evictionBroadcast;
+
+    private final AtomicLong localHits = new AtomicLong();
+    private final AtomicLong redisHits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong loads = new AtomicLong();
+    private final AtomicLong loadFailures = new AtomicLong();
+    private final AtomicLong loadNanos = new AtomicLong();
+    private final AtomicLong redisErrors = new AtomicLong();
+
+    /**
+     * @param redisTemplate null for a local-only cache
+     * @param evictionBroadcast called with the key (null for a clear) after local writes and evictions
+     */
+    @SuppressWarnings("unchecked")
+    public TwoTierCache(String name, CacheSpecProperties.CacheSpec spec, RedisTemplate<String, byte[]> redisTemplate,
+                        CacheValueCodec<?> codec, Consumer<String> evictionBroadcast) {
+        super(true);
+        this.name = name;
+        this.ttl = spec.getTtl();
+        this.local = Caffeine.newBuilder()
+                .maximumSize(spec.getMaxSize())
+                .expireAfterWrite(spec.getTtl())
+                .recordStats()
+                .build();
+        this.redisTemplate = codec == null ? null : redisTemplate;
+        this.codec = (CacheValueCodec<Object>) codec;
+        this.redisPrefix = "cache:" + name + ":";
+        this.evictionBroadcast = evictionBroadcast;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return local;
+    }
+
+    @Override
+    protected Object lookup(Object key) {
+        String cacheKey = String.valueOf(key);
+        Object value = local.getIfPresent(cacheKey);
+        if (value != null) {
+            localHits.incrementAndGet();
+            return value;
+        }
+
+        value = readRemote(cacheKey);
+        if (value != null) {
+            redisHits.incrementAndGet();
+            local.put(cacheKey, value);
+            return value;
+        }
+
+        misses.incrementAndGet();
+        return null;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        String cacheKey = String.valueOf(key);
+        boolean[] computed = new boolean[1];
+        Object value = local.get(cacheKey, k -> {
+            computed[0] = true;
+            Object remote = readRemote(k);
+            if (remote != null) {
+                redisHits.incrementAndGet();
+                return remote;
+            }
+            misses.incrementAndGet();
+            Object loaded = load(k, valueLoader);
+            writeRemote(k, loaded);
+            return loaded;
+        });
+        if (!computed[0]) {
+            localHits.incrementAndGet();
+        }
+        return (T) fromStoreValue(value);
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        String cacheKey = String.valueOf(key);
+        Object storeValue = toStoreValue(value);
+        local.put(cacheKey, storeValue);
+        writeRemote(cacheKey, storeValue);
+        evictionBroadcast.accept(cacheKey);
+    }
+
+    @Override
+    public void evict(Object key) {
+        String cacheKey = String.valueOf(key);
+        local.invalidate(cacheKey);
+        if (redisTemplate != null) {
+            try {
+                redisTemplate.delete(redisPrefix + cacheKey);
+            } catch (Exception e) {
+                redisErrors.incrementAndGet();
+                logger.warn("Cache {}: Redis evict failed: {}", name, e.getMessage());
+            }
+        }
+        evictionBroadcast.accept(cacheKey);
+    }
+
+    @Override
+    public void clear() {
+        local.invalidateAll();
+        if (redisTemplate != null) {
+            try {
+                List<String> keys = redisTemplate.execute((RedisCallback<List<String>>) connection -> {
+                    List<String> found = new ArrayList<>();
+                    ScanOptions options = ScanOptions.scanOptions().match(redisPrefix + "*").count(1000).build();
+                    try (Cursor<byte[]> cursor = connection.keyCommands().scan(options)) {
+                        cursor.forEachRemaining(k -> found.add(new String(k, StandardCharsets.UTF_8)));
+                    }
+                    return found;
+                });
+                if (keys != null && !keys.isEmpty()) redisTemplate.delete(keys);
+            } catch (Exception e) {
+                redisErrors.incrementAndGet();
+                logger.warn("Cache {}: Redis clear failed: {}", name, e.getMessage());
+            }
+        }
+        evictionBroadcast.accept(null);
+    }
+
+    /**
+     * Drop a key (or everything, for a null key) from the local tier only; used
+     * when another node wrote or evicted it
+     */
+    void evictLocal(String key) {
+        if (key == null) {
+            local.invalidateAll();
+        } else {
+            local.invalidate(key);
+        }
+    }
+
+    /**
+     * Hit/miss/load counters per tier plus local size and evictions
+     */
+    public Map<String, Object> getStats() {
+        long hits = localHits.get() + redisHits.get();
+        long lookups = hits + misses.get();
+
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("localHits", localHits.get());
+        stats.put("redisHits", redisHits.get());
+        stats.put("misses", misses.get());
+        stats.put("hitRatio", lookups == 0 ? 0.0 : (double) hits / lookups);
+        stats.put("loads", loads.get());
+        stats.put("loadFailures", loadFailures.get());
+        stats.put("averageLoadMs", loads.get() == 0 ? 0.0 : loadNanos.get() / 1_000_000.0 / loads.get());
+        stats.put("localSize", local.estimatedSize());
+        stats.put("localEvictions", local.stats().evictionCount());
+        stats.put("redisEnabled", redisTemplate != null);
+        stats.put("redisErrors", redisErrors.get());
+        return stats;
+    }
+
+    private Object load(String key, Callable<?> valueLoader) {
+        long started = System.nanoTime();
+        try {
+            Object value = toStoreValue(valueLoader.call());
+            loads.incrementAndGet();
+            return value;
+        } catch (Exception e) {
+            loadFailures.incrementAndGet();
+            throw new ValueRetrievalException(key, valueLoader, e);
+        } finally {
+            loadNanos.addAndGet(System.nanoTime() - started);
+        }
+    }
+
+    private Object readRemote(String key) {
+        if (redisTemplate == null) return null;
+
+        try {
+            byte[] bytes = redisTemplate.opsForValue().get(redisPrefix + key);
+            if (bytes == null) return null;
+            DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes));
+            return in.readByte() == NULL_MARKER ? NullValue.INSTANCE : codec.read(in);
+        } catch (Exception e) {
+            redisErrors.incrementAndGet();
+            logger.warn("Cache {}: Redis read failed: {}", name, e.getMessage());
+            return null;
+        }
+    }
+
+    private void writeRemote(String key, Object storeValue) {
+        if (redisTemplate == null) return;
+
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+            DataOutputStream out = new DataOutputStream(bytes);
+            if (storeValue == NullValue.INSTANCE) {
+                out.writeByte(NULL_MARKER);
+            } else {
+                out.writeByte(VALUE_MARKER);
+                codec.write(storeValue, out);
+            }
+            out.flush();
+            redisTemplate.opsForValue().set(redisPrefix + key, bytes.toByteArray(), ttl);
+        } catch (IOException | RuntimeException e) {
+            redisErrors.incrementAndGet();
+            logger.warn("Cache {}: Redis write failed: {}", name, e.getMessage());
+        }
+    }
+}
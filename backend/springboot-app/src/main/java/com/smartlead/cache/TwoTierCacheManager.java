@@ -0,0 +1,114 @@
+package com.smartlead.cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Creates {@link TwoTierCache}s on demand, sized per cache from
+ * {@link CacheSpecProperties}. Caches get a Redis tier only when Redis is
+ * enabled for them and a {@link CacheValueCodec} is registered for their
+ * values. Also relays local-tier evictions between nodes over
+ * {@link #EVICTION_CHANNEL}. Once bound to a meter registry, every cache
+ * publishes its lookup counters through {@link CacheMetrics}.
+ */
+public class TwoTierCacheManager implements CacheManager, MessageListener, MeterBinder {
+
+    private static final Logger logger = LoggerFactory.getLogger(TwoTierCacheManager.class);
+
+    public static final String EVICTION_CHANNEL = "cache:evictions";
+    private static final String CLEAR = "*";
+
+    private final CacheSpecProperties properties;
+    private final RedisTemplate<String, byte[]> redisTemplate;
+    private final StringRedisTemplate messageTemplate;
+    private final Map<String, CacheValueCodec<?>> codecs;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final ConcurrentMap<String, TwoTierCache> caches = new ConcurrentHashMap<>();
+    private volatile MeterRegistry meterRegistry;
+
+    public TwoTierCacheManager(CacheSpecProperties properties, RedisTemplate<String, byte[]> redisTemplate,
+                               StringRedisTemplate messageTemplate, Map<String, CacheValueCodec<?>> codecs) {
+        this.properties = properties;
+        this.redisTemplate = redisTemplate;
+        this.messageTemplate = messageTemplate;
+        this.codecs = codecs;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        return caches.computeIfAbsent(name, this::createCache);
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return Collections.unmodifiableSet(caches.keySet());
+    }
+
+    /**
+     * Stats of every cache created so far, by name
+     */
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        new TreeMap<>(caches).forEach((name, cache) -> stats.put(name, cache.getStats()));
+        return stats;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        this.meterRegistry = registry;
+        // Caches created from here on bind themselves in createCache; binding one twice is harmless
+        caches.forEach((name, cache) -> CacheMetrics.bindTiered(registry, name, cache, TwoTierCache::getStats));
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        // nodeId|cacheName|key, with key "*" for a clear
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split("\\|", 3);
+        if (parts.length != 3 || nodeId.equals(parts[0])) return;
+
+        TwoTierCache cache = caches.get(parts[1]);
+        if (cache != null) {
+            cache.evictLocal(CLEAR.equals(parts[2]) ? null : parts[2]);
+        }
+    }
+
+    private TwoTierCache createCache(String name) {
+        CacheSpecProperties.CacheSpec spec = properties.specFor(name);
+        CacheValueCodec<?> codec = spec.isRedisEnabled() ? codecs.get(name) : null;
+        if (spec.isRedisEnabled() && codec == null) {
+            logger.info("Cache {} has no value codec and stays local-only", name);
+        }
+        TwoTierCache cache = new TwoTierCache(name, spec, redisTemplate, codec, key -> broadcastEviction(name, key));
+        MeterRegistry registry = meterRegistry;
+        if (registry != null) {
+            CacheMetrics.bindTiered(registry, name, cache, TwoTierCache::getStats);
+        }
+        return cache;
+    }
+
+    private void broadcastEviction(String cacheName, String key) {
+        try {
+            messageTemplate.convertAndSend(EVICTION_CHANNEL, nodeId + "|" + cacheName + "|" + (key == null ? CLEAR : key));
+        } catch (Exception e) {
+            logger.warn("Cache {}: eviction broadcast failed: {}", cacheName, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.smartlead.controller;
+
+import com.smartlead.cache.L2CacheInvalidator;
+import com.smartlead.cache.TwoTierCacheManager;
+import com.smartlead.security.PrincipalCache;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/cache")
+@CrossOrigin(origins = "http://localhost:3000")
+public class CacheController {
+
+    @Autowired
+    private TwoTierCacheManager cacheManager;
+
+    @Autowired
+    private PrincipalCache principalCache;
+
+    @Autowired
+    private L2CacheInvalidator l2CacheInvalidator;
+
+    @GetMapping("/stats")
+    public ResponseEntity<Map<String, Object>> getCacheStats() {
+        return ResponseEntity.ok(cacheManager.getStats());
+    }
+
+    /**
+     * Principal cache counters; databaseLookups next to hits shows how often authentication touched the users table
+     */
+    @GetMapping("/principals")
+    public ResponseEntity<Map<String, Object>> getPrincipalCacheStats() {
+        return ResponseEntity.ok(principalCache.getStats());
+    }
+
+    /**
+     * Hibernate second-level cache hit ratios for the Tenant and User regions and the tenant lookups
+     */
+    @GetMapping("/l2")
+    public ResponseEntity<Map<String, Object>> getL2CacheStats() {
+        return ResponseEntity.ok(l2CacheInvalidator.getStats());
+    }
+}
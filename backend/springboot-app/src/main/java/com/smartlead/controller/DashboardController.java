@@ -0,0 +1,42 @@
+package com.smartlead.controller;
+
+import com.smartlead.entity.User;
+import com.smartlead.service.DashboardService;
+import com.smartlead.service.LeadStatsRebuilder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/dashboard")
+@CrossOrigin(origins = "http://localhost:3000")
+public class DashboardController {
+
+    @Autowired
+    private DashboardService dashboardService;
+
+    @Autowired
+    private LeadStatsRebuilder leadStatsRebuilder;
+
+    @GetMapping("/stats")
+    public ResponseEntity<Map<String, Object>> getDashboardStats(@AuthenticationPrincipal User user) {
+        return ResponseEntity.ok(dashboardService.getDashboardStats(user.getTenant().getId()));
+    }
+
+    // Rebuild endpoints span every tenant; ADMIN only (see SecurityConfig)
+    @GetMapping("/stats/rebuild")
+    public ResponseEntity<Map<String, Object>> getStatsRebuild() {
+        return ResponseEntity.ok(leadStatsRebuilder.getLastReport());
+    }
+
+    /**
+     * Start a rebuild of all tenants in the background; poll the GET for its report
+     */
+    @PostMapping("/stats/rebuild")
+    public ResponseEntity<Map<String, Object>> rebuildStats() {
+        boolean started = leadStatsRebuilder.rebuildInBackground();
+        return ResponseEntity.accepted().body(Map.of("started", started));
+    }
+}
@@ -3,31 +3,136 @@ package com.smartlead.controller;
 
 import com.smartlead.dto.LeadDto;
 import com.smartlead.dto.CreateLeadRequest;
+import com.smartlead.dto.CursorPage;
+import com.smartlead.dto.LeadCursor;
+import com.smartlead.service.LeadExportService;
+import com.smartlead.service.LeadSearchService;
 import com.smartlead.service.LeadService;
 import com.smartlead.entity.Lead;
 import com.smartlead.entity.User;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.zip.GZIPOutputStream;
 
 @RestController
 @RequestMapping("/api/leads")
-@CrossOrigin(origins = "http://localhost:3000")
+@CrossOrigin(origins = "http://localhost:3000", exposedHeaders = {LeadController.NEXT_CURSOR_HEADER, HttpHeaders.ETAG})
 public class LeadController {
     
+    static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    
+    // Per-user data: the browser may keep it but must revalidate, shared caches must not store it
+    private static final CacheControl LEAD_CACHE_CONTROL = CacheControl.noCache().cachePrivate();
+    
     @Autowired
     private LeadService leadService;
     
+    @Autowired
+    private LeadExportService leadExportService;
+    
+    @Autowired
+    private LeadSearchService leadSearchService;
+    
+    /**
+     * Keyset-paginated leads of the caller's tenant. Pass the X-Next-Cursor
+     * response header back as {@code cursor} for the next page; it is absent
+     * on the last page. Answers 304 to an If-None-Match naming the current
+     * ETag without reading any leads; no ETag is sent when the tenant's lead
+     * version cannot be read.
+     */
     @GetMapping
-    public ResponseEntity<List<LeadDto>> getLeads(@AuthenticationPrincipal User user) {
-        List<Lead> leads = leadService.getLeadsByTenant(user.getTenant().getId());
-        List<LeadDto> leadDtos = leads.stream()
-                .map(this::convertToDto)
-                .collect(Collectors.toList());
-        return ResponseEntity.ok(leadDtos);
+    public ResponseEntity<List<LeadDto>> getLeads(@AuthenticationPrincipal User user,
+                                                  @RequestParam(defaultValue = "createdAt") String sort,
+                                                  @RequestParam(required = false) String cursor,
+                                                  @RequestParam(required = false) Integer limit,
+                                                  @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        Long tenantId = user.getTenant().getId();
+        // Taken before the read, so a write racing it can only make the ETag older than the body, never newer
+        OptionalLong version = leadService.getLeadListVersion(tenantId);
+        String etag = version.isPresent() ? leadService.getLeadListETag(tenantId, version.getAsLong()) : null;
+        if (etag != null && matchesAny(ifNoneMatch, etag)) {
+            return notModified(etag);
+        }
+        
+        CursorPage<LeadDto> page;
+        try {
+            page = leadService.getLeadPage(tenantId, version, LeadCursor.Sort.fromParam(sort), cursor, limit);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+        
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok().cacheControl(LEAD_CACHE_CONTROL);
+        if (etag != null) {
+            response.eTag(etag);
+        }
+        if (page.getNextCursor() != null) {
+            response.header(NEXT_CURSOR_HEADER, page.getNextCursor());
+        }
+        return response.body(page.getItems());
+    }
+    
+    /**
+     * Stream every lead of the caller's tenant as NDJSON or CSV, optionally
+     * gzipped and restricted to a comma-separated list of fields
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportLeads(@AuthenticationPrincipal User user,
+                                                             @RequestParam(defaultValue = "ndjson") String format,
+                                                             @RequestParam(required = false) String fields,
+                                                             @RequestParam(defaultValue = "false") boolean gzip) {
+        LeadExportService.Format exportFormat;
+        List<LeadExportService.Field> exportFields;
+        try {
+            exportFormat = LeadExportService.Format.fromParam(format);
+            exportFields = LeadExportService.Field.fromParams(fields);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+        
+        Long tenantId = user.getTenant().getId();
+        String filename = "leads-" + tenantId + "." + exportFormat.getExtension() + (gzip ? ".gz" : "");
+        StreamingResponseBody body = out -> {
+            if (gzip) {
+                GZIPOutputStream compressed = new GZIPOutputStream(out, 64 * 1024);
+                leadExportService.export(tenantId, exportFormat, exportFields, compressed);
+                compressed.finish();
+            } else {
+                leadExportService.export(tenantId, exportFormat, exportFields, out);
+            }
+        };
+        
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + filename + "\"")
+                .contentType(MediaType.parseMediaType(gzip ? "application/gzip" : exportFormat.getContentType()))
+                .body(body);
+    }
+    
+    /**
+     * Leads of the caller's tenant matching {@code q} by name, email or company,
+     * tolerating typos; best matches first
+     */
+    @GetMapping("/search")
+    public ResponseEntity<List<LeadDto>> searchLeads(@AuthenticationPrincipal User user,
+                                                     @RequestParam String q,
+                                                     @RequestParam(required = false) Integer limit) {
+        try {
+            return ResponseEntity.ok(leadSearchService.search(user.getTenant().getId(), q, limit));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
     }
     
     @PostMapping
@@ -45,10 +150,27 @@ public class LeadController {
         return ResponseEntity.ok(convertToDto(lead));
     }
     
+    /**
+     * One lead of the caller's tenant; 304 to an If-None-Match naming the
+     * lead's current ETag
+     */
     @GetMapping("/{id}")
-    public ResponseEntity<LeadDto> getLead(@PathVariable Long id) {
-        return leadService.getLeadById(id)
-                .map(lead -> ResponseEntity.ok(convertToDto(lead)))
+    public ResponseEntity<LeadDto> getLead(@AuthenticationPrincipal User user, @PathVariable Long id,
+                                           @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        Long tenantId = user.getTenant().getId();
+        Optional<String> etag = leadService.getLeadETag(tenantId, id);
+        if (etag.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        if (matchesAny(ifNoneMatch, etag.get())) {
+            return notModified(etag.get());
+        }
+        
+        return leadService.getLeadDto(tenantId, id)
+                .map(dto -> ResponseEntity.ok()
+                        .eTag(etag.get())
+                        .cacheControl(LEAD_CACHE_CONTROL)
+                        .body(dto))
                 .orElse(ResponseEntity.notFound().build());
     }
     
@@ -58,8 +180,13 @@ public class LeadController {
         return leadService.getLeadById(id)
                 .map(lead -> {
                     updateLeadFromDto(lead, leadDto);
-                    Lead updatedLead = leadService.updateLead(lead);
-                    return ResponseEntity.ok(convertToDto(updatedLead));
+                    try {
+                        Lead updatedLead = leadService.updateLead(lead);
+                        return ResponseEntity.ok(convertToDto(updatedLead));
+                    } catch (OptimisticLockingFailureException e) {
+                        // Rescored or edited since it was read; the client reloads and retries
+                        return ResponseEntity.status(HttpStatus.CONFLICT).<LeadDto>build();
+                    }
                 })
                 .orElse(ResponseEntity.notFound().build());
     }
@@ -70,7 +197,24 @@ public class LeadController {
         return ResponseEntity.ok().build();
     }
     
-    private LeadDto convertToDto(Lead lead) {
+    private static <T> ResponseEntity<T> notModified(String etag) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(LEAD_CACHE_CONTROL).build();
+    }
+    
+    /**
+     * If-None-Match uses the weak comparison, so a W/ prefix the client or a proxy added is ignored
+     */
+    static boolean matchesAny(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) return false;
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.startsWith("W/")) tag = tag.substring(2);
+            if (tag.equals("*") || tag.equals(etag)) return true;
+        }
+        return false;
+    }
+    
+    LeadDto convertToDto(Lead lead) {
         LeadDto dto = new LeadDto();
         dto.setId(lead.getId());
         dto.setFirstName(lead.getFirstName());
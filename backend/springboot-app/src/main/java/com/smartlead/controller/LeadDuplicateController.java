@@ -0,0 +1,49 @@
+package com.smartlead.controller;
+
+import com.smartlead.entity.User;
+import com.smartlead.service.LeadDedupService;
+import com.smartlead.service.LeadService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+import java.util.List;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/leads/duplicates")
+@CrossOrigin(origins = "http://localhost:3000")
+public class LeadDuplicateController {
+
+    @Autowired
+    private LeadDedupService leadDedupService;
+
+    @Autowired
+    private LeadService leadService;
+
+    @GetMapping
+    public ResponseEntity<List<Map<String, Object>>> getOpenSuggestions(
+            @AuthenticationPrincipal User user,
+            @RequestParam(defaultValue = "50") int limit) {
+        List<Map<String, Object>> suggestions = leadDedupService
+            .getOpenSuggestions(user.getTenant().getId(), Math.max(1, Math.min(limit, 200)))
+            .stream().map(leadDedupService::toMap).toList();
+        return ResponseEntity.ok(suggestions);
+    }
+
+    @PostMapping("/{id}/merge")
+    public ResponseEntity<Void> merge(@AuthenticationPrincipal User user, @PathVariable Long id) {
+        if (!leadService.mergeDuplicate(user.getTenant().getId(), id)) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok().build();
+    }
+
+    @PostMapping("/{id}/dismiss")
+    public ResponseEntity<Void> dismiss(@AuthenticationPrincipal User user, @PathVariable Long id) {
+        if (!leadDedupService.dismiss(id, user.getTenant().getId())) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok().build();
+    }
+}
@@ -0,0 +1,58 @@
+package com.smartlead.controller;
+
+import com.smartlead.entity.LeadImportJob;
+import com.smartlead.entity.User;
+import com.smartlead.service.LeadImportService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+@RestController
+@RequestMapping("/api/leads/imports")
+@CrossOrigin(origins = "http://localhost:3000")
+public class LeadImportController {
+
+    @Autowired
+    private LeadImportService leadImportService;
+
+    /**
+     * Upload a CSV or NDJSON file of leads; the import runs in the background
+     */
+    @PostMapping(consumes = "multipart/form-data")
+    public ResponseEntity<Map<String, Object>> startImport(@RequestParam("file") MultipartFile file,
+                                                           @RequestParam(required = false) String format,
+                                                           @AuthenticationPrincipal User user) throws IOException {
+        if (file.isEmpty()) {
+            return ResponseEntity.badRequest().build();
+        }
+        try {
+            LeadImportJob job = leadImportService.submit(file, format, user.getTenant().getId());
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(leadImportService.getProgress(job));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @GetMapping
+    public ResponseEntity<List<Map<String, Object>>> getImports(@AuthenticationPrincipal User user) {
+        List<Map<String, Object>> jobs = leadImportService.getRecentJobs(user.getTenant().getId()).stream()
+                .map(leadImportService::getProgress)
+                .collect(Collectors.toList());
+        return ResponseEntity.ok(jobs);
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<Map<String, Object>> getImport(@PathVariable Long id,
+                                                         @AuthenticationPrincipal User user) {
+        return leadImportService.getJob(id, user.getTenant().getId())
+                .map(job -> ResponseEntity.ok(leadImportService.getProgress(job)))
+                .orElse(ResponseEntity.notFound().build());
+    }
+}
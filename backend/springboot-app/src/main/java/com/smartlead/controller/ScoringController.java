@@ -0,0 +1,60 @@
+package com.smartlead.controller;
+
+import com.smartlead.scoring.AIAdjustmentCache;
+import com.smartlead.service.LeadEngagementReconciler;
+import com.smartlead.service.RescoreScheduler;
+import com.smartlead.service.ScoringQueueWorker;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import java.util.Map;
+
+/**
+ * Operational views and triggers for scoring across all tenants; ADMIN only (see SecurityConfig)
+ */
+@RestController
+@RequestMapping("/api/scoring")
+@CrossOrigin(origins = "http://localhost:3000")
+public class ScoringController {
+
+    @Autowired
+    private ScoringQueueWorker scoringQueueWorker;
+
+    @Autowired
+    private AIAdjustmentCache aiAdjustmentCache;
+
+    @Autowired
+    private LeadEngagementReconciler leadEngagementReconciler;
+
+    @Autowired
+    private RescoreScheduler rescoreScheduler;
+
+    @GetMapping("/queue")
+    public ResponseEntity<Map<String, Object>> getQueueStats() {
+        return ResponseEntity.ok(scoringQueueWorker.getStats());
+    }
+
+    @GetMapping("/rescore-schedule")
+    public ResponseEntity<Map<String, Object>> getRescoreSchedule() {
+        return ResponseEntity.ok(rescoreScheduler.getStats());
+    }
+
+    @GetMapping("/ai-cache")
+    public ResponseEntity<Map<String, Object>> getAICacheStats() {
+        return ResponseEntity.ok(aiAdjustmentCache.getStats());
+    }
+
+    @GetMapping("/engagement/reconciliation")
+    public ResponseEntity<Map<String, Object>> getEngagementReconciliation() {
+        return ResponseEntity.ok(leadEngagementReconciler.getLastReport());
+    }
+
+    /**
+     * Start a full reconciliation in the background; poll the GET for its report
+     */
+    @PostMapping("/engagement/reconciliation")
+    public ResponseEntity<Map<String, Object>> reconcileEngagement() {
+        boolean started = leadEngagementReconciler.reconcileInBackground();
+        return ResponseEntity.accepted().body(Map.of("started", started));
+    }
+}
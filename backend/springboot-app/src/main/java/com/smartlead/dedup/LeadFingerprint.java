@@ -0,0 +1,154 @@
+package com.smartlead.dedup;
+
+import com.smartlead.entity.Lead;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Normalized identity of a lead for duplicate detection: exact blocking keys
+ * (email, phone, name plus company) and MinHash/LSH band keys over character
+ * trigrams of name plus company. Two leads whose trigram sets have Jaccard
+ * similarity s share at least one band key with probability
+ * 1 - (1 - s^ROWS)^BANDS, about 0.67 at s = 0.6 and 0.95 at s = 0.75, so
+ * fuzzy candidates come from an index lookup instead of a pairwise scan.
+ */
+public final class LeadFingerprint {
+
+    public static final int BANDS = 8;
+    public static final int ROWS = 4;
+
+    public static final String EMAIL = "EMAIL:";
+    public static final String PHONE = "PHONE:";
+    public static final String NAME_COMPANY = "NAMECO:";
+    public static final String BAND = "LSH";
+    public static final int MAX_KEY_LENGTH = 500;
+
+    private static final Set<String> COMPANY_SUFFIXES = Set.of(
+        "inc", "incorporated", "llc", "ltd", "limited", "corp", "corporation", "co", "company", "gmbh", "plc", "sa", "ag");
+
+    private final String email;
+    private final String phone;
+    private final String name;
+    private final String company;
+    private final Set<String> shingles;
+
+    public LeadFingerprint(String firstName, String lastName, String email, String phone, String company) {
+        this.email = normalizeEmail(email);
+        this.phone = normalizePhone(phone);
+        this.name = normalizeWords(Objects.toString(firstName, "") + " " + Objects.toString(lastName, ""));
+        this.company = normalizeCompany(company);
+        // Fuzzy matching compares names: without one, the company alone would pair up all its nameless leads
+        this.shingles = name.isEmpty() ? Set.of() : shingles(this.company == null ? name : name + " " + this.company);
+    }
+
+    public static LeadFingerprint of(Lead lead) {
+        return new LeadFingerprint(lead.getFirstName(), lead.getLastName(), lead.getEmail(), lead.getPhone(),
+                                   lead.getCompany());
+    }
+
+    /**
+     * Exact blocking keys followed by one key per LSH band
+     */
+    public List<String> matchKeys() {
+        List<String> keys = new ArrayList<>(3 + BANDS);
+        if (email != null) keys.add(EMAIL + email);
+        if (phone != null) keys.add(PHONE + phone);
+        if (company != null && !name.isEmpty()) {
+            String key = NAME_COMPANY + name + "|" + company;
+            keys.add(key.length() > MAX_KEY_LENGTH ? key.substring(0, MAX_KEY_LENGTH) : key);
+        }
+        if (!shingles.isEmpty()) {
+            long[] signature = minHash(shingles);
+            for (int band = 0; band < BANDS; band++) {
+                long bandHash = band;
+                for (int row = 0; row < ROWS; row++) {
+                    bandHash = mix(bandHash * 31 + signature[band * ROWS + row]);
+                }
+                keys.add(BAND + band + ":" + Long.toHexString(bandHash));
+            }
+        }
+        return keys;
+    }
+
+    /**
+     * Exact Jaccard similarity of the name plus company trigrams
+     */
+    public double similarity(LeadFingerprint other) {
+        if (shingles.isEmpty() || other.shingles.isEmpty()) return 0.0;
+        int common = 0;
+        for (String shingle : shingles) {
+            if (other.shingles.contains(shingle)) common++;
+        }
+        return (double) common / (shingles.size() + other.shingles.size() - common);
+    }
+
+    // Lower-cased, plus-addressing tag dropped (jane+crm@x.com is jane@x.com)
+    static String normalizeEmail(String email) {
+        if (email == null || email.isBlank()) return null;
+        String normalized = email.trim().toLowerCase(Locale.ROOT);
+        int at = normalized.indexOf('@');
+        int plus = normalized.indexOf('+');
+        if (at > 0 && plus > 0 && plus < at) {
+            normalized = normalized.substring(0, plus) + normalized.substring(at);
+        }
+        return normalized;
+    }
+
+    // Last ten digits, so "+1 (555) 010-2030" and "555.010.2030" agree; too short to be a number is no key
+    static String normalizePhone(String phone) {
+        if (phone == null) return null;
+        String digits = phone.replaceAll("[^0-9]", "");
+        if (digits.length() < 7) return null;
+        return digits.length() > 10 ? digits.substring(digits.length() - 10) : digits;
+    }
+
+    static String normalizeCompany(String company) {
+        if (company == null) return null;
+        StringBuilder normalized = new StringBuilder();
+        for (String word : normalizeWords(company).split(" ")) {
+            if (word.isEmpty() || COMPANY_SUFFIXES.contains(word)) continue;
+            if (normalized.length() > 0) normalized.append(' ');
+            normalized.append(word);
+        }
+        return normalized.length() == 0 ? null : normalized.toString();
+    }
+
+    static String normalizeWords(String text) {
+        return text.toLowerCase(Locale.ROOT).replaceAll("[^\\p{L}\\p{N}]+", " ").trim();
+    }
+
+    private static Set<String> shingles(String text) {
+        Set<String> shingles = new HashSet<>();
+        String padded = " " + text + " ";
+        for (int i = 0; i + 3 <= padded.length(); i++) {
+            shingles.add(padded.substring(i, i + 3));
+        }
+        return shingles;
+    }
+
+    // Hash function i is mix(hash ^ seed_i); the minimum over all shingles is signature entry i
+    private static long[] minHash(Set<String> shingles) {
+        long[] signature = new long[BANDS * ROWS];
+        Arrays.fill(signature, Long.MAX_VALUE);
+        for (String shingle : shingles) {
+            long hash = shingle.hashCode();
+            for (int i = 0; i < signature.length; i++) {
+                long value = mix(hash ^ (0x9E3779B97F4A7C15L * (i + 1)));
+                if (value < signature[i]) signature[i] = value;
+            }
+        }
+        return signature;
+    }
+
+    // SplitMix64 finalizer
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
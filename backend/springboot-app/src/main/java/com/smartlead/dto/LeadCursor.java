@@ -0,0 +1,88 @@
+package com.smartlead.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Position after the last lead of a page for keyset pagination: the sort key
+ * of that lead plus its id as tie-breaker. Clients see it only as an opaque
+ * base64url continuation token.
+ */
+public class LeadCursor {
+
+    public enum Sort {
+        CREATED_AT("createdAt"), SCORE("score");
+
+        private final String param;
+
+        Sort(String param) {
+            this.param = param;
+        }
+
+        public static Sort fromParam(String param) {
+            for (Sort sort : values()) {
+                if (sort.param.equals(param)) return sort;
+            }
+            throw new IllegalArgumentException("Unsupported sort: " + param);
+        }
+    }
+
+    private static final String VERSION = "v1";
+
+    private final Sort sort;
+    private final LocalDateTime createdAt;
+    private final Integer scoreValue;
+    private final Long id;
+
+    private LeadCursor(Sort sort, LocalDateTime createdAt, Integer scoreValue, Long id) {
+        this.sort = sort;
+        this.createdAt = createdAt;
+        this.scoreValue = scoreValue;
+        this.id = id;
+    }
+
+    public static LeadCursor afterCreatedAt(LocalDateTime createdAt, Long id) {
+        return new LeadCursor(Sort.CREATED_AT, createdAt, null, id);
+    }
+
+    public static LeadCursor afterScore(Integer scoreValue, Long id) {
+        return new LeadCursor(Sort.SCORE, null, scoreValue, id);
+    }
+
+    public String encode() {
+        String key = sort == Sort.CREATED_AT ? createdAt.toString() : scoreValue.toString();
+        String raw = VERSION + "|" + sort.name() + "|" + key + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Parse a token produced by {@link #encode()}; rejects tampered tokens and tokens of another sort
+     */
+    public static LeadCursor decode(String token, Sort expectedSort) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|");
+            if (parts.length != 4 || !VERSION.equals(parts[0])) {
+                throw new IllegalArgumentException("Malformed cursor");
+            }
+            Sort sort = Sort.valueOf(parts[1]);
+            if (sort != expectedSort) {
+                throw new IllegalArgumentException("Cursor was issued for sort " + sort.param);
+            }
+            Long id = Long.valueOf(parts[3]);
+            return sort == Sort.CREATED_AT
+                ? afterCreatedAt(LocalDateTime.parse(parts[2]), id)
+                : afterScore(Integer.valueOf(parts[2]), id);
+        } catch (DateTimeParseException e) {
+            // IllegalArgumentException covers bad base64, unknown sorts and NumberFormatException
+            throw new IllegalArgumentException("Malformed cursor", e);
+        }
+    }
+
+    public Sort getSort() { return sort; }
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public Integer getScoreValue() { return scoreValue; }
+    public Long getId() { return id; }
+}
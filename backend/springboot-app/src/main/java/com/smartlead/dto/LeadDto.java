@@ -1,6 +1,8 @@
 // src/main/java/com/smartlead/dto/LeadDto.java
 package com.smartlead.dto;
 
+import com.smartlead.entity.Lead.LeadScore;
+import com.smartlead.entity.Lead.LeadStatus;
 import java.time.LocalDateTime;
 
 public class LeadDto {
@@ -20,6 +22,24 @@ public class LeadDto {
    
     public LeadDto() {}
     
+    // Constructor expression target for list and detail queries (LeadRepository.LEAD_DTO)
+    public LeadDto(Long id, String firstName, String lastName, String email, String phone, String company,
+                   String jobTitle, LeadStatus status, LeadScore score, Integer scoreValue,
+                   LocalDateTime createdAt, LocalDateTime lastContactedAt) {
+        this.id = id;
+        this.firstName = firstName;
+        this.lastName = lastName;
+        this.email = email;
+        this.phone = phone;
+        this.company = company;
+        this.jobTitle = jobTitle;
+        this.status = status == null ? null : status.name();
+        this.score = score == null ? null : score.name();
+        this.scoreValue = scoreValue;
+        this.createdAt = createdAt;
+        this.lastContactedAt = lastContactedAt;
+    }
+    
     
     public Long getId() { return id; }
     public void setId(Long id) { this.id = id; }
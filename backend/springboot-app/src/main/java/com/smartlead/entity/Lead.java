@@ -2,11 +2,16 @@
 package com.smartlead.entity;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.ColumnDefault;
 import java.time.LocalDateTime;
 import java.util.List;
 
 @Entity
-@Table(name = "leads")
+@Table(name = "leads", indexes = {
+    // Keyset pagination: tenant filter plus sort key plus id tie-breaker, scanned backwards for DESC
+    @Index(name = "idx_leads_tenant_created_id", columnList = "tenant_id, created_at, id"),
+    @Index(name = "idx_leads_tenant_score_id", columnList = "tenant_id, score_value, id")
+})
 public class Lead {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -24,6 +29,16 @@ public class Lead {
     private String phone;
     private String company;
     private String jobTitle;
+    private String source;
+    private String linkedinUrl;
+    private String website;
+    
+    // Scoring inputs: BANT budget and timeline, free-text need for the rules and the OpenAI prompt
+    private Integer estimatedBudget;
+    private LocalDateTime expectedCloseDate;
+    
+    @Column(length = 1000)
+    private String notes;
     
     @Enumerated(EnumType.STRING)
     private LeadStatus status;
@@ -38,7 +53,8 @@ public class Lead {
     @JoinColumn(name = "tenant_id")
     private Tenant tenant;
     
-    @ManyToOne
+    // Not shown by any lead view; loaded only when navigated
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "assigned_to")
     private User assignedTo;
     
@@ -47,6 +63,19 @@ public class Lead {
     
     private LocalDateTime lastContactedAt;
     
+    // Set when the lead moves to CONVERTED; monthly conversion stats are bucketed by it
+    private LocalDateTime convertedAt;
+    
+    // Bumped by every write to the row (bulk score updates bump it themselves); the detail ETag is built from it
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long version;
+    
+    // Status as last read from or written to the database, so updates can report the transition
+    @Transient
+    private LeadStatus persistedStatus;
+    
     @OneToMany(mappedBy = "lead", cascade = CascadeType.ALL)
     private List<Interaction> interactions;
     
@@ -98,6 +127,30 @@ public class Lead {
     public String getJobTitle() { return jobTitle; }
     public void setJobTitle(String jobTitle) { this.jobTitle = jobTitle; }
     
+    // Full name as rendered into the scoring prompt; not a column
+    public String getName() {
+        if (firstName == null) return lastName;
+        return lastName == null ? firstName : firstName + " " + lastName;
+    }
+    
+    public String getSource() { return source; }
+    public void setSource(String source) { this.source = source; }
+    
+    public String getLinkedinUrl() { return linkedinUrl; }
+    public void setLinkedinUrl(String linkedinUrl) { this.linkedinUrl = linkedinUrl; }
+    
+    public String getWebsite() { return website; }
+    public void setWebsite(String website) { this.website = website; }
+    
+    public Integer getEstimatedBudget() { return estimatedBudget; }
+    public void setEstimatedBudget(Integer estimatedBudget) { this.estimatedBudget = estimatedBudget; }
+    
+    public LocalDateTime getExpectedCloseDate() { return expectedCloseDate; }
+    public void setExpectedCloseDate(LocalDateTime expectedCloseDate) { this.expectedCloseDate = expectedCloseDate; }
+    
+    public String getNotes() { return notes; }
+    public void setNotes(String notes) { this.notes = notes; }
+    
     public LeadStatus getStatus() { return status; }
     public void setStatus(LeadStatus status) { this.status = status; }
     
@@ -119,6 +172,19 @@ public class Lead {
     public LocalDateTime getLastContactedAt() { return lastContactedAt; }
     public void setLastContactedAt(LocalDateTime lastContactedAt) { this.lastContactedAt = lastContactedAt; }
     
+    public LocalDateTime getConvertedAt() { return convertedAt; }
+    public void setConvertedAt(LocalDateTime convertedAt) { this.convertedAt = convertedAt; }
+    
+    public Long getVersion() { return version; }
+    public void setVersion(Long version) { this.version = version; }
+    
+    public LeadStatus getPersistedStatus() { return persistedStatus; }
+    
+    @PostLoad
+    @PostPersist
+    @PostUpdate
+    void rememberPersistedStatus() { this.persistedStatus = status; }
+    
     public List<Interaction> getInteractions() { return interactions; }
     public void setInteractions(List<Interaction> interactions) { this.interactions = interactions; }
 }
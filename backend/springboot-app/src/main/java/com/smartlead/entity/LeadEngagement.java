@@ -0,0 +1,194 @@
+package com.smartlead.entity;
+
+import com.smartlead.entity.Interaction.InteractionType;
+import jakarta.persistence.*;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+
+/**
+ * Per-lead interaction summary, maintained incrementally as interactions are
+ * recorded so engagement scoring reads one row instead of the lead's history.
+ * Recent activity is kept as daily buckets: index 0 is {@code bucketsDay},
+ * index i is i days before it.
+ */
+@Entity
+@Table(name = "lead_engagement")
+public class LeadEngagement {
+    public static final int RECENT_DAYS = 7;
+
+    @Id
+    @Column(name = "lead_id")
+    private Long leadId;
+
+    @Column(nullable = false)
+    private long totalInteractions;
+
+    @Column(nullable = false)
+    private long emailCount;
+
+    @Column(nullable = false)
+    private long callCount;
+
+    @Column(nullable = false)
+    private long meetingCount;
+
+    @Column(nullable = false)
+    private long noteCount;
+
+    @Column(nullable = false)
+    private long untypedCount;
+
+    private LocalDateTime lastInteractionAt;
+
+    @Column(name = "daily_counts", nullable = false)
+    private int[] dailyCounts = new int[RECENT_DAYS];
+
+    @Column(name = "buckets_day", nullable = false)
+    private LocalDate bucketsDay;
+
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+
+
+    public LeadEngagement() {}
+
+    public LeadEngagement(Long leadId, LocalDate today) {
+        this.leadId = leadId;
+        this.bucketsDay = today;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+
+    /**
+     * Count one interaction of the given type that happened at {@code at}
+     */
+    public void record(InteractionType type, LocalDateTime at, LocalDate today) {
+        rollTo(today);
+        addCount(type, 1, at);
+        addToDay(at.toLocalDate(), 1);
+        updatedAt = LocalDateTime.now();
+    }
+
+    /**
+     * Add {@code count} interactions of a type, the latest of which happened at {@code lastAt}
+     */
+    public void addCount(InteractionType type, long count, LocalDateTime lastAt) {
+        totalInteractions += count;
+        if (type == null) {
+            untypedCount += count;
+        } else {
+            switch (type) {
+                case EMAIL -> emailCount += count;
+                case CALL -> callCount += count;
+                case MEETING -> meetingCount += count;
+                case NOTE -> noteCount += count;
+            }
+        }
+        if (lastAt != null && (lastInteractionAt == null || lastAt.isAfter(lastInteractionAt))) {
+            lastInteractionAt = lastAt;
+        }
+    }
+
+    /**
+     * Add to the bucket of {@code day}; days outside the window are ignored
+     */
+    public void addToDay(LocalDate day, int count) {
+        long age = ChronoUnit.DAYS.between(day, bucketsDay);
+        if (age >= 0 && age < RECENT_DAYS) {
+            dailyCounts[(int) age] += count;
+        }
+    }
+
+    public long getCount(InteractionType type) {
+        return switch (type) {
+            case EMAIL -> emailCount;
+            case CALL -> callCount;
+            case MEETING -> meetingCount;
+            case NOTE -> noteCount;
+        };
+    }
+
+    /**
+     * Interactions within the last {@link #RECENT_DAYS} days (today included)
+     */
+    public long getRecentCount(LocalDate today) {
+        long recent = 0;
+        for (int count : bucketsAsOf(today)) {
+            recent += count;
+        }
+        return recent;
+    }
+
+    /**
+     * Daily buckets shifted so index 0 is {@code today}, without modifying this summary
+     */
+    public int[] bucketsAsOf(LocalDate today) {
+        long shift = Math.max(0, ChronoUnit.DAYS.between(bucketsDay, today));
+        int[] buckets = new int[RECENT_DAYS];
+        for (int i = 0; i + shift < RECENT_DAYS; i++) {
+            buckets[(int) (i + shift)] = dailyCounts[i];
+        }
+        return buckets;
+    }
+
+    /**
+     * Same counts, last interaction and recent buckets as {@code other}
+     */
+    public boolean sameAs(LeadEngagement other, LocalDate today) {
+        return totalInteractions == other.totalInteractions
+            && emailCount == other.emailCount
+            && callCount == other.callCount
+            && meetingCount == other.meetingCount
+            && noteCount == other.noteCount
+            && untypedCount == other.untypedCount
+            && (lastInteractionAt == null ? other.lastInteractionAt == null : lastInteractionAt.equals(other.lastInteractionAt))
+            && Arrays.equals(bucketsAsOf(today), other.bucketsAsOf(today));
+    }
+
+    /**
+     * Overwrite this summary with a rebuilt one
+     */
+    public void replaceWith(LeadEngagement rebuilt, LocalDate today) {
+        totalInteractions = rebuilt.totalInteractions;
+        emailCount = rebuilt.emailCount;
+        callCount = rebuilt.callCount;
+        meetingCount = rebuilt.meetingCount;
+        noteCount = rebuilt.noteCount;
+        untypedCount = rebuilt.untypedCount;
+        lastInteractionAt = rebuilt.lastInteractionAt;
+        dailyCounts = rebuilt.bucketsAsOf(today);
+        bucketsDay = today;
+        updatedAt = LocalDateTime.now();
+    }
+
+    private void rollTo(LocalDate today) {
+        if (today.isAfter(bucketsDay)) {
+            dailyCounts = bucketsAsOf(today);
+            bucketsDay = today;
+        }
+    }
+
+
+    public Long getLeadId() { return leadId; }
+    public void setLeadId(Long leadId) { this.leadId = leadId; }
+
+    public long getTotalInteractions() { return totalInteractions; }
+    public void setTotalInteractions(long totalInteractions) { this.totalInteractions = totalInteractions; }
+
+    public long getUntypedCount() { return untypedCount; }
+    public void setUntypedCount(long untypedCount) { this.untypedCount = untypedCount; }
+
+    public LocalDateTime getLastInteractionAt() { return lastInteractionAt; }
+    public void setLastInteractionAt(LocalDateTime lastInteractionAt) { this.lastInteractionAt = lastInteractionAt; }
+
+    public int[] getDailyCounts() { return dailyCounts; }
+    public void setDailyCounts(int[] dailyCounts) { this.dailyCounts = dailyCounts; }
+
+    public LocalDate getBucketsDay() { return bucketsDay; }
+    public void setBucketsDay(LocalDate bucketsDay) { this.bucketsDay = bucketsDay; }
+
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+    public void setUpdatedAt(LocalDateTime updatedAt) { this.updatedAt = updatedAt; }
+}
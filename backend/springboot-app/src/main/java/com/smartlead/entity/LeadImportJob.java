@@ -0,0 +1,134 @@
+package com.smartlead.entity;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * Bulk lead import. The uploaded file is spooled to disk and
+ * {@code rowsProcessed} is committed together with each chunk of inserted
+ * leads, so a job interrupted by a crash resumes after its last chunk.
+ */
+@Entity
+@Table(name = "lead_import_jobs", indexes = {
+    @Index(name = "idx_lead_import_jobs_status_heartbeat", columnList = "status, heartbeat_at")
+})
+public class LeadImportJob {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "tenant_id", nullable = false)
+    private Long tenantId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private ImportFormat format;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private ImportStatus status;
+
+    @Column(nullable = false, length = 1000)
+    private String filePath;
+
+    private String originalFilename;
+
+    @Column(nullable = false)
+    private long fileSize;
+
+    @Column(nullable = false)
+    private long rowsProcessed;
+
+    @Column(nullable = false)
+    private long rowsImported;
+
+    @Column(nullable = false)
+    private long rowsRejected;
+
+    // First rejections, one "row N: reason" per line
+    @Column(length = 4000)
+    private String rejectionSample;
+
+    @Column(length = 1000)
+    private String lastError;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    private LocalDateTime startedAt;
+
+    @Column(name = "heartbeat_at")
+    private LocalDateTime heartbeatAt;
+
+    private LocalDateTime finishedAt;
+
+    public enum ImportFormat {
+        CSV, NDJSON
+    }
+
+    public enum ImportStatus {
+        PENDING, RUNNING, COMPLETED, FAILED
+    }
+
+
+    public LeadImportJob() {}
+
+    public LeadImportJob(Long tenantId, ImportFormat format, String filePath, String originalFilename, long fileSize) {
+        this.tenantId = tenantId;
+        this.format = format;
+        this.filePath = filePath;
+        this.originalFilename = originalFilename;
+        this.fileSize = fileSize;
+        this.status = ImportStatus.PENDING;
+        this.createdAt = LocalDateTime.now();
+    }
+
+
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public Long getTenantId() { return tenantId; }
+    public void setTenantId(Long tenantId) { this.tenantId = tenantId; }
+
+    public ImportFormat getFormat() { return format; }
+    public void setFormat(ImportFormat format) { this.format = format; }
+
+    public ImportStatus getStatus() { return status; }
+    public void setStatus(ImportStatus status) { this.status = status; }
+
+    public String getFilePath() { return filePath; }
+    public void setFilePath(String filePath) { this.filePath = filePath; }
+
+    public String getOriginalFilename() { return originalFilename; }
+    public void setOriginalFilename(String originalFilename) { this.originalFilename = originalFilename; }
+
+    public long getFileSize() { return fileSize; }
+    public void setFileSize(long fileSize) { this.fileSize = fileSize; }
+
+    public long getRowsProcessed() { return rowsProcessed; }
+    public void setRowsProcessed(long rowsProcessed) { this.rowsProcessed = rowsProcessed; }
+
+    public long getRowsImported() { return rowsImported; }
+    public void setRowsImported(long rowsImported) { this.rowsImported = rowsImported; }
+
+    public long getRowsRejected() { return rowsRejected; }
+    public void setRowsRejected(long rowsRejected) { this.rowsRejected = rowsRejected; }
+
+    public String getRejectionSample() { return rejectionSample; }
+    public void setRejectionSample(String rejectionSample) { this.rejectionSample = rejectionSample; }
+
+    public String getLastError() { return lastError; }
+    public void setLastError(String lastError) { this.lastError = lastError; }
+
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
+
+    public LocalDateTime getStartedAt() { return startedAt; }
+    public void setStartedAt(LocalDateTime startedAt) { this.startedAt = startedAt; }
+
+    public LocalDateTime getHeartbeatAt() { return heartbeatAt; }
+    public void setHeartbeatAt(LocalDateTime heartbeatAt) { this.heartbeatAt = heartbeatAt; }
+
+    public LocalDateTime getFinishedAt() { return finishedAt; }
+    public void setFinishedAt(LocalDateTime finishedAt) { this.finishedAt = finishedAt; }
+}
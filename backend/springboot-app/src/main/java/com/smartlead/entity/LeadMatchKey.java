@@ -0,0 +1,61 @@
+package com.smartlead.entity;
+
+import jakarta.persistence.*;
+import java.io.Serializable;
+import java.util.Objects;
+
+/**
+ * A duplicate-detection key of a lead (normalized email, phone, name plus
+ * company, or an LSH band of its name), see
+ * {@link com.smartlead.dedup.LeadFingerprint}. The primary key doubles as the
+ * lookup index: all leads of a tenant sharing a key are one range scan.
+ */
+@Entity
+@Table(name = "lead_match_keys", indexes = {
+    @Index(name = "idx_lead_match_keys_lead", columnList = "lead_id")
+})
+public class LeadMatchKey {
+
+    @EmbeddedId
+    private Key id;
+
+
+    public LeadMatchKey() {}
+
+    public Long getTenantId() { return id.tenantId; }
+    public String getMatchKey() { return id.matchKey; }
+    public Long getLeadId() { return id.leadId; }
+
+    @Embeddable
+    public static class Key implements Serializable {
+        @Column(name = "tenant_id", nullable = false)
+        private Long tenantId;
+
+        @Column(name = "match_key", nullable = false, length = 500)
+        private String matchKey;
+
+        @Column(name = "lead_id", nullable = false)
+        private Long leadId;
+
+        public Key() {}
+
+        public Key(Long tenantId, String matchKey, Long leadId) {
+            this.tenantId = tenantId;
+            this.matchKey = matchKey;
+            this.leadId = leadId;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key key)) return false;
+            return Objects.equals(tenantId, key.tenantId) && Objects.equals(matchKey, key.matchKey)
+                && Objects.equals(leadId, key.leadId);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(tenantId, matchKey, leadId);
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.smartlead.entity;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * A lead that looks like a duplicate of an older one. Suggestions are only
+ * ever acted on by a user (merge or dismiss); detection never drops a lead.
+ */
+@Entity
+@Table(name = "lead_merge_suggestions", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_lead_merge_suggestions_pair", columnNames = {"lead_id", "duplicate_of_lead_id"})
+}, indexes = {
+    @Index(name = "idx_lead_merge_suggestions_tenant_status", columnList = "tenant_id, status, created_at")
+})
+public class LeadMergeSuggestion {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "tenant_id", nullable = false)
+    private Long tenantId;
+
+    // The newer lead of the pair, the one a merge removes
+    @Column(name = "lead_id", nullable = false)
+    private Long leadId;
+
+    @Column(name = "duplicate_of_lead_id", nullable = false)
+    private Long duplicateOfLeadId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private MatchReason reason;
+
+    // 1.0 for exact key matches, trigram Jaccard similarity for SIMILAR_NAME
+    @Column(nullable = false)
+    private double similarity;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private SuggestionStatus status;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    private LocalDateTime resolvedAt;
+
+    public enum MatchReason {
+        EMAIL, PHONE, NAME_COMPANY, SIMILAR_NAME
+    }
+
+    public enum SuggestionStatus {
+        OPEN, MERGED, DISMISSED
+    }
+
+
+    public LeadMergeSuggestion() {}
+
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public Long getTenantId() { return tenantId; }
+    public void setTenantId(Long tenantId) { this.tenantId = tenantId; }
+
+    public Long getLeadId() { return leadId; }
+    public void setLeadId(Long leadId) { this.leadId = leadId; }
+
+    public Long getDuplicateOfLeadId() { return duplicateOfLeadId; }
+    public void setDuplicateOfLeadId(Long duplicateOfLeadId) { this.duplicateOfLeadId = duplicateOfLeadId; }
+
+    public MatchReason getReason() { return reason; }
+    public void setReason(MatchReason reason) { this.reason = reason; }
+
+    public double getSimilarity() { return similarity; }
+    public void setSimilarity(double similarity) { this.similarity = similarity; }
+
+    public SuggestionStatus getStatus() { return status; }
+    public void setStatus(SuggestionStatus status) { this.status = status; }
+
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
+
+    public LocalDateTime getResolvedAt() { return resolvedAt; }
+    public void setResolvedAt(LocalDateTime resolvedAt) { this.resolvedAt = resolvedAt; }
+}
@@ -0,0 +1,31 @@
+package com.smartlead.entity;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * When a lead's score next changes on its own (time passing, no writes).
+ * One row per lead with a pending change; read through the due_at index.
+ */
+@Entity
+@Table(name = "lead_rescore_schedule", indexes = {
+    @Index(name = "idx_lead_rescore_schedule_due_at", columnList = "due_at")
+})
+public class LeadRescoreSchedule {
+    @Id
+    @Column(name = "lead_id")
+    private Long leadId;
+
+    @Column(name = "due_at", nullable = false)
+    private LocalDateTime dueAt;
+
+
+    public LeadRescoreSchedule() {}
+
+
+    public Long getLeadId() { return leadId; }
+    public void setLeadId(Long leadId) { this.leadId = leadId; }
+
+    public LocalDateTime getDueAt() { return dueAt; }
+    public void setDueAt(LocalDateTime dueAt) { this.dueAt = dueAt; }
+}
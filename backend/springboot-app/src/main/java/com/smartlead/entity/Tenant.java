@@ -1,12 +1,19 @@
 // src/main/java/com/smartlead/entity/Tenant.java
 package com.smartlead.entity;
 
+import com.smartlead.cache.L2CacheInvalidator;
+import com.smartlead.cache.ReferenceDataChangeListener;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import java.time.LocalDateTime;
 import java.util.List;
 
 @Entity
 @Table(name = "tenants")
+@EntityListeners(ReferenceDataChangeListener.class)
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = L2CacheInvalidator.TENANTS_REGION)
 public class Tenant {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
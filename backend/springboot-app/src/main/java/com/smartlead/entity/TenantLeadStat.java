@@ -0,0 +1,76 @@
+package com.smartlead.entity;
+
+import jakarta.persistence.*;
+import java.io.Serializable;
+import java.util.Objects;
+
+/**
+ * One dashboard counter of a tenant: a metric plus an optional bucket (a lead
+ * status, a source, a month), e.g. {@code STATUS/QUALIFIED} or {@code CONVERSIONS/2024-05}.
+ * Counters are adjusted by deltas in the same transaction as the lead write,
+ * so reading a tenant's dashboard is a primary key range scan.
+ */
+@Entity
+@Table(name = "tenant_lead_stats")
+public class TenantLeadStat {
+    public static final String TOTAL = "TOTAL";
+    public static final String SCORE_SUM = "SCORE_SUM";
+    public static final String STATUS = "STATUS";
+    public static final String CONVERSIONS = "CONVERSIONS";
+    public static final String SOURCE = "SOURCE";
+    // SOURCE bucket of leads without a source
+    public static final String UNKNOWN_SOURCE = "unknown";
+    // Not a dashboard counter: bumped by every lead write of the tenant and never rebuilt, so it only grows
+    public static final String VERSION = "VERSION";
+    public static final String NO_BUCKET = "";
+    public static final int BUCKET_LENGTH = 32;
+
+    @EmbeddedId
+    private Key id;
+
+    @Column(name = "stat_value", nullable = false)
+    private long value;
+
+
+    public TenantLeadStat() {}
+
+    public Long getTenantId() { return id.tenantId; }
+    public String getMetric() { return id.metric; }
+    public String getBucket() { return id.bucket; }
+
+    public long getValue() { return value; }
+    public void setValue(long value) { this.value = value; }
+
+    @Embeddable
+    public static class Key implements Serializable {
+        @Column(name = "tenant_id", nullable = false)
+        private Long tenantId;
+
+        @Column(nullable = false, length = 32)
+        private String metric;
+
+        @Column(nullable = false, length = BUCKET_LENGTH)
+        private String bucket;
+
+        public Key() {}
+
+        public Key(Long tenantId, String metric, String bucket) {
+            this.tenantId = tenantId;
+            this.metric = metric;
+            this.bucket = bucket;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key key)) return false;
+            return Objects.equals(tenantId, key.tenantId) && Objects.equals(metric, key.metric)
+                && Objects.equals(bucket, key.bucket);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(tenantId, metric, bucket);
+        }
+    }
+}
@@ -1,12 +1,23 @@
 // src/main/java/com/smartlead/entity/User.java
 package com.smartlead.entity;
 
+import com.smartlead.cache.L2CacheInvalidator;
+import com.smartlead.cache.ReferenceDataChangeListener;
+import com.smartlead.security.UserChangeListener;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import java.time.LocalDateTime;
 import java.util.List;
 
 @Entity
-@Table(name = "users")
+@Table(name = "users", indexes = {
+    // Login and principal cache misses look users up by email
+    @Index(name = "idx_users_email", columnList = "email")
+})
+@EntityListeners({UserChangeListener.class, ReferenceDataChangeListener.class})
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = L2CacheInvalidator.USERS_REGION)
 public class User {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -0,0 +1,108 @@
+package com.smartlead.imports;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * RFC 4180 CSV reader: first line is the header, quoted fields may contain
+ * separators, doubled quotes and line breaks; blank lines are skipped. A
+ * quoted field still open at the end of the file has swallowed everything
+ * after its opening quote, so it comes back as one rejected row that ends
+ * the file rather than failing the whole import.
+ */
+public class CsvLeadRecordReader implements LeadRecordReader {
+
+    private final Reader reader;
+    private String[] header;
+    private long rowNumber;
+    // Set when the last record ended inside a quoted field
+    private boolean unterminated;
+
+    public CsvLeadRecordReader(Reader reader) {
+        this.reader = reader;
+    }
+
+    @Override
+    public LeadRecord next() throws IOException {
+        if (header == null) {
+            List<String> columns = readFields();
+            if (columns == null) return null;
+            if (unterminated) {
+                throw new IOException("Unterminated quoted field in the header");
+            }
+            header = new String[columns.size()];
+            for (int i = 0; i < header.length; i++) {
+                header[i] = LeadRecord.normalizeColumn(columns.get(i));
+            }
+        }
+
+        List<String> fields;
+        do {
+            fields = readFields();
+            if (fields == null) return null;
+        } while (fields.size() == 1 && fields.get(0).isEmpty());
+
+        rowNumber++;
+        if (unterminated) {
+            return LeadRecord.rejected(rowNumber, "unterminated quoted field; the rest of the file was read into this row");
+        }
+        if (fields.size() != header.length) {
+            return LeadRecord.rejected(rowNumber, "expected " + header.length + " columns, found " + fields.size());
+        }
+
+        Map<String, String> values = new HashMap<>(header.length * 2);
+        for (int i = 0; i < header.length; i++) {
+            values.put(header[i], fields.get(i));
+        }
+        return LeadRecord.of(rowNumber, values);
+    }
+
+    /**
+     * Fields of the next physical record, or null at the end of input
+     */
+    private List<String> readFields() throws IOException {
+        int c = reader.read();
+        if (c == -1) return null;
+
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        while (true) {
+            if (quoted) {
+                if (c == -1) {
+                    unterminated = true;
+                    fields.add(field.toString());
+                    return fields;
+                }
+                if (c == '"') {
+                    c = reader.read();
+                    if (c != '"') {
+                        quoted = false;
+                        continue;
+                    }
+                }
+                field.append((char) c);
+            } else if (c == '"' && field.length() == 0) {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\n' || c == -1) {
+                fields.add(field.toString());
+                return fields;
+            } else if (c != '\r') {
+                field.append((char) c);
+            }
+            c = reader.read();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
@@ -0,0 +1,76 @@
+package com.smartlead.imports;
+
+import com.smartlead.entity.Lead;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * JDBC batch inserts for bulk imports. Lead ids stay IDENTITY for the JPA
+ * path, which rules out Hibernate insert batching; here a whole chunk of ids
+ * is drawn from the identity column's sequence in one round trip and the rows
+ * go out as a single batch (rewritten to multi-row INSERTs by the driver).
+ * Callers provide the transaction.
+ */
+@Component
+public class LeadBatchWriter {
+
+    private static final String ALLOCATE_IDS =
+        "SELECT nextval(pg_get_serial_sequence('leads', 'id')) FROM generate_series(1, ?)";
+
+    private static final String INSERT_LEAD =
+        "INSERT INTO leads (id, first_name, last_name, email, phone, company, job_title, " +
+        "status, score, score_value, tenant_id, created_at, version) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 0)";
+
+    private static final String INSERT_SCORING_TASK =
+        "INSERT INTO scoring_tasks (lead_id, status, attempts, next_attempt_at, created_at) " +
+        "VALUES (?, 'PENDING', 0, ?, ?)";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    /**
+     * Assign ids to the leads and insert them
+     */
+    public void insertLeads(List<Lead> leads) {
+        if (leads.isEmpty()) return;
+
+        List<Long> ids = jdbcTemplate.queryForList(ALLOCATE_IDS, Long.class, leads.size());
+        for (int i = 0; i < leads.size(); i++) {
+            leads.get(i).setId(ids.get(i));
+        }
+
+        jdbcTemplate.batchUpdate(INSERT_LEAD, leads, leads.size(), (ps, lead) -> {
+            ps.setLong(1, lead.getId());
+            ps.setString(2, lead.getFirstName());
+            ps.setString(3, lead.getLastName());
+            ps.setString(4, lead.getEmail());
+            ps.setString(5, lead.getPhone());
+            ps.setString(6, lead.getCompany());
+            ps.setString(7, lead.getJobTitle());
+            ps.setString(8, lead.getStatus().name());
+            ps.setString(9, lead.getScore().name());
+            ps.setObject(10, lead.getScoreValue(), Types.INTEGER);
+            ps.setLong(11, lead.getTenant().getId());
+            ps.setTimestamp(12, Timestamp.valueOf(lead.getCreatedAt()));
+        });
+    }
+
+    /**
+     * Queue full (engagement + AI) scoring for inserted leads, as createLead does for single leads
+     */
+    public void enqueueScoring(List<Lead> leads) {
+        if (leads.isEmpty()) return;
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_SCORING_TASK, leads, leads.size(), (ps, lead) -> {
+            ps.setLong(1, lead.getId());
+            ps.setTimestamp(2, now);
+            ps.setTimestamp(3, now);
+        });
+    }
+}
@@ -0,0 +1,116 @@
+package com.smartlead.imports;
+
+import com.smartlead.entity.Lead;
+import com.smartlead.entity.Tenant;
+import com.smartlead.service.AILeadScoringService;
+import com.smartlead.service.LeadService;
+import java.util.List;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * CPU side of a bulk import: validates parsed rows into leads and gives them
+ * their provisional rule-based score, one chunk at a time in parallel.
+ * Database writes are left to {@link LeadBatchWriter}.
+ */
+public class LeadImportPipeline {
+
+    private static final Pattern EMAIL = Pattern.compile("^[^@\\s]+@[^@\\s]+\\.[^@\\s]+$");
+    private static final int MAX_LENGTH = 255;
+
+    private final AILeadScoringService scoringService;
+
+    public LeadImportPipeline(AILeadScoringService scoringService) {
+        this.scoringService = scoringService;
+    }
+
+    /**
+     * Validate and score a chunk; results keep the order of the input rows
+     */
+    public List<PreparedRow> prepare(List<LeadRecord> records, Tenant tenant) {
+        return records.parallelStream()
+            .map(record -> prepare(record, tenant))
+            .collect(Collectors.toList());
+    }
+
+    private PreparedRow prepare(LeadRecord record, Tenant tenant) {
+        if (record.isRejected()) {
+            return PreparedRow.rejected(record.getRowNumber(), record.getError());
+        }
+
+        try {
+            Lead lead = new Lead(
+                required(record, "firstname", "firstName"),
+                required(record, "lastname", "lastName"),
+                email(record),
+                optional(record, "phone", "phonenumber"),
+                optional(record, "company", "companyname"),
+                optional(record, "jobtitle", "title"),
+                tenant);
+            int score = scoringService.calculateProvisionalScore(lead);
+            lead.setScoreValue(score);
+            lead.setScore(LeadService.determineLeadScore(score));
+            return PreparedRow.accepted(record.getRowNumber(), lead);
+        } catch (IllegalArgumentException e) {
+            return PreparedRow.rejected(record.getRowNumber(), e.getMessage());
+        }
+    }
+
+    private static String required(LeadRecord record, String column, String label) {
+        String value = optional(record, column);
+        if (value == null) {
+            throw new IllegalArgumentException(label + " is required");
+        }
+        return value;
+    }
+
+    private static String email(LeadRecord record) {
+        String email = required(record, "email", "email");
+        if (!EMAIL.matcher(email).matches()) {
+            throw new IllegalArgumentException("invalid email " + email);
+        }
+        return email;
+    }
+
+    private static String optional(LeadRecord record, String... columns) {
+        for (String column : columns) {
+            String value = record.get(column);
+            if (value != null && !value.isBlank()) {
+                value = value.trim();
+                if (value.length() > MAX_LENGTH) {
+                    throw new IllegalArgumentException(column + " longer than " + MAX_LENGTH + " characters");
+                }
+                return value;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * A validated, scored lead ready to insert, or the reason its row was rejected
+     */
+    public static final class PreparedRow {
+        private final long rowNumber;
+        private final Lead lead;
+        private final String rejection;
+
+        private PreparedRow(long rowNumber, Lead lead, String rejection) {
+            this.rowNumber = rowNumber;
+            this.lead = lead;
+            this.rejection = rejection;
+        }
+
+        static PreparedRow accepted(long rowNumber, Lead lead) {
+            return new PreparedRow(rowNumber, lead, null);
+        }
+
+        static PreparedRow rejected(long rowNumber, String rejection) {
+            return new PreparedRow(rowNumber, null, rejection);
+        }
+
+        public long getRowNumber() { return rowNumber; }
+        public Lead getLead() { return lead; }
+        public String getRejection() { return rejection; }
+        public boolean isRejected() { return rejection != null; }
+    }
+}
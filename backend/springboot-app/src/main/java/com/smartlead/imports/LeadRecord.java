@@ -0,0 +1,50 @@
+package com.smartlead.imports;
+
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * One data row of an import file: its values keyed by normalized column
+ * name, or the reason it could not be parsed.
+ */
+public final class LeadRecord {
+
+    private final long rowNumber;
+    private final Map<String, String> values;
+    private final String error;
+
+    private LeadRecord(long rowNumber, Map<String, String> values, String error) {
+        this.rowNumber = rowNumber;
+        this.values = values;
+        this.error = error;
+    }
+
+    public static LeadRecord of(long rowNumber, Map<String, String> values) {
+        return new LeadRecord(rowNumber, values, null);
+    }
+
+    public static LeadRecord rejected(long rowNumber, String error) {
+        return new LeadRecord(rowNumber, null, error);
+    }
+
+    /**
+     * Column key that ignores case, separators and a byte order mark: "First Name", "first_name"
+     * and "firstName" all become "firstname"
+     */
+    public static String normalizeColumn(String column) {
+        StringBuilder key = new StringBuilder(column.length());
+        for (int i = 0; i < column.length(); i++) {
+            char c = column.charAt(i);
+            if (Character.isLetterOrDigit(c)) key.append(c);
+        }
+        return key.toString().toLowerCase(Locale.ROOT);
+    }
+
+    public long getRowNumber() { return rowNumber; }
+
+    public String get(String normalizedColumn) { return values.get(normalizedColumn); }
+
+    public String getError() { return error; }
+
+    public boolean isRejected() { return error != null; }
+}
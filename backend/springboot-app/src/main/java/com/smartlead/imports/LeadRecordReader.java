@@ -0,0 +1,29 @@
+package com.smartlead.imports;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.smartlead.entity.LeadImportJob.ImportFormat;
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Pull-based reader over an import file that holds one record in memory at a time
+ */
+public interface LeadRecordReader extends Closeable {
+
+    /**
+     * Next data row, or null at the end of the file. Malformed rows come back
+     * as rejected records; only an unreadable file throws.
+     */
+    LeadRecord next() throws IOException;
+
+    static LeadRecordReader open(ImportFormat format, InputStream in, ObjectMapper objectMapper) {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8), 64 * 1024);
+        return format == ImportFormat.CSV
+            ? new CsvLeadRecordReader(reader)
+            : new NdjsonLeadRecordReader(reader, objectMapper);
+    }
+}
@@ -0,0 +1,59 @@
+package com.smartlead.imports;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * Newline-delimited JSON reader: one lead object per line, blank lines skipped
+ */
+public class NdjsonLeadRecordReader implements LeadRecordReader {
+
+    private final BufferedReader reader;
+    private final ObjectMapper objectMapper;
+    private long rowNumber;
+
+    public NdjsonLeadRecordReader(BufferedReader reader, ObjectMapper objectMapper) {
+        this.reader = reader;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public LeadRecord next() throws IOException {
+        String line;
+        do {
+            line = reader.readLine();
+            if (line == null) return null;
+        } while (line.isBlank());
+
+        rowNumber++;
+        JsonNode node;
+        try {
+            node = objectMapper.readTree(line);
+        } catch (JsonProcessingException e) {
+            return LeadRecord.rejected(rowNumber, "invalid JSON");
+        }
+        if (!node.isObject()) {
+            return LeadRecord.rejected(rowNumber, "expected a JSON object");
+        }
+
+        Map<String, String> values = new HashMap<>();
+        Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
+        while (fields.hasNext()) {
+            Map.Entry<String, JsonNode> field = fields.next();
+            JsonNode value = field.getValue();
+            values.put(LeadRecord.normalizeColumn(field.getKey()), value.isNull() ? null : value.asText());
+        }
+        return LeadRecord.of(rowNumber, values);
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
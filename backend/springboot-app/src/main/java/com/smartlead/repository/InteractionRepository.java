@@ -2,12 +2,55 @@
 package com.smartlead.repository;
 
 import com.smartlead.entity.Interaction;
+import com.smartlead.entity.Interaction.InteractionType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface InteractionRepository extends JpaRepository<Interaction, Long> {
     List<Interaction> findByLeadIdOrderByCreatedAtDesc(Long leadId);
     List<Interaction> findByUserIdOrderByCreatedAtDesc(Long userId);
+    
+    /**
+     * Move a lead's interactions to another lead, when merging duplicates
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = "UPDATE interactions SET lead_id = :toLeadId WHERE lead_id = :fromLeadId", nativeQuery = true)
+    int reassignLead(@Param("fromLeadId") Long fromLeadId, @Param("toLeadId") Long toLeadId);
+    
+    /**
+     * Per (lead, interaction type) totals and latest timestamp, for rebuilding engagement summaries
+     */
+    @Query("SELECT i.lead.id AS leadId, i.type AS type, COUNT(i) AS total, MAX(i.createdAt) AS lastAt " +
+           "FROM Interaction i WHERE i.lead.id IN :leadIds GROUP BY i.lead.id, i.type")
+    List<TypeSummaryRow> summarizeByType(@Param("leadIds") Collection<Long> leadIds);
+    
+    /**
+     * Per (lead, day) interaction counts since {@code since}
+     */
+    @Query("SELECT i.lead.id AS leadId, CAST(i.createdAt AS LocalDate) AS day, COUNT(i) AS total " +
+           "FROM Interaction i WHERE i.lead.id IN :leadIds AND i.createdAt >= :since " +
+           "GROUP BY i.lead.id, CAST(i.createdAt AS LocalDate)")
+    List<DailyCountRow> countByDay(@Param("leadIds") Collection<Long> leadIds,
+                                   @Param("since") LocalDateTime since);
+    
+    interface TypeSummaryRow {
+        Long getLeadId();
+        InteractionType getType();
+        Long getTotal();
+        LocalDateTime getLastAt();
+    }
+    
+    interface DailyCountRow {
+        Long getLeadId();
+        LocalDate getDay();
+        Long getTotal();
+    }
 }
\ No newline at end of file
@@ -0,0 +1,46 @@
+package com.smartlead.repository;
+
+import com.smartlead.entity.LeadEngagement;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface LeadEngagementRepository extends JpaRepository<LeadEngagement, Long> {
+
+    // Empty summary row for a lead; concurrent writers race on the primary key, not on a read-then-insert
+    @Modifying
+    @Query(value = "INSERT INTO lead_engagement (lead_id, total_interactions, email_count, call_count, " +
+                   "meeting_count, note_count, untyped_count, daily_counts, buckets_day, updated_at) " +
+                   "VALUES (:leadId, 0, 0, 0, 0, 0, 0, '{0,0,0,0,0,0,0}', CURRENT_DATE, now()) " +
+                   "ON CONFLICT (lead_id) DO NOTHING", nativeQuery = true)
+    int insertIfAbsent(@Param("leadId") Long leadId);
+
+    // Empty summary rows for leads in the list that have interactions but no summary yet
+    @Modifying
+    @Query(value = "INSERT INTO lead_engagement (lead_id, total_interactions, email_count, call_count, " +
+                   "meeting_count, note_count, untyped_count, daily_counts, buckets_day, updated_at) " +
+                   "SELECT l.id, 0, 0, 0, 0, 0, 0, '{0,0,0,0,0,0,0}', CURRENT_DATE, now() FROM leads l " +
+                   "WHERE l.id IN (:leadIds) AND EXISTS (SELECT 1 FROM interactions i WHERE i.lead_id = l.id) " +
+                   "ON CONFLICT (lead_id) DO NOTHING", nativeQuery = true)
+    int insertMissing(@Param("leadIds") Collection<Long> leadIds);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT e FROM LeadEngagement e WHERE e.leadId = :leadId")
+    Optional<LeadEngagement> findForUpdate(@Param("leadId") Long leadId);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT e FROM LeadEngagement e WHERE e.leadId IN :leadIds")
+    List<LeadEngagement> findAllForUpdate(@Param("leadIds") Collection<Long> leadIds);
+
+    @Modifying
+    @Query("DELETE FROM LeadEngagement e WHERE e.leadId NOT IN (SELECT l.id FROM Lead l)")
+    int deleteOrphans();
+}
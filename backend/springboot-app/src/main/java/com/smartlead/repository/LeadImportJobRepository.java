@@ -0,0 +1,37 @@
+package com.smartlead.repository;
+
+import com.smartlead.entity.LeadImportJob;
+import com.smartlead.entity.LeadImportJob.ImportStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface LeadImportJobRepository extends JpaRepository<LeadImportJob, Long> {
+
+    Optional<LeadImportJob> findByIdAndTenantId(Long id, Long tenantId);
+
+    List<LeadImportJob> findTop20ByTenantIdOrderByCreatedAtDesc(Long tenantId);
+
+    // Jobs nobody is working on: never started, or their runner stopped heartbeating
+    @Query("SELECT j.id FROM LeadImportJob j WHERE j.status IN :statuses " +
+           "AND (j.heartbeatAt IS NULL OR j.heartbeatAt < :cutoff) ORDER BY j.createdAt")
+    List<Long> findAbandoned(@Param("statuses") Collection<ImportStatus> statuses,
+                             @Param("cutoff") LocalDateTime cutoff);
+
+    // Atomic claim: only one node wins a job, whether it is new or being resumed
+    @Modifying
+    @Transactional
+    @Query("UPDATE LeadImportJob j SET j.status = :running, j.heartbeatAt = :now " +
+           "WHERE j.id = :id AND j.status IN :statuses AND (j.heartbeatAt IS NULL OR j.heartbeatAt < :cutoff)")
+    int claim(@Param("id") Long id, @Param("running") ImportStatus running,
+              @Param("statuses") Collection<ImportStatus> statuses,
+              @Param("now") LocalDateTime now, @Param("cutoff") LocalDateTime cutoff);
+}
@@ -0,0 +1,31 @@
+package com.smartlead.repository;
+
+import com.smartlead.entity.LeadMergeSuggestion;
+import com.smartlead.entity.LeadMergeSuggestion.SuggestionStatus;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface LeadMergeSuggestionRepository extends JpaRepository<LeadMergeSuggestion, Long> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM LeadMergeSuggestion s WHERE s.id = :id AND s.tenantId = :tenantId")
+    Optional<LeadMergeSuggestion> findForUpdate(@Param("id") Long id, @Param("tenantId") Long tenantId);
+
+    List<LeadMergeSuggestion> findByTenantIdAndStatusOrderByCreatedAtDesc(Long tenantId, SuggestionStatus status,
+                                                                          Pageable pageable);
+
+    // Open suggestions involving a deleted lead are moot; resolved ones stay as history
+    @Modifying
+    @Query("DELETE FROM LeadMergeSuggestion s WHERE s.status = :status " +
+           "AND (s.leadId = :leadId OR s.duplicateOfLeadId = :leadId)")
+    int deleteByLeadAndStatus(@Param("leadId") Long leadId, @Param("status") SuggestionStatus status);
+}
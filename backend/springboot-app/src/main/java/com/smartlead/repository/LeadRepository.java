@@ -1,18 +1,34 @@
 // src/main/java/com/smartlead/repository/LeadRepository.java
 package com.smartlead.repository;
 
+import com.smartlead.dto.LeadDto;
 import com.smartlead.entity.Lead;
 import com.smartlead.entity.Lead.LeadStatus;
 import com.smartlead.entity.Lead.LeadScore;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 import java.time.LocalDateTime;
 
 @Repository
 public interface LeadRepository extends JpaRepository<Lead, Long> {
+    
+    // Read model for list and detail views: only the columns LeadDto shows, no entities, tenant or
+    // assignee loads, and nothing for the persistence context to track
+    String LEAD_DTO = "SELECT new com.smartlead.dto.LeadDto(l.id, l.firstName, l.lastName, l.email, l.phone, " +
+                      "l.company, l.jobTitle, l.status, l.score, l.scoreValue, l.createdAt, l.lastContactedAt) " +
+                      "FROM Lead l ";
+    
     List<Lead> findByTenantId(Long tenantId);
     List<Lead> findByTenantIdAndStatus(Long tenantId, LeadStatus status);
     List<Lead> findByTenantIdAndScore(Long tenantId, LeadScore score);
@@ -23,4 +39,51 @@ public interface LeadRepository extends JpaRepository<Lead, Long> {
     
     @Query("SELECT COUNT(l) FROM Lead l WHERE l.tenant.id = :tenantId AND l.status = :status")
     Long countByTenantIdAndStatus(@Param("tenantId") Long tenantId, @Param("status") LeadStatus status);
+    
+    // Touches the row only when the score value moves; 0 means nothing changed
+    @Modifying
+    @Transactional
+    @Query("UPDATE Lead l SET l.scoreValue = :scoreValue, l.score = :score, l.version = l.version + 1 " +
+           "WHERE l.id = :id AND (l.scoreValue IS NULL OR l.scoreValue <> :scoreValue)")
+    int updateScore(@Param("id") Long id, @Param("scoreValue") Integer scoreValue, @Param("score") LeadScore score);
+    
+    // Current score under a row lock, so a rescore can report its exact delta to the dashboard counters
+    @Query(value = "SELECT COALESCE(score_value, 0) FROM leads WHERE id = :id FOR UPDATE", nativeQuery = true)
+    Optional<Integer> lockScoreValue(@Param("id") Long id);
+    
+    // Keyset pages, newest first; the row comparison lets Postgres seek into idx_leads_tenant_created_id
+    @Query(LEAD_DTO + "WHERE l.tenant.id = :tenantId ORDER BY l.createdAt DESC, l.id DESC")
+    List<LeadDto> findPageByCreatedAt(@Param("tenantId") Long tenantId, Pageable pageable);
+    
+    @Query(LEAD_DTO + "WHERE l.tenant.id = :tenantId AND (l.createdAt, l.id) < (:createdAt, :id) " +
+           "ORDER BY l.createdAt DESC, l.id DESC")
+    List<LeadDto> findPageByCreatedAtBefore(@Param("tenantId") Long tenantId, @Param("createdAt") LocalDateTime createdAt,
+                                         @Param("id") Long id, Pageable pageable);
+    
+    // Keyset pages, highest score first, over idx_leads_tenant_score_id
+    @Query(LEAD_DTO + "WHERE l.tenant.id = :tenantId AND l.scoreValue IS NOT NULL " +
+           "ORDER BY l.scoreValue DESC, l.id DESC")
+    List<LeadDto> findPageByScore(@Param("tenantId") Long tenantId, Pageable pageable);
+    
+    @Query(LEAD_DTO + "WHERE l.tenant.id = :tenantId AND (l.scoreValue, l.id) < (:scoreValue, :id) " +
+           "ORDER BY l.scoreValue DESC, l.id DESC")
+    List<LeadDto> findPageByScoreBelow(@Param("tenantId") Long tenantId, @Param("scoreValue") Integer scoreValue,
+                                    @Param("id") Long id, Pageable pageable);
+    
+    // Forward-only cursor for exports: rows are fetched from Postgres in chunks and never dirty-checked
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT l FROM Lead l WHERE l.tenant.id = :tenantId ORDER BY l.id")
+    Stream<Lead> streamByTenantId(@Param("tenantId") Long tenantId);
+    
+    @Query(LEAD_DTO + "WHERE l.id = :id AND l.tenant.id = :tenantId")
+    Optional<LeadDto> findDtoById(@Param("id") Long id, @Param("tenantId") Long tenantId);
+    
+    @Query("SELECT l.version FROM Lead l WHERE l.id = :id AND l.tenant.id = :tenantId")
+    Optional<Long> findVersionById(@Param("id") Long id, @Param("tenantId") Long tenantId);
+    
+    @Query("SELECT l.id FROM Lead l WHERE l.id > :afterId ORDER BY l.id")
+    List<Long> findIdsAfter(@Param("afterId") Long afterId, Pageable pageable);
 }
\ No newline at end of file
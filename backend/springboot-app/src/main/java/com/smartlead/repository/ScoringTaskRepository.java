@@ -0,0 +1,34 @@
+package com.smartlead.repository;
+
+import com.smartlead.entity.ScoringTask;
+import com.smartlead.entity.ScoringTask.TaskStatus;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface ScoringTaskRepository extends JpaRepository<ScoringTask, Long> {
+
+    // FOR UPDATE SKIP LOCKED: concurrent pollers (other nodes) never claim the same rows
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT t FROM ScoringTask t WHERE t.status = :status AND t.nextAttemptAt <= :now ORDER BY t.nextAttemptAt")
+    List<ScoringTask> findDueForUpdate(@Param("status") TaskStatus status, @Param("now") LocalDateTime now, Pageable pageable);
+
+    @Modifying
+    @Query("UPDATE ScoringTask t SET t.status = :pending, t.lockedAt = null WHERE t.status = :inProgress AND t.lockedAt < :cutoff")
+    int releaseExpiredLeases(@Param("pending") TaskStatus pending, @Param("inProgress") TaskStatus inProgress,
+                             @Param("cutoff") LocalDateTime cutoff);
+
+    @Query("SELECT t.status, COUNT(t) FROM ScoringTask t GROUP BY t.status")
+    List<Object[]> countByStatus();
+}
@@ -0,0 +1,16 @@
+package com.smartlead.repository;
+
+import com.smartlead.entity.TenantLeadStat;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import java.util.List;
+
+@Repository
+public interface TenantLeadStatRepository extends JpaRepository<TenantLeadStat, TenantLeadStat.Key> {
+
+    // Leading primary key column, so this is an index range scan
+    @Query("SELECT s FROM TenantLeadStat s WHERE s.id.tenantId = :tenantId")
+    List<TenantLeadStat> findByTenantId(@Param("tenantId") Long tenantId);
+}
@@ -1,13 +1,32 @@
 // src/main/java/com/smartlead/repository/TenantRepository.java
 package com.smartlead.repository;
 
+import com.smartlead.cache.L2CacheInvalidator;
 import com.smartlead.entity.Tenant;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface TenantRepository extends JpaRepository<Tenant, Long> {
+    // Query cache holds the matching id; the row itself comes from the Tenant entity region
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = L2CacheInvalidator.TENANT_LOOKUPS_REGION)
+    })
     Optional<Tenant> findByTenantId(String tenantId);
+    
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = L2CacheInvalidator.TENANT_LOOKUPS_REGION)
+    })
     Optional<Tenant> findByDomain(String domain);
+    
+    @Query("SELECT t.id FROM Tenant t ORDER BY t.id")
+    List<Long> findAllIds();
 }
\ No newline at end of file
@@ -0,0 +1,116 @@
+package com.smartlead.scoring;
+
+import com.smartlead.cache.CacheSpecProperties;
+import com.smartlead.cache.CacheValueCodec;
+import com.smartlead.cache.TwoTierCache;
+import com.smartlead.cache.TwoTierCacheManager;
+import com.smartlead.entity.Lead;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.Map;
+
+/**
+ * Two-tier cache of OpenAI score adjustments, keyed by content rather than lead id.
+ * The key is a SHA-256 over exactly the inputs of the scoring prompt (model,
+ * name, company, job title, email, notes) plus a prompt version, so an edited
+ * lead misses and an unchanged lead hits on every node. Backed by the
+ * {@value #CACHE_NAME} cache of {@link TwoTierCacheManager} (sized under
+ * {@code lead.cache.specs.ai-adjustments.*}), whose Redis tier stores each
+ * adjustment as a 4-byte int through {@link #CODEC}.
+ */
+@Component
+public class AIAdjustmentCache {
+
+    public static final String CACHE_NAME = "ai-adjustments";
+
+    // Bump when the prompt or response contract changes so old adjustments are not reused
+    private static final String PROMPT_VERSION = "batch-v1";
+
+    public static final CacheValueCodec<Integer> CODEC = new CacheValueCodec<>() {
+        @Override
+        public void write(Integer value, DataOutput out) throws IOException {
+            out.writeInt(value);
+        }
+
+        @Override
+        public Integer read(DataInput in) throws IOException {
+            return in.readInt();
+        }
+    };
+
+    private final TwoTierCache cache;
+
+    @Autowired
+    public AIAdjustmentCache(TwoTierCacheManager cacheManager) {
+        this.cache = (TwoTierCache) cacheManager.getCache(CACHE_NAME);
+    }
+
+    /**
+     * Local-only cache, e.g. for tests and benchmarks; a max size of 0 disables caching
+     */
+    public AIAdjustmentCache(long maxSize, Duration ttl) {
+        CacheSpecProperties.CacheSpec spec = new CacheSpecProperties.CacheSpec();
+        spec.setMaxSize(maxSize);
+        spec.setTtl(ttl);
+        spec.setRedisEnabled(false);
+        this.cache = new TwoTierCache(CACHE_NAME, spec, null, null, key -> { });
+    }
+
+    /**
+     * Content key for the lead as it would be rendered into the prompt
+     */
+    public String keyFor(Lead lead, String model) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            update(digest, PROMPT_VERSION);
+            update(digest, model);
+            update(digest, lead.getName());
+            update(digest, lead.getCompany());
+            update(digest, lead.getJobTitle());
+            update(digest, lead.getEmail());
+            update(digest, lead.getNotes());
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * Cached adjustment or null on a miss in both tiers
+     */
+    public Integer get(String key) {
+        return cache.get(key, Integer.class);
+    }
+
+    public void put(String key, int adjustment) {
+        cache.put(key, adjustment);
+    }
+
+    /**
+     * Hit/miss counters per tier
+     */
+    public Map<String, Object> getStats() {
+        return cache.getStats();
+    }
+
+    private static void update(MessageDigest digest, String value) {
+        // Length-prefixed so ("ab", "c") and ("a", "bc") hash differently; -1 marks null
+        if (value == null) {
+            digest.update(new byte[] { -1, -1, -1, -1 });
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        int length = bytes.length;
+        digest.update(new byte[] { (byte) (length >>> 24), (byte) (length >>> 16), (byte) (length >>> 8), (byte) length });
+        digest.update(bytes);
+    }
+}
@@ -0,0 +1,14 @@
+package com.smartlead.scoring;
+
+/**
+ * Completes an AI adjustment request that got no answer from OpenAI: the
+ * tenant was over its limit, the queue was full, the circuit was open, every
+ * attempt failed or the gateway shut down. Scorers treat the AI stage as
+ * skipped, not as an adjustment of 0.
+ */
+public class AIAdjustmentUnavailableException extends RuntimeException {
+
+    public AIAdjustmentUnavailableException(String message) {
+        super(message);
+    }
+}
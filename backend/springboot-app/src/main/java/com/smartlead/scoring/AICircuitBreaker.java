@@ -0,0 +1,169 @@
+package com.smartlead.scoring;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Circuit breaker around OpenAI chat-completion calls. Closed, it tracks the
+ * outcome of the last {@code windowSize} calls and opens once at least
+ * {@code minimumCalls} of them were seen and the failure rate reaches the
+ * threshold. Open, every call is refused for {@code openDuration} (or for as
+ * long as a 429 Retry-After asks), which scorers treat as a skipped AI stage.
+ * Then it lets {@code halfOpenCalls} probes through: all succeeding closes it,
+ * any failing opens it again.
+ */
+@Component
+public class AICircuitBreaker {
+
+    private static final Logger logger = LoggerFactory.getLogger(AICircuitBreaker.class);
+
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private final double failureRateThreshold;
+    private final int minimumCalls;
+    private final long openNanos;
+    private final int halfOpenCalls;
+
+    // Ring buffer of recent outcomes while closed, true for a failure
+    private final boolean[] outcomes;
+    private int outcomeCount;
+    private int nextOutcome;
+    private int failures;
+
+    private State state = State.CLOSED;
+    private long openUntil;
+    private int probesLeft;
+    private int probesSucceeded;
+
+    private final Counter rejected;
+    private final Counter opened;
+
+    @Autowired
+    public AICircuitBreaker(MeterRegistry meterRegistry,
+                            @Value("${lead.scoring.ai.circuit.failure-rate-threshold:0.5}") double failureRateThreshold,
+                            @Value("${lead.scoring.ai.circuit.window-size:20}") int windowSize,
+                            @Value("${lead.scoring.ai.circuit.minimum-calls:10}") int minimumCalls,
+                            @Value("${lead.scoring.ai.circuit.open-duration:30s}") Duration openDuration,
+                            @Value("${lead.scoring.ai.circuit.half-open-calls:2}") int halfOpenCalls) {
+        if (windowSize < 1 || minimumCalls < 1 || halfOpenCalls < 1) {
+            throw new IllegalArgumentException("windowSize, minimumCalls and halfOpenCalls must be positive");
+        }
+        this.failureRateThreshold = failureRateThreshold;
+        this.minimumCalls = Math.min(minimumCalls, windowSize);
+        this.openNanos = openDuration.toNanos();
+        this.halfOpenCalls = halfOpenCalls;
+        this.outcomes = new boolean[windowSize];
+
+        this.rejected = Counter.builder("openai.circuit.rejected")
+                .description("OpenAI calls refused because the circuit was open")
+                .register(meterRegistry);
+        this.opened = Counter.builder("openai.circuit.opened")
+                .description("Times the OpenAI circuit opened")
+                .register(meterRegistry);
+        Gauge.builder("openai.circuit.state", this, breaker -> breaker.getState().ordinal())
+                .description("0 closed, 1 open, 2 half-open")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Permission to make one call; every granted call must be reported through
+     * {@link #onSuccess()} or {@link #onFailure()}
+     */
+    public synchronized boolean tryAcquire() {
+        if (state == State.OPEN) {
+            if (System.nanoTime() - openUntil < 0) {
+                rejected.increment();
+                return false;
+            }
+            state = State.HALF_OPEN;
+            probesLeft = halfOpenCalls;
+            probesSucceeded = 0;
+            logger.info("OpenAI circuit half-open, sending {} probe call(s)", halfOpenCalls);
+        }
+        if (state == State.HALF_OPEN) {
+            if (probesLeft == 0) {
+                rejected.increment();
+                return false;
+            }
+            probesLeft--;
+        }
+        return true;
+    }
+
+    /**
+     * Whether calls are currently being refused, without taking a probe slot
+     */
+    public synchronized boolean isOpen() {
+        return state == State.OPEN && System.nanoTime() - openUntil < 0;
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    public synchronized void onSuccess() {
+        if (state == State.HALF_OPEN) {
+            if (++probesSucceeded >= halfOpenCalls) {
+                close();
+            }
+        } else if (state == State.CLOSED) {
+            record(false);
+        }
+    }
+
+    public synchronized void onFailure() {
+        if (state == State.HALF_OPEN) {
+            open(openNanos);
+        } else if (state == State.CLOSED) {
+            record(true);
+            if (outcomeCount >= minimumCalls && (double) failures / outcomeCount >= failureRateThreshold) {
+                open(openNanos);
+            }
+        }
+    }
+
+    /**
+     * Refuse calls for at least {@code duration}, e.g. as asked by a 429 Retry-After
+     */
+    public synchronized void holdOff(Duration duration) {
+        long nanos = duration.toNanos();
+        if (state == State.OPEN && openUntil - System.nanoTime() >= nanos) return;
+        open(nanos);
+    }
+
+    private void record(boolean failure) {
+        if (outcomeCount == outcomes.length) {
+            if (outcomes[nextOutcome]) failures--;
+        } else {
+            outcomeCount++;
+        }
+        outcomes[nextOutcome] = failure;
+        if (failure) failures++;
+        nextOutcome = (nextOutcome + 1) % outcomes.length;
+    }
+
+    private void open(long nanos) {
+        if (state != State.OPEN) {
+            opened.increment();
+            logger.warn("OpenAI circuit open for {} ms, AI adjustments are skipped", nanos / 1_000_000);
+        }
+        state = State.OPEN;
+        openUntil = System.nanoTime() + nanos;
+    }
+
+    private void close() {
+        state = State.CLOSED;
+        outcomeCount = 0;
+        nextOutcome = 0;
+        failures = 0;
+        logger.info("OpenAI circuit closed");
+    }
+}
@@ -0,0 +1,521 @@
+package com.smartlead.scoring;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.smartlead.entity.Lead;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.http.*;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestTemplate;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Micro-batching gateway for OpenAI score adjustments.
+ * Callers get a {@link CompletableFuture} per lead; a dispatcher thread groups
+ * pending leads into multi-lead prompts (up to {@code batchSize} leads, waiting
+ * at most {@code lingerMs} for a batch to fill) and at most {@code maxInFlight}
+ * chat-completion requests run at once. Each lead is labelled in the prompt
+ * with a key unique to its request (not its id, which two versions of an
+ * edited lead share), and the model's JSON array is matched back to the
+ * callers by that key. Leads missing from a
+ * partial or malformed answer are retried up to {@code maxAttempts} times and
+ * then fail with {@link AIAdjustmentUnavailableException}, as does any lead the
+ * gateway cannot serve, so scorers never mistake a missing answer for 0.
+ * Adjustments are looked up in {@link AIAdjustmentCache} first, and leads with
+ * identical prompt content share one pending request.
+ * <p>
+ * Leads pass their tenant's {@link TenantRateLimiter} bucket before joining
+ * the batch queue, and every call goes through {@link AICircuitBreaker}: while
+ * it is open, batches fail without calling OpenAI and {@link #isAvailable()}
+ * tells scorers not to queue leads at all. The
+ * HTTP client is a pooled, HTTP/2-capable JDK client with connect and read
+ * timeouts, so a slow OpenAI fails calls instead of pinning threads.
+ */
+@Component
+public class AIScoringGateway {
+
+    private static final Logger logger = LoggerFactory.getLogger(AIScoringGateway.class);
+
+    private static final int MAX_ADJUSTMENT = 20;
+
+    private final RestTemplate restTemplate;
+    private final ObjectMapper objectMapper;
+    private final AIAdjustmentCache adjustmentCache;
+    private final AICircuitBreaker circuitBreaker;
+    private final TenantRateLimiter rateLimiter;
+    private final String apiUrl;
+    private final String apiKey;
+    private final String model;
+    private final int batchSize;
+    private final long lingerNanos;
+    private final int maxInFlight;
+    private final int maxAttempts;
+
+    private final BlockingQueue<PendingAdjustment> pending;
+    private final ConcurrentMap<String, CompletableFuture<Integer>> pendingByContent = new ConcurrentHashMap<>();
+    private final Semaphore inFlight;
+    private final AtomicLong requestSequence = new AtomicLong();
+    private final AtomicInteger activeRequests = new AtomicInteger();
+    private ExecutorService workers;
+    private Thread dispatcher;
+    private volatile boolean running;
+
+    private final Timer requestsSucceeded;
+    private final Timer requestsFailed;
+    private final Timer requestsRateLimited;
+    private final Counter promptTokens;
+    private final Counter completionTokens;
+    private final Counter adjustmentsApplied;
+    private final Counter adjustmentsRetried;
+    private final Counter adjustmentsDropped;
+    private final Counter adjustmentsRejected;
+
+    @Autowired
+    public AIScoringGateway(RestTemplateBuilder restTemplateBuilder,
+                            ObjectMapper objectMapper,
+                            AIAdjustmentCache adjustmentCache,
+                            AICircuitBreaker circuitBreaker,
+                            TenantRateLimiter rateLimiter,
+                            MeterRegistry meterRegistry,
+                            @Value("${openai.api.url:https://api.openai.com/v1/chat/completions}") String apiUrl,
+                            @Value("${openai.api.key:}") String apiKey,
+                            @Value("${openai.model:gpt-4}") String model,
+                            @Value("${lead.scoring.ai.batch-size:10}") int batchSize,
+                            @Value("${lead.scoring.ai.linger-ms:20}") long lingerMs,
+                            @Value("${lead.scoring.ai.max-in-flight:4}") int maxInFlight,
+                            @Value("${lead.scoring.ai.max-attempts:2}") int maxAttempts,
+                            @Value("${lead.scoring.ai.queue-capacity:10000}") int queueCapacity,
+                            @Value("${openai.http.connect-timeout:2s}") Duration connectTimeout,
+                            @Value("${openai.http.read-timeout:20s}") Duration readTimeout) {
+        this(openAiClient(restTemplateBuilder, connectTimeout, readTimeout), objectMapper, adjustmentCache,
+             circuitBreaker, rateLimiter, meterRegistry, apiUrl, apiKey, model,
+             batchSize, lingerMs, maxInFlight, maxAttempts, queueCapacity);
+    }
+
+    public AIScoringGateway(RestTemplate restTemplate, ObjectMapper objectMapper, AIAdjustmentCache adjustmentCache,
+                            AICircuitBreaker circuitBreaker, TenantRateLimiter rateLimiter,
+                            MeterRegistry meterRegistry, String apiUrl, String apiKey, String model,
+                            int batchSize, long lingerMs, int maxInFlight, int maxAttempts, int queueCapacity) {
+        if (batchSize < 1 || maxInFlight < 1 || maxAttempts < 1) {
+            throw new IllegalArgumentException("batchSize, maxInFlight and maxAttempts must be positive");
+        }
+        this.restTemplate = restTemplate;
+        this.objectMapper = objectMapper;
+        this.adjustmentCache = adjustmentCache;
+        this.circuitBreaker = circuitBreaker;
+        this.rateLimiter = rateLimiter;
+        this.apiUrl = apiUrl;
+        this.apiKey = apiKey;
+        this.model = model;
+        this.batchSize = batchSize;
+        this.lingerNanos = TimeUnit.MILLISECONDS.toNanos(lingerMs);
+        this.maxInFlight = maxInFlight;
+        this.maxAttempts = maxAttempts;
+        this.pending = new LinkedBlockingQueue<>(queueCapacity);
+        this.inFlight = new Semaphore(maxInFlight);
+
+        this.requestsSucceeded = requestTimer(meterRegistry, "success");
+        this.requestsFailed = requestTimer(meterRegistry, "error");
+        this.requestsRateLimited = requestTimer(meterRegistry, "rate-limited");
+        this.promptTokens = tokenCounter(meterRegistry, "prompt");
+        this.completionTokens = tokenCounter(meterRegistry, "completion");
+        this.adjustmentsApplied = adjustmentCounter(meterRegistry, "applied");
+        this.adjustmentsRetried = adjustmentCounter(meterRegistry, "retried");
+        this.adjustmentsDropped = adjustmentCounter(meterRegistry, "dropped");
+        this.adjustmentsRejected = adjustmentCounter(meterRegistry, "rejected");
+        Gauge.builder("openai.queue.pending", this, AIScoringGateway::pendingCount)
+                .description("Leads waiting for an OpenAI batch")
+                .register(meterRegistry);
+        Gauge.builder("openai.requests.active", this, AIScoringGateway::inFlightCount)
+                .description("Chat-completion requests in flight")
+                .register(meterRegistry);
+    }
+
+    /**
+     * RestTemplate over one shared JDK HttpClient, which keeps a connection
+     * pool and negotiates HTTP/2 where the server offers it
+     */
+    public static RestTemplate openAiClient(RestTemplateBuilder restTemplateBuilder,
+                                            Duration connectTimeout, Duration readTimeout) {
+        HttpClient httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .connectTimeout(connectTimeout)
+                .build();
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+        requestFactory.setReadTimeout(readTimeout);
+        return restTemplateBuilder.requestFactory(() -> requestFactory).build();
+    }
+
+    private static Timer requestTimer(MeterRegistry meterRegistry, String outcome) {
+        return Timer.builder("openai.requests")
+                .description("OpenAI chat-completion round trips; outcome=error covers other HTTP errors, timeouts and transport failures")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    private static Counter tokenCounter(MeterRegistry meterRegistry, String type) {
+        return Counter.builder("openai.tokens")
+                .description("Tokens billed by OpenAI, from the response usage block")
+                .tag("type", type)
+                .register(meterRegistry);
+    }
+
+    private static Counter adjustmentCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("openai.adjustments")
+                .description("Per-lead outcomes: applied, retried (missing from the answer), dropped (no answer "
+                        + "after every attempt) or rejected (by the circuit breaker or a full tenant queue)")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public synchronized void start() {
+        if (running) return;
+        running = true;
+        AtomicInteger workerIds = new AtomicInteger();
+        workers = Executors.newFixedThreadPool(maxInFlight, r -> {
+            Thread t = new Thread(r, "ai-scoring-" + workerIds.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+        dispatcher = new Thread(this::dispatchLoop, "ai-scoring-dispatcher");
+        dispatcher.setDaemon(true);
+        dispatcher.start();
+    }
+
+    @PreDestroy
+    public synchronized void shutdown() {
+        if (!running) return;
+        running = false;
+        dispatcher.interrupt();
+        workers.shutdown();
+        try {
+            workers.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        List<PendingAdjustment> abandoned = new ArrayList<>();
+        pending.drainTo(abandoned);
+        abandoned.forEach(p -> p.unavailable("AI scoring gateway shut down"));
+    }
+
+    /**
+     * Whether an API key is configured
+     */
+    public boolean isConfigured() {
+        return apiKey != null && !apiKey.isEmpty();
+    }
+
+    /**
+     * Whether adjustments can be requested right now: configured and the circuit is not open
+     */
+    public boolean isAvailable() {
+        return isConfigured() && !circuitBreaker.isOpen();
+    }
+
+    /**
+     * Queue a lead for AI scoring; the future resolves to an adjustment in [-20, 20],
+     * or fails with {@link AIAdjustmentUnavailableException} when no answer could be had
+     */
+    public CompletableFuture<Integer> requestAdjustment(Lead lead) {
+        String contentKey = adjustmentCache.keyFor(lead, model);
+        Integer cached = adjustmentCache.get(contentKey);
+        if (cached != null) {
+            return CompletableFuture.completedFuture(cached);
+        }
+
+        PendingAdjustment request = new PendingAdjustment(String.valueOf(requestSequence.incrementAndGet()), contentKey, lead);
+
+        // Same content already queued or in flight: share its result instead of asking again
+        CompletableFuture<Integer> existing = pendingByContent.putIfAbsent(contentKey, request.future);
+        if (existing != null) {
+            return existing;
+        }
+        request.future.whenComplete((adjustment, error) -> pendingByContent.remove(contentKey, request.future));
+
+        rateLimiter.acquire(request.tenantId).whenComplete((permit, error) -> {
+            if (error != null) {
+                logger.warn("Tenant {} over its AI scoring limit, skipping adjustment for lead {}", request.tenantId, request.leadId);
+                adjustmentsRejected.increment();
+                request.unavailable("Tenant " + request.tenantId + " over its AI scoring limit");
+            } else if (!running || !pending.offer(request)) {
+                logger.warn("AI scoring queue unavailable or full, skipping adjustment for lead {}", request.leadId);
+                request.unavailable("AI scoring queue unavailable or full");
+            }
+        });
+        return request.future;
+    }
+
+    public int pendingCount() {
+        return pending.size();
+    }
+
+    public int inFlightCount() {
+        return activeRequests.get();
+    }
+
+    private void dispatchLoop() {
+        List<PendingAdjustment> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                batch.add(pending.take());
+                long deadline = System.nanoTime() + lingerNanos;
+                while (batch.size() < batchSize) {
+                    long remaining = deadline - System.nanoTime();
+                    PendingAdjustment next = remaining > 0 ? pending.poll(remaining, TimeUnit.NANOSECONDS) : pending.poll();
+                    if (next == null) break;
+                    batch.add(next);
+                }
+
+                // Circuit open: fail without calling OpenAI, scorers skip the AI stage
+                if (!circuitBreaker.tryAcquire()) {
+                    adjustmentsRejected.increment(batch.size());
+                    batch.forEach(p -> p.unavailable("OpenAI circuit open"));
+                    batch.clear();
+                    continue;
+                }
+
+                // Blocks while maxInFlight requests are running, so batches keep filling under load
+                inFlight.acquire();
+                List<PendingAdjustment> toSend = new ArrayList<>(batch);
+                batch.clear();
+                try {
+                    workers.execute(() -> {
+                        activeRequests.incrementAndGet();
+                        try {
+                            send(toSend);
+                        } finally {
+                            activeRequests.decrementAndGet();
+                            inFlight.release();
+                        }
+                    });
+                } catch (RejectedExecutionException e) {
+                    inFlight.release();
+                    toSend.forEach(p -> p.unavailable("AI scoring gateway shut down"));
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                batch.forEach(p -> p.unavailable("AI scoring gateway shut down"));
+                return;
+            }
+        }
+    }
+
+    private void send(List<PendingAdjustment> batch) {
+        Map<String, Integer> adjustments = Collections.emptyMap();
+        String content = null;
+        Timer.Sample sample = Timer.start();
+        try {
+            content = callOpenAI(buildBatchPrompt(batch), batch.size());
+            sample.stop(requestsSucceeded);
+            circuitBreaker.onSuccess();
+        } catch (HttpClientErrorException.TooManyRequests e) {
+            sample.stop(requestsRateLimited);
+            circuitBreaker.onFailure();
+            Duration retryAfter = retryAfter(e.getResponseHeaders());
+            if (retryAfter != null) {
+                circuitBreaker.holdOff(retryAfter);
+            }
+            logger.warn("OpenAI rate limit hit for {} leads (retry after {})", batch.size(), retryAfter);
+        } catch (Exception e) {
+            sample.stop(requestsFailed);
+            circuitBreaker.onFailure();
+            logger.error("Error calling OpenAI API for {} leads: {}", batch.size(), e.getMessage());
+        }
+        if (content != null) {
+            adjustments = parseBatchResponse(content);
+        }
+
+        // Counters move before the future settles, so a caller woken by it already sees them
+        for (PendingAdjustment request : batch) {
+            Integer adjustment = adjustments.get(request.key);
+            if (adjustment != null) {
+                adjustmentCache.put(request.contentKey, adjustment);
+                adjustmentsApplied.increment();
+                request.future.complete(adjustment);
+                continue;
+            }
+            if (++request.attempts < maxAttempts && running) {
+                logger.debug("No AI adjustment for lead {}, retrying (attempt {})", request.leadId, request.attempts + 1);
+                adjustmentsRetried.increment();
+                if (pending.offer(request)) continue;
+            }
+            adjustmentsDropped.increment();
+            request.unavailable("No AI adjustment after " + request.attempts + " attempts");
+        }
+    }
+
+    /**
+     * Retry-After in seconds (the form OpenAI sends), null when absent or not a number
+     */
+    private static Duration retryAfter(HttpHeaders headers) {
+        String value = headers != null ? headers.getFirst(HttpHeaders.RETRY_AFTER) : null;
+        if (value == null) return null;
+        try {
+            return Duration.ofMillis((long) (Double.parseDouble(value.trim()) * 1000));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Build one prompt covering every lead in the batch
+     */
+    private String buildBatchPrompt(List<PendingAdjustment> batch) {
+        StringBuilder prompt = new StringBuilder();
+        prompt.append("Analyze these sales leads and provide a scoring adjustment (-20 to +20) for each:\n\n");
+
+        for (PendingAdjustment request : batch) {
+            prompt.append("Lead ").append(request.key).append(":\n");
+            prompt.append("- Name: ").append(request.name).append("\n");
+            prompt.append("- Company: ").append(request.company).append("\n");
+            prompt.append("- Job Title: ").append(request.jobTitle).append("\n");
+            prompt.append("- Email: ").append(request.email).append("\n");
+            if (request.notes != null && !request.notes.isEmpty()) {
+                prompt.append("- Notes: ").append(request.notes).append("\n");
+            }
+            prompt.append("\n");
+        }
+
+        prompt.append("For every lead provide:\n");
+        prompt.append("1. A score adjustment between -20 and +20\n");
+        prompt.append("2. Brief reasoning (one sentence)\n");
+        prompt.append("3. Recommended next action\n\n");
+        prompt.append("Format your response as a JSON array with one object per lead:\n");
+        prompt.append("[\n");
+        prompt.append("  {\n");
+        prompt.append("    \"leadId\": \"<lead key as given above>\",\n");
+        prompt.append("    \"adjustment\": <number>,\n");
+        prompt.append("    \"reasoning\": \"<string>\",\n");
+        prompt.append("    \"nextAction\": \"<string>\"\n");
+        prompt.append("  }\n");
+        prompt.append("]");
+
+        return prompt.toString();
+    }
+
+    /**
+     * Call OpenAI API
+     */
+    private String callOpenAI(String prompt, int leadCount) throws Exception {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.setBearerAuth(apiKey);
+
+        Map<String, Object> requestBody = new HashMap<>();
+        requestBody.put("model", model);
+        requestBody.put("messages", Arrays.asList(
+            Map.of("role", "system", "content", "You are an expert sales analyst."),
+            Map.of("role", "user", "content", prompt)
+        ));
+        requestBody.put("temperature", 0.7);
+        requestBody.put("max_tokens", 200 * leadCount);
+
+        HttpEntity<Map<String, Object>> request = new HttpEntity<>(requestBody, headers);
+
+        ResponseEntity<String> response = restTemplate.exchange(
+            apiUrl,
+            HttpMethod.POST,
+            request,
+            String.class
+        );
+
+        if (response.getStatusCode() == HttpStatus.OK) {
+            JsonNode root = objectMapper.readTree(response.getBody());
+            JsonNode usage = root.path("usage");
+            promptTokens.increment(usage.path("prompt_tokens").asLong(0));
+            completionTokens.increment(usage.path("completion_tokens").asLong(0));
+            return root.path("choices").path(0).path("message").path("content").asText();
+        }
+
+        throw new RuntimeException("OpenAI API call failed: " + response.getStatusCode());
+    }
+
+    /**
+     * Parse the JSON array in the model output into adjustments keyed by request key.
+     * Entries without a key or a numeric adjustment are ignored.
+     */
+    Map<String, Integer> parseBatchResponse(String response) {
+        Map<String, Integer> adjustments = new HashMap<>();
+        try {
+            int startIdx = response.indexOf('[');
+            int endIdx = response.lastIndexOf(']') + 1;
+            if (startIdx < 0 || endIdx <= startIdx) {
+                logger.warn("AI response contains no JSON array");
+                return adjustments;
+            }
+
+            JsonNode entries = objectMapper.readTree(response.substring(startIdx, endIdx));
+            for (JsonNode entry : entries) {
+                String leadId = entry.path("leadId").asText("");
+                JsonNode adjustment = entry.path("adjustment");
+                if (leadId.isEmpty() || !(adjustment.isNumber() || adjustment.isTextual())) {
+                    continue;
+                }
+                int value;
+                try {
+                    value = adjustment.isNumber() ? adjustment.asInt() : Integer.parseInt(adjustment.asText().trim());
+                } catch (NumberFormatException e) {
+                    continue;
+                }
+                adjustments.put(leadId, Math.max(-MAX_ADJUSTMENT, Math.min(MAX_ADJUSTMENT, value)));
+                logger.debug("AI Adjustment for request {}: {} - Reasoning: {}",
+                            leadId, value, entry.path("reasoning").asText(""));
+            }
+        } catch (Exception e) {
+            logger.warn("Error parsing AI response: {}", e.getMessage());
+        }
+        return adjustments;
+    }
+
+    /**
+     * Lead fields captured at submission time, so workers never touch the entity
+     */
+    private static final class PendingAdjustment {
+        private final String key;
+        private final String contentKey;
+        private final Long leadId;
+        private final Long tenantId;
+        private final String name;
+        private final String company;
+        private final String jobTitle;
+        private final String email;
+        private final String notes;
+        private final CompletableFuture<Integer> future = new CompletableFuture<>();
+        private int attempts;
+
+        private PendingAdjustment(String key, String contentKey, Lead lead) {
+            this.key = key;
+            this.contentKey = contentKey;
+            this.leadId = lead.getId();
+            this.tenantId = lead.getTenant() != null ? lead.getTenant().getId() : null;
+            this.name = lead.getName();
+            this.company = lead.getCompany();
+            this.jobTitle = lead.getJobTitle();
+            this.email = lead.getEmail();
+            this.notes = lead.getNotes();
+        }
+
+        private void unavailable(String reason) {
+            future.completeExceptionally(new AIAdjustmentUnavailableException(reason));
+        }
+    }
+}
@@ -0,0 +1,200 @@
+package com.smartlead.scoring;
+
+import com.smartlead.entity.Interaction.InteractionType;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Immutable, compiled form of {@link ScoringRules}.
+ * All keyword tables are folded into {@link KeywordAutomaton}s once, so the
+ * scoring methods below do a single pass over each attribute and allocate
+ * nothing. Instances are thread-safe and shared across scoring threads.
+ */
+public final class CompiledScoringRules {
+
+    private final KeywordAutomaton freeEmailDomains;
+    private final String[] nonBusinessEmailSuffixes;
+    private final int freeEmailScore;
+    private final int businessEmailScore;
+    private final int otherEmailScore;
+
+    private final KeywordAutomaton premiumCompanyIndicators;
+    private final int premiumCompanyScore;
+    private final int defaultCompanyScore;
+
+    private final KeywordAutomaton jobTitleTiers;
+    private final int[] jobTitleTierScores;
+    private final int defaultJobTitleScore;
+
+    private final KeywordAutomaton leadSources;
+    private final int[] leadSourceScores;
+    private final int defaultLeadSourceScore;
+
+    private final KeywordAutomaton interactionTypes;
+    private final int[] interactionTypeScores;
+    private final int defaultInteractionScore;
+    private final int[] interactionScoresByType;
+
+    private final KeywordAutomaton needIndicators;
+    private final int needIndicatorPoints;
+    private final int maxNeedScore;
+
+    private CompiledScoringRules(ScoringRules rules) {
+        List<String> domains = new ArrayList<>();
+        for (String domain : rules.getFreeEmailDomains()) {
+            domains.add(domain.startsWith("@") ? domain : "@" + domain);
+        }
+        this.freeEmailDomains = KeywordAutomaton.compile(domains);
+        this.nonBusinessEmailSuffixes = rules.getNonBusinessEmailSuffixes().toArray(new String[0]);
+        this.freeEmailScore = rules.getFreeEmailScore();
+        this.businessEmailScore = rules.getBusinessEmailScore();
+        this.otherEmailScore = rules.getOtherEmailScore();
+
+        this.premiumCompanyIndicators = KeywordAutomaton.compile(rules.getPremiumCompanyIndicators());
+        this.premiumCompanyScore = rules.getPremiumCompanyScore();
+        this.defaultCompanyScore = rules.getDefaultCompanyScore();
+
+        // Every keyword of a tier gets the tier's index as rank, so earlier tiers win
+        List<String> titleKeywords = new ArrayList<>();
+        List<Integer> titleRanks = new ArrayList<>();
+        List<ScoringRules.Tier> tiers = rules.getJobTitleTiers();
+        this.jobTitleTierScores = new int[tiers.size()];
+        for (int t = 0; t < tiers.size(); t++) {
+            jobTitleTierScores[t] = tiers.get(t).getScore();
+            for (String keyword : tiers.get(t).getKeywords()) {
+                titleKeywords.add(keyword);
+                titleRanks.add(t);
+            }
+        }
+        this.jobTitleTiers = KeywordAutomaton.compile(titleKeywords,
+                titleRanks.stream().mapToInt(Integer::intValue).toArray());
+        this.defaultJobTitleScore = rules.getDefaultJobTitleScore();
+
+        this.leadSources = compileWeighted(rules.getLeadSources());
+        this.leadSourceScores = scoresOf(rules.getLeadSources());
+        this.defaultLeadSourceScore = rules.getDefaultLeadSourceScore();
+
+        this.interactionTypes = compileWeighted(rules.getInteractionTypes());
+        this.interactionTypeScores = scoresOf(rules.getInteractionTypes());
+        this.defaultInteractionScore = rules.getDefaultInteractionScore();
+        InteractionType[] types = InteractionType.values();
+        this.interactionScoresByType = new int[types.length];
+        for (InteractionType type : types) {
+            interactionScoresByType[type.ordinal()] = scoreInteractionType(type.name());
+        }
+
+        this.needIndicators = KeywordAutomaton.compile(rules.getNeedIndicators());
+        if (needIndicators.keywordCount() > 64) {
+            throw new IllegalArgumentException("At most 64 need indicators are supported");
+        }
+        this.needIndicatorPoints = rules.getNeedIndicatorPoints();
+        this.maxNeedScore = rules.getMaxNeedScore();
+    }
+
+    public static CompiledScoringRules compile(ScoringRules rules) {
+        return new CompiledScoringRules(rules);
+    }
+
+    /**
+     * Score email domain
+     */
+    public int scoreEmailDomain(String email) {
+        if (email == null || email.isEmpty()) return 0;
+
+        // Free email providers - lower score
+        if (freeEmailDomains.matches(email)) {
+            return freeEmailScore;
+        }
+
+        // Business email - higher score
+        if (email.indexOf('@') >= 0 && !endsWithNonBusinessSuffix(email)) {
+            return businessEmailScore;
+        }
+
+        return otherEmailScore;
+    }
+
+    /**
+     * Score company information
+     */
+    public int scoreCompany(String company) {
+        if (company == null || company.isBlank()) return 0;
+
+        return premiumCompanyIndicators.matches(company) ? premiumCompanyScore : defaultCompanyScore;
+    }
+
+    /**
+     * Score job title for decision-making authority
+     */
+    public int scoreJobTitle(String jobTitle) {
+        if (jobTitle == null || jobTitle.isEmpty()) return 0;
+
+        int tier = jobTitleTiers.bestRank(jobTitle);
+        return tier == KeywordAutomaton.NO_MATCH ? defaultJobTitleScore : jobTitleTierScores[tier];
+    }
+
+    /**
+     * Score lead source quality
+     */
+    public int scoreLeadSource(String source) {
+        if (source == null) return defaultLeadSourceScore;
+
+        int idx = leadSources.bestRank(source);
+        return idx == KeywordAutomaton.NO_MATCH ? defaultLeadSourceScore : leadSourceScores[idx];
+    }
+
+    /**
+     * Score a free-form interaction type
+     */
+    public int scoreInteractionType(String type) {
+        if (type == null) return 0;
+
+        int idx = interactionTypes.bestRank(type);
+        return idx == KeywordAutomaton.NO_MATCH ? defaultInteractionScore : interactionTypeScores[idx];
+    }
+
+    /**
+     * Score an interaction type (precomputed per enum constant)
+     */
+    public int scoreInteractionType(InteractionType type) {
+        if (type == null) return 0;
+
+        return interactionScoresByType[type.ordinal()];
+    }
+
+    /**
+     * Need score from pain-point indicators in notes
+     */
+    public int scoreNeed(String notes) {
+        if (notes == null || notes.isEmpty()) return 0;
+
+        return Math.min(needIndicators.countDistinct(notes) * needIndicatorPoints, maxNeedScore);
+    }
+
+    private boolean endsWithNonBusinessSuffix(String email) {
+        for (String suffix : nonBusinessEmailSuffixes) {
+            int offset = email.length() - suffix.length();
+            if (offset >= 0 && email.regionMatches(true, offset, suffix, 0, suffix.length())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static KeywordAutomaton compileWeighted(List<ScoringRules.WeightedKeyword> entries) {
+        List<String> keywords = new ArrayList<>(entries.size());
+        for (ScoringRules.WeightedKeyword entry : entries) {
+            keywords.add(entry.getKeyword());
+        }
+        return KeywordAutomaton.compile(keywords);
+    }
+
+    private static int[] scoresOf(List<ScoringRules.WeightedKeyword> entries) {
+        int[] scores = new int[entries.size()];
+        for (int i = 0; i < scores.length; i++) {
+            scores[i] = entries.get(i).getScore();
+        }
+        return scores;
+    }
+}
@@ -0,0 +1,50 @@
+package com.smartlead.scoring;
+
+import com.smartlead.entity.Interaction.InteractionType;
+
+/**
+ * Interaction aggregates for one lead: total count, count within the recent
+ * window, and counts per {@link InteractionType}. Built from the lead's
+ * engagement summary, so scoring never needs the interaction entities themselves.
+ */
+public final class EngagementFeatures {
+
+    private static final InteractionType[] TYPES = InteractionType.values();
+    private static final EngagementFeatures EMPTY = new EngagementFeatures();
+
+    private long total;
+    private long recent;
+    private final long[] countsByType = new long[TYPES.length];
+    private long untypedCount;
+
+    public static EngagementFeatures empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Fold one (type, count, recentCount) group into the aggregates
+     */
+    public void add(InteractionType type, long count, long recentCount) {
+        total += count;
+        recent += recentCount;
+        if (type == null) {
+            untypedCount += count;
+        } else {
+            countsByType[type.ordinal()] += count;
+        }
+    }
+
+    public void addRecent(long recentCount) {
+        recent += recentCount;
+    }
+
+    public long getTotal() { return total; }
+
+    public long getRecent() { return recent; }
+
+    public long getCount(InteractionType type) { return countsByType[type.ordinal()]; }
+
+    public long getUntypedCount() { return untypedCount; }
+
+    public boolean isEmpty() { return total == 0; }
+}
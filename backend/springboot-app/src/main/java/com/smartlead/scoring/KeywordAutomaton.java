@@ -0,0 +1,218 @@
+package com.smartlead.scoring;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.TreeSet;
+
+/**
+ * Immutable Aho-Corasick automaton over a keyword table.
+ * Keywords are matched case-insensitively as substrings, in a single pass
+ * over the input and without allocating. Every keyword carries a rank;
+ * lower ranks take precedence when several keywords match.
+ */
+public final class KeywordAutomaton {
+
+    public static final int NO_MATCH = Integer.MAX_VALUE;
+
+    private static final int MAX_MASK_KEYWORDS = 64;
+
+    private final int[] asciiClasses;
+    private final char[] extraChars;
+    private final int[] extraClasses;
+    private final int alphabetSize;
+    private final int[] transitions;
+    private final int[] bestRank;
+    private final long[] matchMask;
+    private final int keywordCount;
+
+    private KeywordAutomaton(int[] asciiClasses, char[] extraChars, int[] extraClasses, int alphabetSize,
+                             int[] transitions, int[] bestRank, long[] matchMask, int keywordCount) {
+        this.asciiClasses = asciiClasses;
+        this.extraChars = extraChars;
+        this.extraClasses = extraClasses;
+        this.alphabetSize = alphabetSize;
+        this.transitions = transitions;
+        this.bestRank = bestRank;
+        this.matchMask = matchMask;
+        this.keywordCount = keywordCount;
+    }
+
+    /**
+     * Compile keywords where each keyword's rank is its position in the list
+     */
+    public static KeywordAutomaton compile(List<String> keywords) {
+        int[] ranks = new int[keywords.size()];
+        for (int i = 0; i < ranks.length; i++) {
+            ranks[i] = i;
+        }
+        return compile(keywords, ranks);
+    }
+
+    /**
+     * Compile keywords with explicit ranks (lower rank wins)
+     */
+    public static KeywordAutomaton compile(List<String> keywords, int[] ranks) {
+        if (keywords.size() != ranks.length) {
+            throw new IllegalArgumentException("Each keyword needs exactly one rank");
+        }
+
+        List<String> normalized = new ArrayList<>(keywords.size());
+        TreeSet<Character> alphabet = new TreeSet<>();
+        for (String keyword : keywords) {
+            if (keyword == null || keyword.isEmpty()) {
+                throw new IllegalArgumentException("Keywords must not be empty");
+            }
+            String lower = keyword.toLowerCase(Locale.ROOT);
+            normalized.add(lower);
+            for (int i = 0; i < lower.length(); i++) {
+                alphabet.add(lower.charAt(i));
+            }
+        }
+
+        // Character classes: 0 is "any character not used by a keyword"
+        int[] asciiClasses = new int[128];
+        List<Character> extras = new ArrayList<>();
+        int nextClass = 1;
+        for (char c : alphabet) {
+            if (c < 128) {
+                asciiClasses[c] = nextClass++;
+            } else {
+                extras.add(c);
+            }
+        }
+        char[] extraChars = new char[extras.size()];
+        int[] extraClasses = new int[extras.size()];
+        for (int i = 0; i < extraChars.length; i++) {
+            extraChars[i] = extras.get(i);
+            extraClasses[i] = nextClass++;
+        }
+        int alphabetSize = nextClass;
+
+        // Trie
+        int maxStates = 1;
+        for (String keyword : normalized) {
+            maxStates += keyword.length();
+        }
+        int[] trie = new int[maxStates * alphabetSize];
+        Arrays.fill(trie, -1);
+        int[] rank = new int[maxStates];
+        Arrays.fill(rank, NO_MATCH);
+        long[] mask = new long[maxStates];
+        int states = 1;
+
+        for (int k = 0; k < normalized.size(); k++) {
+            String keyword = normalized.get(k);
+            int state = 0;
+            for (int i = 0; i < keyword.length(); i++) {
+                int cls = classOf(keyword.charAt(i), asciiClasses, extraChars, extraClasses);
+                int next = trie[state * alphabetSize + cls];
+                if (next < 0) {
+                    next = states++;
+                    trie[state * alphabetSize + cls] = next;
+                }
+                state = next;
+            }
+            rank[state] = Math.min(rank[state], ranks[k]);
+            if (k < MAX_MASK_KEYWORDS) {
+                mask[state] |= 1L << k;
+            }
+        }
+
+        // Breadth-first failure links, folded into a full DFA transition table
+        int[] delta = new int[states * alphabetSize];
+        int[] failure = new int[states];
+        ArrayDeque<Integer> queue = new ArrayDeque<>();
+        for (int cls = 0; cls < alphabetSize; cls++) {
+            int next = trie[cls];
+            if (next < 0) {
+                delta[cls] = 0;
+            } else {
+                delta[cls] = next;
+                failure[next] = 0;
+                queue.add(next);
+            }
+        }
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            int fail = failure[state];
+            rank[state] = Math.min(rank[state], rank[fail]);
+            mask[state] |= mask[fail];
+            for (int cls = 0; cls < alphabetSize; cls++) {
+                int next = trie[state * alphabetSize + cls];
+                if (next < 0) {
+                    delta[state * alphabetSize + cls] = delta[fail * alphabetSize + cls];
+                } else {
+                    delta[state * alphabetSize + cls] = next;
+                    failure[next] = delta[fail * alphabetSize + cls];
+                    queue.add(next);
+                }
+            }
+        }
+
+        return new KeywordAutomaton(asciiClasses, extraChars, extraClasses, alphabetSize,
+                delta, Arrays.copyOf(rank, states), Arrays.copyOf(mask, states), normalized.size());
+    }
+
+    /**
+     * Lowest rank of any keyword contained in the text, or {@link #NO_MATCH}
+     */
+    public int bestRank(CharSequence text) {
+        if (text == null) return NO_MATCH;
+
+        int state = 0;
+        int best = NO_MATCH;
+        for (int i = 0, n = text.length(); i < n; i++) {
+            state = transitions[state * alphabetSize + classOf(text.charAt(i))];
+            int r = bestRank[state];
+            if (r < best) {
+                best = r;
+                if (best == 0) break;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Whether any keyword is contained in the text
+     */
+    public boolean matches(CharSequence text) {
+        return bestRank(text) != NO_MATCH;
+    }
+
+    /**
+     * Number of distinct keywords contained in the text
+     */
+    public int countDistinct(CharSequence text) {
+        if (keywordCount > MAX_MASK_KEYWORDS) {
+            throw new IllegalStateException("Distinct counting supports at most " + MAX_MASK_KEYWORDS + " keywords");
+        }
+        if (text == null) return 0;
+
+        int state = 0;
+        long seen = 0L;
+        for (int i = 0, n = text.length(); i < n; i++) {
+            state = transitions[state * alphabetSize + classOf(text.charAt(i))];
+            seen |= matchMask[state];
+        }
+        return Long.bitCount(seen);
+    }
+
+    public int keywordCount() {
+        return keywordCount;
+    }
+
+    private int classOf(char c) {
+        return classOf(Character.toLowerCase(c), asciiClasses, extraChars, extraClasses);
+    }
+
+    private static int classOf(char c, int[] asciiClasses, char[] extraChars, int[] extraClasses) {
+        if (c < 128) {
+            return asciiClasses[c];
+        }
+        int idx = Arrays.binarySearch(extraChars, c);
+        return idx >= 0 ? extraClasses[idx] : 0;
+    }
+}
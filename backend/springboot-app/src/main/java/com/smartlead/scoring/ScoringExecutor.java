@@ -0,0 +1,92 @@
+package com.smartlead.scoring;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Runs blocking scoring work (engagement reads, waits on OpenAI adjustments)
+ * on its own virtual threads, one per task, with at most
+ * {@code maxConcurrency} tasks running at once. Tasks over the limit park on
+ * a fair semaphore, which holds no carrier thread, so a large batch neither
+ * ties up the common ForkJoinPool nor floods the database and the gateway.
+ */
+@Component
+public class ScoringExecutor {
+
+    private final ExecutorService executor;
+    private final Semaphore permits;
+    private final int maxConcurrency;
+
+    @Autowired
+    public ScoringExecutor(MeterRegistry meterRegistry,
+                           @Value("${lead.scoring.executor.max-concurrency:256}") int maxConcurrency) {
+        if (maxConcurrency < 1) {
+            throw new IllegalArgumentException("maxConcurrency must be positive");
+        }
+        this.maxConcurrency = maxConcurrency;
+        this.permits = new Semaphore(maxConcurrency, true);
+        this.executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("lead-scoring-", 1).factory());
+
+        Gauge.builder("lead.scoring.executor.active", this, ScoringExecutor::activeCount)
+                .description("Scoring tasks running on the virtual-thread scoring executor")
+                .register(meterRegistry);
+        Gauge.builder("lead.scoring.executor.waiting", permits, Semaphore::getQueueLength)
+                .description("Scoring tasks parked waiting for a concurrency permit")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Run the task on a virtual thread once a permit is free; the future
+     * fails with a {@link CancellationException} if the executor shuts down first
+     */
+    public <T> CompletableFuture<T> submit(Supplier<T> task) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                permits.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new CancellationException("Scoring executor is shutting down");
+            }
+            try {
+                return task.get();
+            } finally {
+                permits.release();
+            }
+        }, executor);
+    }
+
+    /**
+     * Run a subtask of the caller's scoring on its own virtual thread without
+     * taking a permit, so a task already holding one can fan out without
+     * waiting on tasks queued behind it
+     */
+    public <T> CompletableFuture<T> fork(Supplier<T> subtask) {
+        return CompletableFuture.supplyAsync(subtask, executor);
+    }
+
+    public int activeCount() {
+        return maxConcurrency - permits.availablePermits();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+        try {
+            executor.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
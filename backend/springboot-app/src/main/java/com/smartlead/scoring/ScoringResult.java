@@ -0,0 +1,40 @@
+package com.smartlead.scoring;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Outcome of full lead scoring. A stage that missed the per-lead deadline
+ * contributes nothing (no engagement points, no AI adjustment) and is listed
+ * in {@link #getTimedOutStages()}; one that failed or was refused (tenant
+ * over its AI limit, OpenAI circuit open) is listed in
+ * {@link #getSkippedStages()}. Either way the score is partial and worth
+ * computing again later.
+ */
+public final class ScoringResult {
+
+    public enum Stage { ENGAGEMENT, AI }
+
+    private final int score;
+    private final Set<Stage> timedOutStages;
+    private final Set<Stage> skippedStages;
+
+    public ScoringResult(int score, Set<Stage> timedOutStages, Set<Stage> skippedStages) {
+        this.score = score;
+        this.timedOutStages = copyOf(timedOutStages);
+        this.skippedStages = copyOf(skippedStages);
+    }
+
+    private static Set<Stage> copyOf(Set<Stage> stages) {
+        return stages.isEmpty() ? Collections.emptySet() : Collections.unmodifiableSet(EnumSet.copyOf(stages));
+    }
+
+    public int getScore() { return score; }
+
+    public Set<Stage> getTimedOutStages() { return timedOutStages; }
+
+    public Set<Stage> getSkippedStages() { return skippedStages; }
+
+    public boolean isPartial() { return !timedOutStages.isEmpty() || !skippedStages.isEmpty(); }
+}
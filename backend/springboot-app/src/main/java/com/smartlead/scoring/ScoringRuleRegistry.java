@@ -0,0 +1,104 @@
+package com.smartlead.scoring;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.smartlead.entity.Tenant;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Holds compiled scoring rules: one default rule set plus optional per-tenant overrides.
+ * Defaults come from {@code lead.scoring.rules.default}; tenant overrides are
+ * {@code <tenantId>.json} files in {@code lead.scoring.rules.tenant-dir} or
+ * registered at runtime via {@link #register(String, ScoringRules)}.
+ */
+@Component
+public class ScoringRuleRegistry {
+
+    private static final Logger logger = LoggerFactory.getLogger(ScoringRuleRegistry.class);
+
+    private final ObjectMapper objectMapper;
+    private final CompiledScoringRules defaultRules;
+    private final Map<String, CompiledScoringRules> tenantRules = new ConcurrentHashMap<>();
+
+    public ScoringRuleRegistry(ObjectMapper objectMapper,
+                               @Value("${lead.scoring.rules.default:classpath:scoring-rules/default.json}") Resource defaultRulesResource,
+                               @Value("${lead.scoring.rules.tenant-dir:}") String tenantRulesDir) {
+        this.objectMapper = objectMapper;
+        try (InputStream in = defaultRulesResource.getInputStream()) {
+            this.defaultRules = CompiledScoringRules.compile(read(in));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to load default scoring rules", e);
+        }
+        if (tenantRulesDir != null && !tenantRulesDir.isEmpty()) {
+            loadTenantRules(Paths.get(tenantRulesDir));
+        }
+    }
+
+    /**
+     * Rules for the given tenant, falling back to the defaults
+     */
+    public CompiledScoringRules rulesFor(Tenant tenant) {
+        if (tenant == null || tenant.getTenantId() == null) {
+            return defaultRules;
+        }
+        CompiledScoringRules rules = tenantRules.get(tenant.getTenantId());
+        return rules != null ? rules : defaultRules;
+    }
+
+    public CompiledScoringRules defaultRules() {
+        return defaultRules;
+    }
+
+    /**
+     * Compile and install rules for a tenant, replacing any previous set
+     */
+    public void register(String tenantId, ScoringRules rules) {
+        tenantRules.put(tenantId, CompiledScoringRules.compile(rules));
+        logger.info("Registered scoring rules for tenant {}", tenantId);
+    }
+
+    public void register(String tenantId, InputStream json) throws IOException {
+        register(tenantId, read(json));
+    }
+
+    public void remove(String tenantId) {
+        tenantRules.remove(tenantId);
+    }
+
+    private void loadTenantRules(Path dir) {
+        if (!Files.isDirectory(dir)) {
+            logger.warn("Tenant scoring rules directory {} does not exist", dir);
+            return;
+        }
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(dir, "*.json")) {
+            for (Path file : files) {
+                String fileName = file.getFileName().toString();
+                String tenantId = fileName.substring(0, fileName.length() - ".json".length());
+                try (InputStream in = Files.newInputStream(file)) {
+                    register(tenantId, in);
+                } catch (Exception e) {
+                    logger.error("Invalid scoring rules in {}: {}", file, e.getMessage());
+                }
+            }
+        } catch (IOException e) {
+            logger.error("Unable to read tenant scoring rules from {}: {}", dir, e.getMessage());
+        }
+    }
+
+    private ScoringRules read(InputStream json) throws IOException {
+        return objectMapper.readValue(json, ScoringRules.class);
+    }
+}
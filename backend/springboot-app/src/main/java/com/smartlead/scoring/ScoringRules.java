@@ -0,0 +1,140 @@
+package com.smartlead.scoring;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Rule tables for rule-based lead scoring.
+ * Plain data so the tables can be loaded from JSON per tenant;
+ * compile with {@link CompiledScoringRules#compile(ScoringRules)} before use.
+ * Tiers and weighted keywords are evaluated in list order: the first
+ * matching entry wins.
+ */
+public class ScoringRules {
+
+    // Email domain
+    private List<String> freeEmailDomains = new ArrayList<>();
+    private List<String> nonBusinessEmailSuffixes = new ArrayList<>();
+    private int freeEmailScore;
+    private int businessEmailScore;
+    private int otherEmailScore;
+
+    // Company
+    private List<String> premiumCompanyIndicators = new ArrayList<>();
+    private int premiumCompanyScore;
+    private int defaultCompanyScore;
+
+    // Job title / authority
+    private List<Tier> jobTitleTiers = new ArrayList<>();
+    private int defaultJobTitleScore;
+
+    // Lead source
+    private List<WeightedKeyword> leadSources = new ArrayList<>();
+    private int defaultLeadSourceScore;
+
+    // Interaction types
+    private List<WeightedKeyword> interactionTypes = new ArrayList<>();
+    private int defaultInteractionScore;
+
+    // Need indicators in notes
+    private List<String> needIndicators = new ArrayList<>();
+    private int needIndicatorPoints;
+    private int maxNeedScore;
+
+
+    public ScoringRules() {}
+
+
+    public List<String> getFreeEmailDomains() { return freeEmailDomains; }
+    public void setFreeEmailDomains(List<String> freeEmailDomains) { this.freeEmailDomains = freeEmailDomains; }
+
+    public List<String> getNonBusinessEmailSuffixes() { return nonBusinessEmailSuffixes; }
+    public void setNonBusinessEmailSuffixes(List<String> nonBusinessEmailSuffixes) { this.nonBusinessEmailSuffixes = nonBusinessEmailSuffixes; }
+
+    public int getFreeEmailScore() { return freeEmailScore; }
+    public void setFreeEmailScore(int freeEmailScore) { this.freeEmailScore = freeEmailScore; }
+
+    public int getBusinessEmailScore() { return businessEmailScore; }
+    public void setBusinessEmailScore(int businessEmailScore) { this.businessEmailScore = businessEmailScore; }
+
+    public int getOtherEmailScore() { return otherEmailScore; }
+    public void setOtherEmailScore(int otherEmailScore) { this.otherEmailScore = otherEmailScore; }
+
+    public List<String> getPremiumCompanyIndicators() { return premiumCompanyIndicators; }
+    public void setPremiumCompanyIndicators(List<String> premiumCompanyIndicators) { this.premiumCompanyIndicators = premiumCompanyIndicators; }
+
+    public int getPremiumCompanyScore() { return premiumCompanyScore; }
+    public void setPremiumCompanyScore(int premiumCompanyScore) { this.premiumCompanyScore = premiumCompanyScore; }
+
+    public int getDefaultCompanyScore() { return defaultCompanyScore; }
+    public void setDefaultCompanyScore(int defaultCompanyScore) { this.defaultCompanyScore = defaultCompanyScore; }
+
+    public List<Tier> getJobTitleTiers() { return jobTitleTiers; }
+    public void setJobTitleTiers(List<Tier> jobTitleTiers) { this.jobTitleTiers = jobTitleTiers; }
+
+    public int getDefaultJobTitleScore() { return defaultJobTitleScore; }
+    public void setDefaultJobTitleScore(int defaultJobTitleScore) { this.defaultJobTitleScore = defaultJobTitleScore; }
+
+    public List<WeightedKeyword> getLeadSources() { return leadSources; }
+    public void setLeadSources(List<WeightedKeyword> leadSources) { this.leadSources = leadSources; }
+
+    public int getDefaultLeadSourceScore() { return defaultLeadSourceScore; }
+    public void setDefaultLeadSourceScore(int defaultLeadSourceScore) { this.defaultLeadSourceScore = defaultLeadSourceScore; }
+
+    public List<WeightedKeyword> getInteractionTypes() { return interactionTypes; }
+    public void setInteractionTypes(List<WeightedKeyword> interactionTypes) { this.interactionTypes = interactionTypes; }
+
+    public int getDefaultInteractionScore() { return defaultInteractionScore; }
+    public void setDefaultInteractionScore(int defaultInteractionScore) { this.defaultInteractionScore = defaultInteractionScore; }
+
+    public List<String> getNeedIndicators() { return needIndicators; }
+    public void setNeedIndicators(List<String> needIndicators) { this.needIndicators = needIndicators; }
+
+    public int getNeedIndicatorPoints() { return needIndicatorPoints; }
+    public void setNeedIndicatorPoints(int needIndicatorPoints) { this.needIndicatorPoints = needIndicatorPoints; }
+
+    public int getMaxNeedScore() { return maxNeedScore; }
+    public void setMaxNeedScore(int maxNeedScore) { this.maxNeedScore = maxNeedScore; }
+
+    /**
+     * A group of keywords sharing one score
+     */
+    public static class Tier {
+        private int score;
+        private List<String> keywords = new ArrayList<>();
+
+        public Tier() {}
+
+        public Tier(int score, List<String> keywords) {
+            this.score = score;
+            this.keywords = keywords;
+        }
+
+        public int getScore() { return score; }
+        public void setScore(int score) { this.score = score; }
+
+        public List<String> getKeywords() { return keywords; }
+        public void setKeywords(List<String> keywords) { this.keywords = keywords; }
+    }
+
+    /**
+     * A single keyword with its score
+     */
+    public static class WeightedKeyword {
+        private String keyword;
+        private int score;
+
+        public WeightedKeyword() {}
+
+        public WeightedKeyword(String keyword, int score) {
+            this.keyword = keyword;
+            this.score = score;
+        }
+
+        public String getKeyword() { return keyword; }
+        public void setKeyword(String keyword) { this.keyword = keyword; }
+
+        public int getScore() { return score; }
+        public void setScore(int score) { this.score = score; }
+    }
+}
@@ -0,0 +1,201 @@
+package com.smartlead.scoring;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Per-tenant token buckets in front of the OpenAI gateway, one token per
+ * lead, so one tenant's bulk rescoring cannot use up the whole OpenAI rate
+ * limit. A lead that finds its tenant's bucket empty waits in that tenant's
+ * FIFO queue and is let through as tokens refill; once the queue holds
+ * {@code queueCapacity} leads, further ones are rejected. Idle tenants with a
+ * full bucket are forgotten. A rate of 0 disables limiting.
+ */
+@Component
+public class TenantRateLimiter {
+
+    // Bucket key for leads without a tenant
+    private static final Long NO_TENANT = 0L;
+
+    private final double tokensPerNano;
+    private final double burst;
+    private final int queueCapacity;
+    private final long drainIntervalMs;
+    private final ConcurrentMap<Long, Bucket> buckets = new ConcurrentHashMap<>();
+    private final AtomicInteger queued = new AtomicInteger();
+    private ScheduledExecutorService drainer;
+    private volatile boolean running;
+
+    private final Counter admitted;
+    private final Counter delayed;
+    private final Counter rejected;
+
+    @Autowired
+    public TenantRateLimiter(MeterRegistry meterRegistry,
+                             @Value("${lead.scoring.ai.tenant-limit.leads-per-second:5}") double leadsPerSecond,
+                             @Value("${lead.scoring.ai.tenant-limit.burst:50}") int burst,
+                             @Value("${lead.scoring.ai.tenant-limit.queue-capacity:5000}") int queueCapacity,
+                             @Value("${lead.scoring.ai.tenant-limit.drain-interval-ms:50}") long drainIntervalMs) {
+        this.tokensPerNano = Math.max(leadsPerSecond, 0) / 1_000_000_000.0;
+        this.burst = Math.max(burst, 1);
+        this.queueCapacity = queueCapacity;
+        this.drainIntervalMs = drainIntervalMs;
+
+        this.admitted = admissionCounter(meterRegistry, "admitted");
+        this.delayed = admissionCounter(meterRegistry, "queued");
+        this.rejected = admissionCounter(meterRegistry, "rejected");
+        Gauge.builder("openai.tenant.queue", queued, AtomicInteger::get)
+                .description("Leads waiting for their tenant's OpenAI rate limit")
+                .register(meterRegistry);
+    }
+
+    private static Counter admissionCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("openai.tenant.admissions")
+                .description("Leads passing the per-tenant OpenAI rate limit: admitted at once, queued first, or rejected")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public synchronized void start() {
+        if (drainer != null || tokensPerNano == 0) return;
+        drainer = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "ai-tenant-limiter");
+            t.setDaemon(true);
+            return t;
+        });
+        drainer.scheduleWithFixedDelay(this::drain, drainIntervalMs, drainIntervalMs, TimeUnit.MILLISECONDS);
+        running = true;
+    }
+
+    @PreDestroy
+    public synchronized void shutdown() {
+        if (drainer == null) return;
+        running = false;
+        drainer.shutdownNow();
+        drainer = null;
+        List<CompletableFuture<Void>> abandoned = new ArrayList<>();
+        for (Long tenantId : buckets.keySet()) {
+            buckets.computeIfPresent(tenantId, (id, bucket) -> {
+                abandoned.addAll(bucket.waiting);
+                return null;
+            });
+        }
+        queued.addAndGet(-abandoned.size());
+        abandoned.forEach(waiter -> waiter.completeExceptionally(new RejectedExecutionException("Rate limiter stopped")));
+    }
+
+    /**
+     * Completes once the tenant may send one more lead: at once when a token is
+     * free, later when queued, exceptionally with a
+     * {@link RejectedExecutionException} when the tenant's queue is full or
+     * the limiter is not running
+     */
+    public CompletableFuture<Void> acquire(Long tenantId) {
+        if (tokensPerNano == 0) {
+            return CompletableFuture.completedFuture(null);
+        }
+        if (!running) {
+            return CompletableFuture.failedFuture(new RejectedExecutionException("Rate limiter is not running"));
+        }
+
+        CompletableFuture<Void> permit = new CompletableFuture<>();
+        Admission[] admission = new Admission[1];
+        // Decided inside compute so the idle-bucket cleanup in drain cannot drop a bucket mid-admission
+        buckets.compute(tenantId != null ? tenantId : NO_TENANT, (id, bucket) -> {
+            Bucket b = bucket != null ? bucket : new Bucket(System.nanoTime());
+            admission[0] = b.admit(permit, System.nanoTime());
+            return b;
+        });
+
+        // Completed outside the map lock, since completion runs the caller's continuations
+        switch (admission[0]) {
+            case ADMITTED -> {
+                admitted.increment();
+                permit.complete(null);
+            }
+            case QUEUED -> delayed.increment();
+            case REJECTED -> {
+                rejected.increment();
+                permit.completeExceptionally(new RejectedExecutionException("Tenant rate limit queue is full"));
+            }
+        }
+        return permit;
+    }
+
+    public int queuedCount() {
+        return queued.get();
+    }
+
+    private void drain() {
+        List<CompletableFuture<Void>> released = new ArrayList<>();
+        for (Long tenantId : buckets.keySet()) {
+            buckets.computeIfPresent(tenantId, (id, bucket) -> bucket.release(released, System.nanoTime()) ? null : bucket);
+        }
+        queued.addAndGet(-released.size());
+        released.forEach(permit -> permit.complete(null));
+    }
+
+    private enum Admission { ADMITTED, QUEUED, REJECTED }
+
+    // Only touched inside compute calls on the buckets map, which serialize access per tenant
+    private final class Bucket {
+        private final ArrayDeque<CompletableFuture<Void>> waiting = new ArrayDeque<>();
+        private double tokens;
+        private long refilledAt;
+
+        private Bucket(long now) {
+            this.tokens = burst;
+            this.refilledAt = now;
+        }
+
+        private Admission admit(CompletableFuture<Void> permit, long now) {
+            refill(now);
+            if (waiting.isEmpty() && tokens >= 1) {
+                tokens--;
+                return Admission.ADMITTED;
+            }
+            if (waiting.size() < queueCapacity) {
+                waiting.add(permit);
+                queued.incrementAndGet();
+                return Admission.QUEUED;
+            }
+            return Admission.REJECTED;
+        }
+
+        /**
+         * Move waiters that now have a token into {@code released}; true when the bucket is idle and can go
+         */
+        private boolean release(List<CompletableFuture<Void>> released, long now) {
+            refill(now);
+            while (!waiting.isEmpty() && tokens >= 1) {
+                tokens--;
+                released.add(waiting.poll());
+            }
+            return waiting.isEmpty() && tokens >= burst;
+        }
+
+        private void refill(long now) {
+            tokens = Math.min(burst, tokens + (now - refilledAt) * tokensPerNano);
+            refilledAt = now;
+        }
+    }
+}
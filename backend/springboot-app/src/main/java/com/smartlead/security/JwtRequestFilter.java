@@ -1,7 +1,9 @@
 // src/main/java/com/smartlead/security/JwtRequestFilter.java
 package com.smartlead.security;
 
-import com.smartlead.service.UserService;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -9,7 +11,6 @@ import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
@@ -19,7 +20,7 @@ import java.io.IOException;
 public class JwtRequestFilter extends OncePerRequestFilter {
     
     @Autowired
-    private UserService userService;
+    private PrincipalCache principalCache;
     
     @Autowired
     private JwtUtil jwtUtil;
@@ -30,26 +31,27 @@ public class JwtRequestFilter extends OncePerRequestFilter {
         
         final String requestTokenHeader = request.getHeader("Authorization");
         
-        String email = null;
-        String jwtToken = null;
+        Claims claims = null;
         
         if (requestTokenHeader != null && requestTokenHeader.startsWith("Bearer ")) {
-            jwtToken = requestTokenHeader.substring(7);
+            // Verified once here (or served from JwtUtil's cache); everything below reads these claims
             try {
-                email = jwtUtil.extractEmail(jwtToken);
-            } catch (IllegalArgumentException e) {
-                logger.error("Unable to get JWT Token");
-            } catch (Exception e) {
+                claims = jwtUtil.verify(requestTokenHeader.substring(7));
+            } catch (ExpiredJwtException e) {
                 logger.error("JWT Token has expired");
+            } catch (JwtException | IllegalArgumentException e) {
+                logger.error("Unable to get JWT Token");
             }
         }
         
-        if (email != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            UserDetails userDetails = userService.loadUserByUsername(email);
+        if (claims != null && claims.getSubject() != null && SecurityContextHolder.getContext().getAuthentication() == null) {
+            PrincipalCache.CachedPrincipal principal = principalCache.get(claims.getSubject());
             
-            if (jwtUtil.validateToken(jwtToken, userDetails.getUsername())) {
+            // A token issued for another tenant than the user's current one is no longer valid
+            if (principal != null
+                    && principal.getUser().getTenant().getTenantId().equals(claims.get("tenantId", String.class))) {
                 UsernamePasswordAuthenticationToken authToken = 
-                    new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+                    new UsernamePasswordAuthenticationToken(principal.getUser(), null, principal.getAuthorities());
                 authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
                 SecurityContextHolder.getContext().setAuthentication(authToken);
             }
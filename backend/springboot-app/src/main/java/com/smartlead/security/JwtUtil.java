@@ -1,67 +1,135 @@
 // src/main/java/com/smartlead/security/JwtUtil.java
 package com.smartlead.security;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
-import java.security.Key;
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
 import java.util.Date;
+import java.util.concurrent.TimeUnit;
 
+/**
+ * Issues and verifies tokens. The key and parser are built once; verified
+ * claims are kept by SHA-256 digest of the token until the token expires, so
+ * clients that send the same token on every call skip signature checks and
+ * JSON parsing after the first request.
+ */
 @Component
 public class JwtUtil {
     private final String SECRET = "mySecretKey12345678901234567890123456789012345678901234567890";
     private final int EXPIRATION = 86400000; // 24 hours
-    
-    private Key getSigningKey() {
-        return Keys.hmacShaKeyFor(SECRET.getBytes());
+
+    private final SecretKey signingKey = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+    private final JwtParser parser = Jwts.parser().verifyWith(signingKey).build();
+    private final Cache<String, Claims> verified;
+
+    /**
+     * @param cacheSize verified tokens to remember; 0 verifies every request
+     */
+    @Autowired
+    public JwtUtil(@Value("${security.token-cache.max-size:10000}") long cacheSize) {
+        this.verified = cacheSize <= 0 ? null : Caffeine.newBuilder()
+                .maximumSize(cacheSize)
+                .expireAfter(new Expiry<String, Claims>() {
+                    @Override
+                    public long expireAfterCreate(String digest, Claims claims, long currentTime) {
+                        long remainingMs = claims.getExpiration().getTime() - System.currentTimeMillis();
+                        return TimeUnit.MILLISECONDS.toNanos(Math.max(remainingMs, 0));
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String digest, Claims claims, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+
+                    @Override
+                    public long expireAfterRead(String digest, Claims claims, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
     }
-    
+
     public String generateToken(String email, String tenantId) {
         return Jwts.builder()
-                .setSubject(email)
+                .subject(email)
                 .claim("tenantId", tenantId)
-                .setIssuedAt(new Date())
-                .setExpiration(new Date(System.currentTimeMillis() + EXPIRATION))
-                .signWith(getSigningKey())
+                .issuedAt(new Date())
+                .expiration(new Date(System.currentTimeMillis() + EXPIRATION))
+                .signWith(signingKey)
                 .compact();
     }
-    
+
+    /**
+     * Claims of a token whose signature and expiry check out, verifying it at
+     * most once while it stays cached. Throws {@link ExpiredJwtException} or
+     * another {@link JwtException} for tokens that don't.
+     */
+    public Claims verify(String token) {
+        if (verified == null) {
+            return parser.parseSignedClaims(token).getPayload();
+        }
+
+        String digest = digest(token);
+        Claims claims = verified.getIfPresent(digest);
+        if (claims != null) {
+            return claims;
+        }
+
+        claims = parser.parseSignedClaims(token).getPayload();
+        // Tokens without an expiry are still accepted but never cached
+        if (claims.getExpiration() != null) {
+            verified.put(digest, claims);
+        }
+        return claims;
+    }
+
     public String extractEmail(String token) {
         return extractClaim(token, Claims::getSubject);
     }
-    
+
     public String extractTenantId(String token) {
         return extractClaim(token, claims -> claims.get("tenantId", String.class));
     }
-    
+
     public <T> T extractClaim(String token, ClaimsResolver<T> claimsResolver) {
-        final Claims claims = extractAllClaims(token);
-        return claimsResolver.resolve(claims);
-    }
-    
-    private Claims extractAllClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        return claimsResolver.resolve(verify(token));
     }
-    
+
     public Boolean isTokenExpired(String token) {
         return extractExpiration(token).before(new Date());
     }
-    
+
     public Date extractExpiration(String token) {
         return extractClaim(token, Claims::getExpiration);
     }
-    
+
     public Boolean validateToken(String token, String email) {
-        final String extractedEmail = extractEmail(token);
-        return (extractedEmail.equals(email) && !isTokenExpired(token));
+        final Claims claims = verify(token);
+        return (claims.getSubject().equals(email) && !claims.getExpiration().before(new Date()));
+    }
+
+    // The cache holds digests, not bearer tokens, so a heap dump doesn't hand out live credentials
+    private static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
     }
-    
+
     @FunctionalInterface
     public interface ClaimsResolver<T> {
         T resolve(Claims claims);
     }
-}
\ No newline at end of file
+}
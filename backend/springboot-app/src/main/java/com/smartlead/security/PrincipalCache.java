@@ -0,0 +1,164 @@
+package com.smartlead.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.smartlead.entity.User;
+import com.smartlead.repository.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Authenticated principals by email, so {@link JwtRequestFilter} only reads
+ * the users table on a miss. Entries are detached snapshots of the user and
+ * its tenant (no password hash) and expire well before a token does. Any
+ * committed update or delete of a user drops its entry on every node via
+ * {@link #CHANNEL}; the TTL bounds staleness if a message is lost.
+ */
+@Component
+public class PrincipalCache implements MessageListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(PrincipalCache.class);
+
+    public static final String CHANNEL = "principal-cache:invalidations";
+
+    /**
+     * A user snapshot plus the authorities granted to it
+     */
+    public static final class CachedPrincipal {
+        private final User user;
+        private final List<GrantedAuthority> authorities;
+
+        CachedPrincipal(User user, List<GrantedAuthority> authorities) {
+            this.user = user;
+            this.authorities = authorities;
+        }
+
+        public User getUser() { return user; }
+        public List<GrantedAuthority> getAuthorities() { return authorities; }
+    }
+
+    private final UserRepository userRepository;
+    private final StringRedisTemplate redisTemplate;
+    private final Cache<String, CachedPrincipal> principals;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong databaseLookups = new AtomicLong();
+    private final AtomicLong unknownUsers = new AtomicLong();
+    private final AtomicLong invalidations = new AtomicLong();
+
+    @Autowired
+    public PrincipalCache(UserRepository userRepository,
+                          StringRedisTemplate redisTemplate,
+                          @Value("${security.principal-cache.max-size:10000}") long maxSize,
+                          @Value("${security.principal-cache.ttl:5m}") Duration ttl) {
+        this.userRepository = userRepository;
+        this.redisTemplate = redisTemplate;
+        this.principals = Caffeine.newBuilder().maximumSize(maxSize).expireAfterWrite(ttl).build();
+    }
+
+    /**
+     * Principal for the email, loading it on a miss; null if there is no such user
+     */
+    public CachedPrincipal get(String email) {
+        CachedPrincipal cached = principals.getIfPresent(email);
+        if (cached != null) {
+            hits.incrementAndGet();
+            return cached;
+        }
+        misses.incrementAndGet();
+        return principals.get(email, this::load);
+    }
+
+    /**
+     * Drop the user's entry once the current transaction commits (right away outside one)
+     */
+    public void invalidateAfterCommit(Long userId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidate(userId);
+                }
+            });
+        } else {
+            invalidate(userId);
+        }
+    }
+
+    /**
+     * Drop the user's entry here and tell the other nodes
+     */
+    public void invalidate(Long userId) {
+        evictLocal(userId);
+        try {
+            redisTemplate.convertAndSend(CHANNEL, userId.toString());
+        } catch (Exception e) {
+            // Other nodes pick the change up when their entry expires
+            logger.warn("Principal cache invalidation via Redis failed for user {}: {}", userId, e.getMessage());
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        try {
+            evictLocal(Long.valueOf(body));
+        } catch (NumberFormatException e) {
+            logger.warn("Ignoring malformed principal cache invalidation '{}'", body);
+        }
+    }
+
+    public Map<String, Object> getStats() {
+        long lookups = hits.get() + misses.get();
+
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("hits", hits.get());
+        stats.put("misses", misses.get());
+        stats.put("hitRatio", lookups == 0 ? 0.0 : (double) hits.get() / lookups);
+        stats.put("databaseLookups", databaseLookups.get());
+        stats.put("unknownUsers", unknownUsers.get());
+        stats.put("invalidations", invalidations.get());
+        stats.put("size", principals.estimatedSize());
+        return stats;
+    }
+
+    // Keyed by email but invalidated by id, so an email change also drops the old key
+    private void evictLocal(Long userId) {
+        invalidations.incrementAndGet();
+        principals.asMap().values().removeIf(principal -> userId.equals(principal.getUser().getId()));
+    }
+
+    private CachedPrincipal load(String email) {
+        databaseLookups.incrementAndGet();
+        User user = userRepository.findByEmail(email).orElse(null);
+        if (user == null) {
+            unknownUsers.incrementAndGet();
+            return null;
+        }
+
+        User snapshot = new User(user.getEmail(), null, user.getFirstName(), user.getLastName(),
+                                 user.getRole(), user.getTenant());
+        snapshot.setId(user.getId());
+        snapshot.setCreatedAt(user.getCreatedAt());
+        List<GrantedAuthority> authorities = List.of(new SimpleGrantedAuthority("ROLE_" + user.getRole().name()));
+        return new CachedPrincipal(snapshot, authorities);
+    }
+}
@@ -39,6 +39,13 @@ public class SecurityConfig {
         http.cors().and().csrf().disable()
                 .authorizeHttpRequests(authz -> authz
                         .requestMatchers("/api/auth/**").permitAll()
+                        .requestMatchers("/livez", "/readyz").permitAll()
+                        // Only served on management.server.port, which is internal to the container network
+                        .requestMatchers("/actuator/health/**", "/actuator/prometheus").permitAll()
+                        // Cross-tenant queue and cache stats, full reconciliation runs
+                        .requestMatchers("/api/scoring/**").hasRole("ADMIN")
+                        .requestMatchers("/api/cache/**").hasRole("ADMIN")
+                        .requestMatchers("/api/dashboard/stats/rebuild").hasRole("ADMIN")
                         .anyRequest().authenticated()
                 )
                 .exceptionHandling().authenticationEntryPoint(jwtAuthenticationEntryPoint)
@@ -0,0 +1,28 @@
+package com.smartlead.security;
+
+import com.smartlead.entity.User;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+
+/**
+ * Drops a user's cached principal whenever the user row changes (role,
+ * password, tenant, email) or is deleted. Created by Hibernate through the
+ * Spring bean container; the cache is looked up lazily because it depends on
+ * the repositories that are still being built when listeners are created.
+ */
+public class UserChangeListener {
+
+    @Autowired
+    private ObjectProvider<PrincipalCache> principalCache;
+
+    @PostUpdate
+    @PostRemove
+    public void userChanged(User user) {
+        PrincipalCache cache = principalCache.getIfAvailable();
+        if (cache != null) {
+            cache.invalidateAfterCommit(user.getId());
+        }
+    }
+}
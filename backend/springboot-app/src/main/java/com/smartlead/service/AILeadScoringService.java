@@ -1,22 +1,33 @@
 // src/main/java/com/smartlead/service/AILeadScoringService.java
 package com.smartlead.service;
 
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.smartlead.entity.Lead;
-import com.smartlead.entity.Interaction;
-import com.smartlead.repository.InteractionRepository;
+import com.smartlead.entity.Interaction.InteractionType;
+import com.smartlead.entity.LeadEngagement;
+import com.smartlead.repository.LeadEngagementRepository;
+import com.smartlead.scoring.AIAdjustmentUnavailableException;
+import com.smartlead.scoring.AIScoringGateway;
+import com.smartlead.scoring.CompiledScoringRules;
+import com.smartlead.scoring.EngagementFeatures;
+import com.smartlead.scoring.ScoringExecutor;
+import com.smartlead.scoring.ScoringResult;
+import com.smartlead.scoring.ScoringRuleRegistry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.cache.annotation.Cacheable;
-import org.springframework.http.*;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.stream.Collectors;
 
 /**
@@ -32,38 +43,93 @@ public class AILeadScoringService {
     
     private static final Logger logger = LoggerFactory.getLogger(AILeadScoringService.class);
     
-    @Value("${openai.api.key:}")
-    private String openaiApiKey;
-    
-    @Value("${openai.api.url:https://api.openai.com/v1/chat/completions}")
-    private String openaiApiUrl;
-    
-    @Value("${openai.model:gpt-4}")
-    private String openaiModel;
-    
     @Value("${lead.scoring.ai.enabled:true}")
     private boolean aiScoringEnabled;
     
-    private final RestTemplate restTemplate;
-    private final ObjectMapper objectMapper;
-    private final InteractionRepository interactionRepository;
+    @Value("${lead.scoring.deadline-ms:15000}")
+    private long scoreDeadlineMs;
+    
+    private final LeadEngagementRepository leadEngagementRepository;
+    private final ScoringRuleRegistry ruleRegistry;
+    private final AIScoringGateway aiScoringGateway;
+    private final ScoringExecutor scoringExecutor;
+    
+    // lead.scoring.* timers publish percentile histograms (management.metrics.distribution in application.properties)
+    private final Timer scoringTimer;
+    private final Timer ruleStageTimer;
+    private final Timer engagementStageTimer;
+    private final Timer bantStageTimer;
+    private final Timer aiStageTimer;
+    private final Timer engagementLoadTimer;
+    private final Timer batchTimer;
+    private final Counter batchLeads;
+    private final Counter fallbacks;
+    private final Counter engagementTimeouts;
+    private final Counter aiTimeouts;
     
     // Scoring weights
-    private static final int EMAIL_DOMAIN_WEIGHT = 25;
-    private static final int COMPANY_WEIGHT = 20;
-    private static final int JOB_TITLE_WEIGHT = 30;
     private static final int PHONE_WEIGHT = 15;
     private static final int ENGAGEMENT_WEIGHT = 35;
     private static final int RECENCY_WEIGHT = 25;
     private static final int BUDGET_WEIGHT = 30;
     private static final int AUTHORITY_WEIGHT = 25;
     
-    public AILeadScoringService(RestTemplate restTemplate, 
-                                ObjectMapper objectMapper,
-                                InteractionRepository interactionRepository) {
-        this.restTemplate = restTemplate;
-        this.objectMapper = objectMapper;
-        this.interactionRepository = interactionRepository;
+    private static final int ENGAGEMENT_QUERY_CHUNK = 1000;
+    private static final InteractionType[] INTERACTION_TYPES = InteractionType.values();
+    
+    // Days-until-close thresholds of the BANT timeline points
+    private static final int[] TIMELINE_THRESHOLD_DAYS = { 90, 30 };
+    
+    // Share of each component in the final score
+    private static final double RULE_BASED_SHARE = 0.4;
+    private static final double ENGAGEMENT_SHARE = 0.35;
+    private static final double BANT_SHARE = 0.25;
+    
+    public AILeadScoringService(LeadEngagementRepository leadEngagementRepository,
+                                ScoringRuleRegistry ruleRegistry,
+                                AIScoringGateway aiScoringGateway,
+                                ScoringExecutor scoringExecutor,
+                                MeterRegistry meterRegistry) {
+        this.leadEngagementRepository = leadEngagementRepository;
+        this.ruleRegistry = ruleRegistry;
+        this.aiScoringGateway = aiScoringGateway;
+        this.scoringExecutor = scoringExecutor;
+        
+        this.scoringTimer = Timer.builder("lead.scoring")
+                .description("Full lead scoring, all stages")
+                .register(meterRegistry);
+        this.ruleStageTimer = stageTimer(meterRegistry, "rule");
+        this.engagementStageTimer = stageTimer(meterRegistry, "engagement");
+        this.bantStageTimer = stageTimer(meterRegistry, "bant");
+        this.aiStageTimer = stageTimer(meterRegistry, "ai");
+        this.engagementLoadTimer = Timer.builder("lead.scoring.engagement.load")
+                .description("Reading engagement summaries for a lead or batch")
+                .register(meterRegistry);
+        this.batchTimer = Timer.builder("lead.scoring.batch")
+                .description("batchScoreLeads calls")
+                .register(meterRegistry);
+        this.batchLeads = Counter.builder("lead.scoring.batch.leads")
+                .description("Leads scored by batchScoreLeads")
+                .register(meterRegistry);
+        this.fallbacks = Counter.builder("lead.scoring.fallbacks")
+                .description("Scorings that failed and fell back to the rule-based score")
+                .register(meterRegistry);
+        this.engagementTimeouts = timeoutCounter(meterRegistry, ScoringResult.Stage.ENGAGEMENT);
+        this.aiTimeouts = timeoutCounter(meterRegistry, ScoringResult.Stage.AI);
+    }
+    
+    private static Timer stageTimer(MeterRegistry meterRegistry, String stage) {
+        return Timer.builder("lead.scoring.stage")
+                .description("Time spent in one lead scoring stage (ai: waiting for the OpenAI adjustment)")
+                .tag("stage", stage)
+                .register(meterRegistry);
+    }
+    
+    private static Counter timeoutCounter(MeterRegistry meterRegistry, ScoringResult.Stage stage) {
+        return Counter.builder("lead.scoring.timeouts")
+                .description("Scoring stages that missed the per-lead deadline, leaving a partial score")
+                .tag("stage", stage.name().toLowerCase())
+                .register(meterRegistry);
     }
     
     /**
@@ -71,248 +137,282 @@ public class AILeadScoringService {
      * Combines rule-based and AI-powered scoring
      */
     public int calculateLeadScore(Lead lead) {
+        return scoreLead(lead).getScore();
+    }
+    
+    /**
+     * Full score of one lead within {@code lead.scoring.deadline-ms}. The
+     * engagement read and the OpenAI adjustment run concurrently while the
+     * rule and BANT stages are computed, so latency is close to the slowest
+     * stage rather than the sum. A stage still running at the deadline, or one
+     * that failed or was refused, is left out and the score is flagged partial;
+     * an abandoned AI request still completes and fills the adjustment cache
+     * for the next attempt.
+     */
+    public ScoringResult scoreLead(Lead lead) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(scoreDeadlineMs);
+        CompletableFuture<Integer> aiAdjustmentFuture = requestAIAdjustment(lead);
+        CompletableFuture<EngagementFeatures> engagementFuture = scoringExecutor.fork(() -> loadEngagementFeatures(lead));
+        return calculateLeadScore(lead, engagementFuture, aiAdjustmentFuture, deadline);
+    }
+    
+    /**
+     * Calculate lead score from engagement features and an AI adjustment
+     * (null when AI scoring is off) that are already on their way, waiting for
+     * them no later than {@code deadline} ({@link System#nanoTime()})
+     */
+    private ScoringResult calculateLeadScore(Lead lead, CompletableFuture<EngagementFeatures> engagementFuture,
+                                         CompletableFuture<Integer> aiAdjustmentFuture, long deadline) {
+        Timer.Sample sample = Timer.start();
+        Set<ScoringResult.Stage> timedOut = EnumSet.noneOf(ScoringResult.Stage.class);
+        Set<ScoringResult.Stage> skipped = EnumSet.noneOf(ScoringResult.Stage.class);
         try {
-            int ruleBasedScore = calculateRuleBasedScore(lead);
-            int engagementScore = calculateEngagementScore(lead);
-            int bafntScore = calculateBANTScore(lead); // Budget, Authority, Need, Timeline
+            int ruleBasedScore = ruleStageTimer.record(() -> calculateRuleBasedScore(lead));
+            int bafntScore = bantStageTimer.record(() -> calculateBANTScore(lead)); // Budget, Authority, Need, Timeline
+            
+            EngagementFeatures engagement = awaitStage(lead, ScoringResult.Stage.ENGAGEMENT, engagementFuture,
+                                                       EngagementFeatures.empty(), deadline, timedOut, skipped);
+            int engagementScore = engagementStageTimer.record(() -> calculateEngagementScore(lead, engagement));
             
             // Combine scores with weights
-            double finalScore = (ruleBasedScore * 0.4) + 
-                              (engagementScore * 0.35) + 
-                              (bafntScore * 0.25);
+            double finalScore = (ruleBasedScore * RULE_BASED_SHARE) + 
+                              (engagementScore * ENGAGEMENT_SHARE) + 
+                              (bafntScore * BANT_SHARE);
             
             // Apply AI enhancement if enabled
-            if (aiScoringEnabled && openaiApiKey != null && !openaiApiKey.isEmpty()) {
-                int aiAdjustment = calculateAIAdjustment(lead);
+            if (aiAdjustmentFuture != null) {
+                int aiAdjustment = aiStageTimer.record(() ->
+                    awaitStage(lead, ScoringResult.Stage.AI, aiAdjustmentFuture, 0, deadline, timedOut, skipped));
                 finalScore = finalScore + aiAdjustment;
             }
             
             int score = (int) Math.min(Math.max(finalScore, 0), 100);
             
-            logger.info("Lead {} scored: {} (Rule: {}, Engagement: {}, BANT: {})", 
-                       lead.getId(), score, ruleBasedScore, engagementScore, bafntScore);
+            logger.debug("Lead {} scored: {} (Rule: {}, Engagement: {}, BANT: {}, timed out: {}, skipped: {})", 
+                       lead.getId(), score, ruleBasedScore, engagementScore, bafntScore, timedOut, skipped);
             
-            return score;
+            return new ScoringResult(score, timedOut, skipped);
             
         } catch (Exception e) {
             logger.error("Error calculating lead score for lead {}: {}", lead.getId(), e.getMessage());
-            return calculateRuleBasedScore(lead); // Fallback to rule-based
+            fallbacks.increment();
+            return new ScoringResult(calculateRuleBasedScore(lead), timedOut, skipped); // Fallback to rule-based
+        } finally {
+            sample.stop(scoringTimer);
         }
     }
     
+    /**
+     * Result of a scoring stage, or {@code missing} if it fails or is not done
+     * by the deadline; timeouts are recorded in {@code timedOut}, failures and
+     * refusals in {@code skipped}
+     */
+    private <T> T awaitStage(Lead lead, ScoringResult.Stage stage, CompletableFuture<T> result, T missing,
+                             long deadline, Set<ScoringResult.Stage> timedOut, Set<ScoringResult.Stage> skipped) {
+        try {
+            return result.get(Math.max(deadline - System.nanoTime(), 0), TimeUnit.NANOSECONDS);
+            
+        } catch (TimeoutException e) {
+            timedOut.add(stage);
+            (stage == ScoringResult.Stage.AI ? aiTimeouts : engagementTimeouts).increment();
+            logger.warn("Scoring stage {} timed out for lead {}", stage, lead.getId());
+            return missing;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            skipped.add(stage);
+            return missing;
+        } catch (ExecutionException e) {
+            skipped.add(stage);
+            if (e.getCause() instanceof AIAdjustmentUnavailableException) {
+                logger.info("Scoring stage {} skipped for lead {}: {}", stage, lead.getId(), e.getCause().getMessage());
+            } else {
+                logger.error("Error in scoring stage {} for lead {}: {}", stage, lead.getId(), e.getCause().getMessage());
+            }
+            return missing;
+        } catch (RuntimeException e) {
+            skipped.add(stage);
+            logger.error("Error in scoring stage {} for lead {}: {}", stage, lead.getId(), e.getMessage());
+            return missing;
+        }
+    }
+    
+    /**
+     * Provisional score from the lead's own attributes (rule-based and BANT).
+     * No database or OpenAI access; engagement and AI adjustment are added later.
+     */
+    public int calculateProvisionalScore(Lead lead) {
+        int ruleBasedScore = calculateRuleBasedScore(lead);
+        int bantScore = calculateBANTScore(lead);
+        
+        double score = (ruleBasedScore * RULE_BASED_SHARE) + (bantScore * BANT_SHARE);
+        return (int) Math.min(Math.max(score, 0), 100);
+    }
+    
     /**
      * Rule-based scoring using lead attributes
      */
     private int calculateRuleBasedScore(Lead lead) {
+        CompiledScoringRules rules = ruleRegistry.rulesFor(lead.getTenant());
         int score = 0;
         
         // 1. Email Domain Scoring (0-25 points)
-        score += scoreEmailDomain(lead.getEmail());
+        score += rules.scoreEmailDomain(lead.getEmail());
         
         // 2. Company Information (0-20 points)
-        score += scoreCompany(lead.getCompany());
+        score += rules.scoreCompany(lead.getCompany());
         
         // 3. Job Title/Authority (0-30 points)
-        score += scoreJobTitle(lead.getJobTitle());
+        score += rules.scoreJobTitle(lead.getJobTitle());
         
         // 4. Contact Information (0-15 points)
         score += scoreContactInfo(lead);
         
         // 5. Lead Source Quality (0-10 points)
-        score += scoreLeadSource(lead.getSource());
+        score += rules.scoreLeadSource(lead.getSource());
         
         return Math.min(score, 100);
     }
     
     /**
-     * Score email domain
+     * Score contact information completeness
      */
-    private int scoreEmailDomain(String email) {
-        if (email == null || email.isEmpty()) return 0;
-        
-        email = email.toLowerCase();
+    private int scoreContactInfo(Lead lead) {
+        int score = 0;
         
-        // Free email providers - lower score
-        List<String> freeProviders = Arrays.asList("gmail.com", "yahoo.com", "hotmail.com", 
-                                                   "outlook.com", "aol.com", "icloud.com");
+        if (lead.getPhone() != null && !lead.getPhone().isEmpty()) {
+            score += 8;
+        }
         
-        for (String provider : freeProviders) {
-            if (email.contains("@" + provider)) {
-                return 10;
-            }
+        if (lead.getLinkedinUrl() != null && !lead.getLinkedinUrl().isEmpty()) {
+            score += 4;
         }
         
-        // Business email - higher score
-        if (email.contains("@") && !email.endsWith(".edu")) {
-            return EMAIL_DOMAIN_WEIGHT;
+        if (lead.getWebsite() != null && !lead.getWebsite().isEmpty()) {
+            score += 3;
         }
         
-        return 5;
+        return Math.min(score, PHONE_WEIGHT);
     }
     
     /**
-     * Score company information
+     * Calculate engagement score based on interaction history
      */
-    private int scoreCompany(String company) {
-        if (company == null || company.trim().isEmpty()) return 0;
+    private int calculateEngagementScore(Lead lead, EngagementFeatures engagement) {
+        if (engagement.isEmpty()) return 0;
+        
+        CompiledScoringRules rules = ruleRegistry.rulesFor(lead.getTenant());
+        int score = 0;
         
-        company = company.toLowerCase();
+        // Interaction frequency
+        score += Math.min(engagement.getTotal() * 5, 20);
         
-        // Fortune 500 or well-known companies
-        List<String> premiumIndicators = Arrays.asList("inc", "corp", "ltd", "llc", 
-                                                       "technologies", "solutions");
+        // Recent activity bonus
+        score += Math.min(engagement.getRecent() * 3, 15);
         
-        for (String indicator : premiumIndicators) {
-            if (company.contains(indicator)) {
-                return COMPANY_WEIGHT;
-            }
+        // Interaction quality (untyped interactions add nothing)
+        for (InteractionType type : INTERACTION_TYPES) {
+            score += engagement.getCount(type) * rules.scoreInteractionType(type);
         }
         
-        return 15; // Has company name
+        return Math.min(score, ENGAGEMENT_WEIGHT);
     }
     
-    /**
-     * Score job title for decision-making authority
-     */
-    private int scoreJobTitle(String jobTitle) {
-        if (jobTitle == null || jobTitle.isEmpty()) return 0;
-        
-        String title = jobTitle.toLowerCase();
-        
-        // C-Level executives
-        List<String> cLevel = Arrays.asList("ceo", "cto", "cfo", "coo", "cmo", "chief", "president");
-        for (String role : cLevel) {
-            if (title.contains(role)) {
-                return JOB_TITLE_WEIGHT;
-            }
+    private static EngagementFeatures toFeatures(LeadEngagement summary, LocalDate today) {
+        EngagementFeatures features = new EngagementFeatures();
+        for (InteractionType type : INTERACTION_TYPES) {
+            features.add(type, summary.getCount(type), 0);
         }
-        
-        // VP/Director level
-        List<String> vpLevel = Arrays.asList("vp", "vice president", "director", "head of", "founder");
-        for (String role : vpLevel) {
-            if (title.contains(role)) {
-                return 25;
-            }
-        }
-        
-        // Manager level
-        List<String> managerLevel = Arrays.asList("manager", "lead", "senior");
-        for (String role : managerLevel) {
-            if (title.contains(role)) {
-                return 20;
-            }
-        }
-        
-        return 10; // Has job title
+        features.add(null, summary.getUntypedCount(), 0);
+        features.addRecent(summary.getRecentCount(today));
+        return features;
     }
     
     /**
-     * Score contact information completeness
+     * Engagement features of a single lead
      */
-    private int scoreContactInfo(Lead lead) {
-        int score = 0;
+    private EngagementFeatures loadEngagementFeatures(Lead lead) {
+        if (lead.getId() == null) return EngagementFeatures.empty();
         
-        if (lead.getPhone() != null && !lead.getPhone().isEmpty()) {
-            score += 8;
-        }
-        
-        if (lead.getLinkedinUrl() != null && !lead.getLinkedinUrl().isEmpty()) {
-            score += 4;
-        }
-        
-        if (lead.getWebsite() != null && !lead.getWebsite().isEmpty()) {
-            score += 3;
-        }
-        
-        return Math.min(score, PHONE_WEIGHT);
+        return loadEngagementFeatures(List.of(lead.getId()))
+            .getOrDefault(lead.getId(), EngagementFeatures.empty());
     }
     
     /**
-     * Score lead source quality
+     * Engagement features for many leads, read from their lead_engagement summaries
+     * one chunk of ids at a time. Leads without interactions (or on query failure)
+     * are absent from the result.
      */
-    private int scoreLeadSource(String source) {
-        if (source == null) return 5;
-        
-        source = source.toLowerCase();
-        
-        Map<String, Integer> sourceScores = new HashMap<>();
-        sourceScores.put("referral", 10);
-        sourceScores.put("direct", 9);
-        sourceScores.put("website", 8);
-        sourceScores.put("linkedin", 7);
-        sourceScores.put("email campaign", 6);
-        sourceScores.put("social media", 5);
-        sourceScores.put("cold outreach", 3);
-        
-        return sourceScores.entrySet().stream()
-            .filter(entry -> source.contains(entry.getKey()))
-            .map(Map.Entry::getValue)
-            .findFirst()
-            .orElse(5);
+    private Map<Long, EngagementFeatures> loadEngagementFeatures(Collection<Long> leadIds) {
+        return engagementLoadTimer.record(() -> readEngagementFeatures(leadIds));
     }
     
-    /**
-     * Calculate engagement score based on interaction history
-     */
-    private int calculateEngagementScore(Lead lead) {
-        if (lead.getId() == null) return 0;
+    private Map<Long, EngagementFeatures> readEngagementFeatures(Collection<Long> leadIds) {
+        Map<Long, EngagementFeatures> features = new HashMap<>();
+        List<Long> ids = leadIds.stream().filter(Objects::nonNull).collect(Collectors.toList());
+        LocalDate today = LocalDate.now();
         
         try {
-            List<Interaction> interactions = interactionRepository.findByLeadId(lead.getId());
-            
-            if (interactions.isEmpty()) return 0;
-            
-            int score = 0;
-            
-            // Interaction frequency
-            score += Math.min(interactions.size() * 5, 20);
-            
-            // Recent activity bonus
-            long recentInteractions = interactions.stream()
-                .filter(i -> i.getCreatedAt().isAfter(LocalDateTime.now().minusDays(7)))
-                .count();
-            score += Math.min(recentInteractions * 3, 15);
-            
-            // Interaction quality
-            for (Interaction interaction : interactions) {
-                score += scoreInteractionType(interaction.getType());
+            for (int from = 0; from < ids.size(); from += ENGAGEMENT_QUERY_CHUNK) {
+                List<Long> chunk = ids.subList(from, Math.min(from + ENGAGEMENT_QUERY_CHUNK, ids.size()));
+                for (LeadEngagement summary : leadEngagementRepository.findAllById(chunk)) {
+                    features.put(summary.getLeadId(), toFeatures(summary, today));
+                }
             }
-            
-            return Math.min(score, ENGAGEMENT_WEIGHT);
-            
         } catch (Exception e) {
-            logger.warn("Error calculating engagement score: {}", e.getMessage());
-            return 0;
+            logger.warn("Error loading engagement features: {}", e.getMessage());
         }
+        
+        return features;
     }
     
     /**
-     * Score different interaction types
+     * Earliest instant after {@code now} at which the lead's score can change
+     * without any write: the oldest recent interaction leaving the engagement
+     * window, or the expected close date crossing a timeline threshold. Null
+     * when nothing time-dependent is left to change the score.
      */
-    private int scoreInteractionType(String type) {
-        if (type == null) return 0;
-        
-        type = type.toLowerCase();
-        
-        Map<String, Integer> typeScores = new HashMap<>();
-        typeScores.put("meeting", 5);
-        typeScores.put("demo", 5);
-        typeScores.put("call", 3);
-        typeScores.put("email_reply", 2);
-        typeScores.put("email_open", 1);
-        typeScores.put("website_visit", 1);
-        
-        return typeScores.entrySet().stream()
-            .filter(entry -> type.contains(entry.getKey()))
-            .map(Map.Entry::getValue)
-            .findFirst()
-            .orElse(1);
+    public LocalDateTime nextScoreChangeAt(Lead lead, LocalDateTime now) {
+        LocalDateTime next = null;
+        
+        // Window shifts happen at day starts; the first one that changes the engagement points counts
+        Optional<LeadEngagement> summary = lead.getId() == null
+            ? Optional.empty()
+            : leadEngagementRepository.findById(lead.getId());
+        if (summary.isPresent()) {
+            LocalDate today = now.toLocalDate();
+            int current = calculateEngagementScore(lead, toFeatures(summary.get(), today));
+            for (int days = 1; days <= LeadEngagement.RECENT_DAYS; days++) {
+                LocalDate day = today.plusDays(days);
+                if (calculateEngagementScore(lead, toFeatures(summary.get(), day)) != current) {
+                    next = day.atStartOfDay();
+                    break;
+                }
+            }
+        }
+        
+        if (lead.getExpectedCloseDate() != null) {
+            int current = calculateBANTScore(lead, now);
+            for (int thresholdDays : TIMELINE_THRESHOLD_DAYS) {
+                // Fewer than N days until close from just after close - N days
+                LocalDateTime crossing = lead.getExpectedCloseDate().minusDays(thresholdDays).plusSeconds(1);
+                if (crossing.isAfter(now) && calculateBANTScore(lead, crossing) != current) {
+                    if (next == null || crossing.isBefore(next)) next = crossing;
+                    break;
+                }
+            }
+        }
+        
+        return next;
     }
     
     /**
      * Calculate BANT Score (Budget, Authority, Need, Timeline)
      */
     private int calculateBANTScore(Lead lead) {
+        return calculateBANTScore(lead, LocalDateTime.now());
+    }
+    
+    private int calculateBANTScore(Lead lead, LocalDateTime now) {
         int score = 0;
         
         // Budget indicator
@@ -320,26 +420,17 @@ public class AILeadScoringService {
             score += Math.min(lead.getEstimatedBudget() / 1000, BUDGET_WEIGHT);
         }
         
+        CompiledScoringRules rules = ruleRegistry.rulesFor(lead.getTenant());
+        
         // Authority (from job title score)
-        score += scoreJobTitle(lead.getJobTitle()) / 3;
+        score += rules.scoreJobTitle(lead.getJobTitle()) / 3;
         
         // Need indicator (if notes mention pain points)
-        if (lead.getNotes() != null && !lead.getNotes().isEmpty()) {
-            String notes = lead.getNotes().toLowerCase();
-            List<String> needIndicators = Arrays.asList("problem", "challenge", "issue", 
-                                                        "looking for", "need", "urgent");
-            
-            long needCount = needIndicators.stream()
-                .filter(notes::contains)
-                .count();
-            
-            score += Math.min(needCount * 3, 10);
-        }
+        score += rules.scoreNeed(lead.getNotes());
         
         // Timeline urgency
         if (lead.getExpectedCloseDate() != null) {
-            long daysUntilClose = ChronoUnit.DAYS.between(LocalDateTime.now(), 
-                                                         lead.getExpectedCloseDate());
+            long daysUntilClose = ChronoUnit.DAYS.between(now, lead.getExpectedCloseDate());
             
             if (daysUntilClose < 30) {
                 score += 15; // Urgent
@@ -354,113 +445,18 @@ public class AILeadScoringService {
     }
     
     /**
-     * Use OpenAI to provide intelligent lead scoring adjustment
+     * Queue the lead with the OpenAI gateway; null when AI scoring is disabled or
+     * not configured, so the score is complete without it. While the circuit is
+     * open the request fails at once and the AI stage counts as skipped.
      */
-    @Cacheable(value = "aiScores", key = "#lead.id")
-    private int calculateAIAdjustment(Lead lead) {
-        try {
-            String prompt = buildScoringPrompt(lead);
-            String aiResponse = callOpenAI(prompt);
-            
-            return parseAIResponse(aiResponse);
-            
-        } catch (Exception e) {
-            logger.error("Error calling OpenAI API: {}", e.getMessage());
-            return 0; // No adjustment on error
+    private CompletableFuture<Integer> requestAIAdjustment(Lead lead) {
+        if (!aiScoringEnabled || !aiScoringGateway.isConfigured()) {
+            return null;
         }
-    }
-    
-    /**
-     * Build prompt for OpenAI
-     */
-    private String buildScoringPrompt(Lead lead) {
-        StringBuilder prompt = new StringBuilder();
-        prompt.append("Analyze this sales lead and provide a scoring adjustment (-20 to +20):\n\n");
-        prompt.append("Lead Information:\n");
-        prompt.append("- Name: ").append(lead.getName()).append("\n");
-        prompt.append("- Company: ").append(lead.getCompany()).append("\n");
-        prompt.append("- Job Title: ").append(lead.getJobTitle()).append("\n");
-        prompt.append("- Email: ").append(lead.getEmail()).append("\n");
-        
-        if (lead.getNotes() != null && !lead.getNotes().isEmpty()) {
-            prompt.append("- Notes: ").append(lead.getNotes()).append("\n");
-        }
-        
-        prompt.append("\nBased on this information, provide:\n");
-        prompt.append("1. A score adjustment between -20 and +20\n");
-        prompt.append("2. Brief reasoning (one sentence)\n");
-        prompt.append("3. Recommended next action\n\n");
-        prompt.append("Format your response as JSON:\n");
-        prompt.append("{\n");
-        prompt.append("  \"adjustment\": <number>,\n");
-        prompt.append("  \"reasoning\": \"<string>\",\n");
-        prompt.append("  \"nextAction\": \"<string>\"\n");
-        prompt.append("}");
-        
-        return prompt.toString();
-    }
-    
-    /**
-     * Call OpenAI API
-     */
-    private String callOpenAI(String prompt) throws Exception {
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_JSON);
-        headers.setBearerAuth(openaiApiKey);
-        
-        Map<String, Object> requestBody = new HashMap<>();
-        requestBody.put("model", openaiModel);
-        requestBody.put("messages", Arrays.asList(
-            Map.of("role", "system", "content", "You are an expert sales analyst."),
-            Map.of("role", "user", "content", prompt)
-        ));
-        requestBody.put("temperature", 0.7);
-        requestBody.put("max_tokens", 200);
-        
-        HttpEntity<Map<String, Object>> request = new HttpEntity<>(requestBody, headers);
-        
-        ResponseEntity<String> response = restTemplate.exchange(
-            openaiApiUrl,
-            HttpMethod.POST,
-            request,
-            String.class
-        );
-        
-        if (response.getStatusCode() == HttpStatus.OK) {
-            JsonNode root = objectMapper.readTree(response.getBody());
-            return root.path("choices").get(0).path("message").path("content").asText();
-        }
-        
-        throw new RuntimeException("OpenAI API call failed: " + response.getStatusCode());
-    }
-    
-    /**
-     * Parse AI response
-     */
-    private int parseAIResponse(String response) {
-        try {
-            // Try to extract JSON from response
-            int startIdx = response.indexOf("{");
-            int endIdx = response.lastIndexOf("}") + 1;
-            
-            if (startIdx >= 0 && endIdx > startIdx) {
-                String jsonStr = response.substring(startIdx, endIdx);
-                JsonNode json = objectMapper.readTree(jsonStr);
-                
-                int adjustment = json.path("adjustment").asInt(0);
-                String reasoning = json.path("reasoning").asText("");
-                
-                logger.info("AI Adjustment: {} - Reasoning: {}", adjustment, reasoning);
-                
-                return Math.max(-20, Math.min(20, adjustment));
-            }
-            
-            return 0;
-            
-        } catch (Exception e) {
-            logger.warn("Error parsing AI response: {}", e.getMessage());
-            return 0;
+        if (!aiScoringGateway.isAvailable()) {
+            return CompletableFuture.failedFuture(new AIAdjustmentUnavailableException("OpenAI circuit open"));
         }
+        return aiScoringGateway.requestAdjustment(lead);
     }
     
     /**
@@ -480,11 +476,13 @@ public class AILeadScoringService {
      * Get lead classification with score
      */
     public Map<String, Object> getLeadClassification(Lead lead) {
-        int score = calculateLeadScore(lead);
+        ScoringResult scoring = scoreLead(lead);
+        int score = scoring.getScore();
         String classification = classifyLead(score);
         
         Map<String, Object> result = new HashMap<>();
         result.put("score", score);
+        result.put("partial", scoring.isPartial());
         result.put("classification", classification);
         result.put("priority", getPriority(score));
         result.put("recommendations", getRecommendations(lead, score));
@@ -532,27 +530,39 @@ public class AILeadScoringService {
     }
     
     /**
-     * Batch score multiple leads
+     * Batch score multiple leads, each within its own {@code lead.scoring.deadline-ms};
+     * partial results tell the caller which leads to score again
      */
-    public Map<Long, Integer> batchScoreLeads(List<Lead> leads) {
-        return leads.parallelStream()
-            .collect(Collectors.toMap(
-                Lead::getId,
-                this::calculateLeadScore,
-                (a, b) -> a
-            ));
+    public Map<Long, ScoringResult> batchScoreLeads(List<Lead> leads) {
+        Map<Long, ScoringResult> scores = batchTimer.record(() -> scoreBatch(leads));
+        batchLeads.increment(scores.size());
+        return scores;
     }
     
-    /**
-     * Recalculate score when lead is updated
-     */
-    public void updateLeadScore(Lead lead) {
-        int newScore = calculateLeadScore(lead);
-        lead.setScore(newScore);
-        lead.setClassification(classifyLead(newScore));
-        lead.setLastScoredAt(LocalDateTime.now());
-        
-        logger.info("Updated lead {} score to {} ({})", 
-                   lead.getId(), newScore, lead.getClassification());
+    private Map<Long, ScoringResult> scoreBatch(List<Lead> leads) {
+        // Queue all AI requests up front so the gateway can group them into multi-lead prompts
+        Map<Long, CompletableFuture<Integer>> aiAdjustments = new HashMap<>();
+        for (Lead lead : leads) {
+            if (!aiAdjustments.containsKey(lead.getId())) {
+                aiAdjustments.put(lead.getId(), requestAIAdjustment(lead));
+            }
+        }
+        
+        // Interaction aggregates for the whole batch instead of one query per lead
+        Map<Long, EngagementFeatures> engagement = loadEngagementFeatures(aiAdjustments.keySet());
+        
+        // Each lead blocks on its AI adjustment, so score on the virtual-thread executor, not the common pool.
+        // A lead's deadline starts when its task does, not while it waits for an executor permit.
+        Map<Long, CompletableFuture<ScoringResult>> pending = new LinkedHashMap<>();
+        for (Lead lead : leads) {
+            pending.computeIfAbsent(lead.getId(), id -> scoringExecutor.submit(() ->
+                calculateLeadScore(lead,
+                    CompletableFuture.completedFuture(engagement.getOrDefault(id, EngagementFeatures.empty())),
+                    aiAdjustments.get(id), System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(scoreDeadlineMs))));
+        }
+        
+        Map<Long, ScoringResult> scores = new HashMap<>();
+        pending.forEach((id, score) -> scores.put(id, score.join()));
+        return scores;
     }
 }
@@ -0,0 +1,93 @@
+package com.smartlead.service;
+
+import com.smartlead.entity.Lead.LeadStatus;
+import com.smartlead.entity.TenantLeadStat;
+import com.smartlead.repository.TenantLeadStatRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Tenant dashboard figures, read from the precomputed tenant_lead_stats
+ * counters in a single query however many leads the tenant has.
+ */
+@Service
+public class DashboardService {
+
+    @Autowired
+    private TenantLeadStatRepository tenantLeadStatRepository;
+
+    @Value("${dashboard.monthly-conversions.months:12}")
+    private int months;
+
+    /**
+     * Stats in the shape of the frontend's DashboardStats
+     */
+    public Map<String, Object> getDashboardStats(Long tenantId) {
+        long total = 0;
+        long scoreSum = 0;
+        Map<String, Long> byStatus = new HashMap<>();
+        Map<String, Long> bySource = new HashMap<>();
+        Map<String, Long> conversionsByMonth = new HashMap<>();
+        for (TenantLeadStat stat : tenantLeadStatRepository.findByTenantId(tenantId)) {
+            switch (stat.getMetric()) {
+                case TenantLeadStat.TOTAL -> total = stat.getValue();
+                case TenantLeadStat.SCORE_SUM -> scoreSum = stat.getValue();
+                case TenantLeadStat.STATUS -> byStatus.put(stat.getBucket(), stat.getValue());
+                case TenantLeadStat.SOURCE -> bySource.put(stat.getBucket(), stat.getValue());
+                case TenantLeadStat.CONVERSIONS -> conversionsByMonth.put(stat.getBucket(), stat.getValue());
+                default -> { }
+            }
+        }
+        long converted = byStatus.getOrDefault(LeadStatus.CONVERTED.name(), 0L);
+
+        List<Map<String, Object>> leadsByStatus = new ArrayList<>();
+        for (LeadStatus status : LeadStatus.values()) {
+            Map<String, Object> entry = new LinkedHashMap<>();
+            entry.put("status", status.name());
+            entry.put("count", byStatus.getOrDefault(status.name(), 0L));
+            leadsByStatus.add(entry);
+        }
+
+        // Largest source first, leads without one under "unknown"
+        List<Map<String, Object>> leadsBySource = new ArrayList<>();
+        bySource.entrySet().stream()
+            .sorted(Map.Entry.<String, Long>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey()))
+            .forEach(source -> {
+                Map<String, Object> entry = new LinkedHashMap<>();
+                entry.put("source", source.getKey());
+                entry.put("count", source.getValue());
+                leadsBySource.add(entry);
+            });
+
+        // Oldest month first, months without conversions included
+        List<Map<String, Object>> monthlyConversions = new ArrayList<>();
+        YearMonth current = YearMonth.now();
+        for (int i = months - 1; i >= 0; i--) {
+            String month = current.minusMonths(i).toString();
+            Map<String, Object> entry = new LinkedHashMap<>();
+            entry.put("month", month);
+            entry.put("conversions", conversionsByMonth.getOrDefault(month, 0L));
+            entry.put("revenue", 0);
+            monthlyConversions.add(entry);
+        }
+
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("totalLeads", total);
+        stats.put("convertedLeads", converted);
+        stats.put("conversionRate", total == 0 ? 0.0 : converted * 100.0 / total);
+        stats.put("avgLeadScore", total == 0 ? 0.0 : (double) scoreSum / total);
+        stats.put("leadsByStatus", leadsByStatus);
+        stats.put("leadsBySource", leadsBySource);
+        // Leads carry no deal value, and there is no activity log yet
+        stats.put("recentActivity", List.of());
+        stats.put("monthlyConversions", monthlyConversions);
+        return stats;
+    }
+}
@@ -0,0 +1,248 @@
+package com.smartlead.service;
+
+import com.smartlead.dedup.LeadFingerprint;
+import com.smartlead.entity.Lead;
+import com.smartlead.entity.LeadMergeSuggestion;
+import com.smartlead.entity.LeadMergeSuggestion.MatchReason;
+import com.smartlead.entity.LeadMergeSuggestion.SuggestionStatus;
+import com.smartlead.repository.LeadMergeSuggestionRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Duplicate detection for new and imported leads. Each lead's
+ * {@link LeadFingerprint} keys are stored in lead_match_keys; leads sharing a
+ * key are candidates, so a check costs index lookups proportional to the new
+ * leads, not to the tenant size. Exact keys (email, phone, name plus company)
+ * are suggested as they are; LSH band hits are kept only if the name plus
+ * company trigrams are similar enough. Everything found becomes an OPEN merge
+ * suggestion; leads are never rejected. Runs in the caller's transaction.
+ */
+@Service
+public class LeadDedupService {
+
+    private static final String INSERT_KEY =
+        "INSERT INTO lead_match_keys (tenant_id, match_key, lead_id) VALUES (?, ?, ?) ON CONFLICT DO NOTHING";
+
+    // At most the given number of holders per key, each a primary-key range scan that stops at the limit;
+    // one past max-leads-per-key is enough to tell that a key is too common to count
+    private static final String FIND_BY_KEYS =
+        "SELECT k.match_key, m.lead_id FROM unnest(?::text[]) AS k(match_key) " +
+        "CROSS JOIN LATERAL (SELECT lead_id FROM lead_match_keys " +
+        "WHERE tenant_id = ? AND match_key = k.match_key LIMIT ?) m";
+
+    private static final String DELETE_KEYS =
+        "DELETE FROM lead_match_keys WHERE lead_id = ?";
+
+    private static final String LOAD_LEADS =
+        "SELECT id, first_name, last_name, email, phone, company FROM leads WHERE id = ANY(?)";
+
+    private static final String INSERT_SUGGESTION =
+        "INSERT INTO lead_merge_suggestions (tenant_id, lead_id, duplicate_of_lead_id, reason, similarity, status, created_at) " +
+        "VALUES (?, ?, ?, ?, ?, 'OPEN', ?) ON CONFLICT (lead_id, duplicate_of_lead_id) DO NOTHING";
+
+    private static final class Candidate {
+        private final long leadId;
+        private final long duplicateOfLeadId;
+        private MatchReason reason;
+        private double similarity = 1.0;
+
+        Candidate(long leadId, long duplicateOfLeadId, MatchReason reason) {
+            this.leadId = leadId;
+            this.duplicateOfLeadId = duplicateOfLeadId;
+            this.reason = reason;
+        }
+    }
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private LeadMergeSuggestionRepository suggestionRepository;
+
+    @Value("${lead.dedup.fuzzy-threshold:0.6}")
+    private double fuzzyThreshold;
+
+    // Keys shared by more leads than this (a common name, a shared switchboard number) are not evidence
+    @Value("${lead.dedup.max-leads-per-key:50}")
+    private int maxLeadsPerKey;
+
+    /**
+     * Index the leads' keys and record merge suggestions for the duplicates
+     * found among existing leads and among the leads themselves; returns the
+     * number of duplicate pairs found (pairs suggested before included)
+     */
+    public int detect(Long tenantId, List<Lead> leads) {
+        if (leads.isEmpty()) return 0;
+
+        Map<Long, LeadFingerprint> fingerprints = new HashMap<>();
+        Map<Long, List<String>> keysByLead = new LinkedHashMap<>();
+        List<Object[]> keyRows = new ArrayList<>();
+        Set<String> allKeys = new LinkedHashSet<>();
+        for (Lead lead : leads) {
+            LeadFingerprint fingerprint = LeadFingerprint.of(lead);
+            List<String> keys = fingerprint.matchKeys();
+            fingerprints.put(lead.getId(), fingerprint);
+            keysByLead.put(lead.getId(), keys);
+            allKeys.addAll(keys);
+            for (String key : keys) {
+                keyRows.add(new Object[] { tenantId, key, lead.getId() });
+            }
+        }
+        jdbcTemplate.batchUpdate(INSERT_KEY, keyRows);
+
+        Map<String, List<Long>> holders = findHolders(tenantId, allKeys);
+        Map<String, Candidate> candidates = new HashMap<>();
+        keysByLead.forEach((leadId, keys) -> {
+            for (String key : keys) {
+                List<Long> sharing = holders.getOrDefault(key, List.of());
+                if (sharing.size() > maxLeadsPerKey) continue;
+                for (Long other : sharing) {
+                    if (other.equals(leadId)) continue;
+                    addCandidate(candidates, leadId, other, reasonOf(key));
+                }
+            }
+        });
+
+        verifySimilarNames(candidates, fingerprints);
+        if (candidates.isEmpty()) return 0;
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> suggestionRows = new ArrayList<>();
+        for (Candidate candidate : candidates.values()) {
+            suggestionRows.add(new Object[] { tenantId, candidate.leadId, candidate.duplicateOfLeadId,
+                                              candidate.reason.name(), candidate.similarity, now });
+        }
+        jdbcTemplate.batchUpdate(INSERT_SUGGESTION, suggestionRows);
+        return candidates.size();
+    }
+
+    /**
+     * Re-key a lead whose email, phone, name or company may have changed
+     */
+    public int reindex(Lead lead) {
+        jdbcTemplate.update(DELETE_KEYS, lead.getId());
+        return detect(lead.getTenant().getId(), List.of(lead));
+    }
+
+    /**
+     * Drop a deleted lead's keys and the open suggestions that involve it
+     */
+    public void deleteForLead(Long leadId) {
+        jdbcTemplate.update(DELETE_KEYS, leadId);
+        suggestionRepository.deleteByLeadAndStatus(leadId, SuggestionStatus.OPEN);
+    }
+
+    public List<LeadMergeSuggestion> getOpenSuggestions(Long tenantId, int limit) {
+        return suggestionRepository.findByTenantIdAndStatusOrderByCreatedAtDesc(
+            tenantId, SuggestionStatus.OPEN, PageRequest.of(0, limit));
+    }
+
+    /**
+     * The open suggestion, locked until the caller's transaction ends so it is resolved only once
+     */
+    public Optional<LeadMergeSuggestion> lockOpenSuggestion(Long id, Long tenantId) {
+        return suggestionRepository.findForUpdate(id, tenantId)
+            .filter(suggestion -> suggestion.getStatus() == SuggestionStatus.OPEN);
+    }
+
+    public void resolve(LeadMergeSuggestion suggestion, SuggestionStatus status) {
+        suggestion.setStatus(status);
+        suggestion.setResolvedAt(LocalDateTime.now());
+    }
+
+    @Transactional
+    public boolean dismiss(Long id, Long tenantId) {
+        return lockOpenSuggestion(id, tenantId).map(suggestion -> {
+            resolve(suggestion, SuggestionStatus.DISMISSED);
+            return true;
+        }).orElse(false);
+    }
+
+    public Map<String, Object> toMap(LeadMergeSuggestion suggestion) {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("id", suggestion.getId());
+        map.put("leadId", suggestion.getLeadId());
+        map.put("duplicateOfLeadId", suggestion.getDuplicateOfLeadId());
+        map.put("reason", suggestion.getReason());
+        map.put("similarity", suggestion.getSimilarity());
+        map.put("status", suggestion.getStatus());
+        map.put("createdAt", suggestion.getCreatedAt());
+        return map;
+    }
+
+    private Map<String, List<Long>> findHolders(Long tenantId, Collection<String> keys) {
+        Map<String, List<Long>> holders = new HashMap<>();
+        jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(FIND_BY_KEYS);
+            ps.setArray(1, con.createArrayOf("text", keys.toArray()));
+            ps.setLong(2, tenantId);
+            ps.setInt(3, maxLeadsPerKey + 1);
+            return ps;
+        }, rs -> {
+            holders.computeIfAbsent(rs.getString("match_key"), key -> new ArrayList<>()).add(rs.getLong("lead_id"));
+        });
+        return holders;
+    }
+
+    // The newer lead (higher id) is the suggested duplicate; the strongest reason found for a pair wins
+    private static void addCandidate(Map<String, Candidate> candidates, long a, long b, MatchReason reason) {
+        long newer = Math.max(a, b);
+        long older = Math.min(a, b);
+        Candidate candidate = candidates.computeIfAbsent(newer + ":" + older, pair -> new Candidate(newer, older, reason));
+        if (reason.ordinal() < candidate.reason.ordinal()) {
+            candidate.reason = reason;
+        }
+    }
+
+    private void verifySimilarNames(Map<String, Candidate> candidates, Map<Long, LeadFingerprint> fingerprints) {
+        List<Long> missing = new ArrayList<>();
+        for (Candidate candidate : candidates.values()) {
+            if (candidate.reason != MatchReason.SIMILAR_NAME) continue;
+            if (!fingerprints.containsKey(candidate.leadId)) missing.add(candidate.leadId);
+            if (!fingerprints.containsKey(candidate.duplicateOfLeadId)) missing.add(candidate.duplicateOfLeadId);
+        }
+        if (!missing.isEmpty()) {
+            jdbcTemplate.query(con -> {
+                PreparedStatement ps = con.prepareStatement(LOAD_LEADS);
+                ps.setArray(1, con.createArrayOf("bigint", missing.toArray()));
+                return ps;
+            }, rs -> {
+                fingerprints.put(rs.getLong("id"), new LeadFingerprint(rs.getString("first_name"), rs.getString("last_name"),
+                    rs.getString("email"), rs.getString("phone"), rs.getString("company")));
+            });
+        }
+
+        candidates.values().removeIf(candidate -> {
+            if (candidate.reason != MatchReason.SIMILAR_NAME) return false;
+            LeadFingerprint a = fingerprints.get(candidate.leadId);
+            LeadFingerprint b = fingerprints.get(candidate.duplicateOfLeadId);
+            if (a == null || b == null) return true;
+            candidate.similarity = a.similarity(b);
+            return candidate.similarity < fuzzyThreshold;
+        });
+    }
+
+    private static MatchReason reasonOf(String key) {
+        if (key.startsWith(LeadFingerprint.EMAIL)) return MatchReason.EMAIL;
+        if (key.startsWith(LeadFingerprint.PHONE)) return MatchReason.PHONE;
+        if (key.startsWith(LeadFingerprint.NAME_COMPANY)) return MatchReason.NAME_COMPANY;
+        return MatchReason.SIMILAR_NAME;
+    }
+}
@@ -0,0 +1,133 @@
+package com.smartlead.service;
+
+import com.smartlead.repository.LeadRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Periodically rebuilds lead_engagement summaries from the interactions table,
+ * walking leads in id order one chunk per transaction, and reports how many
+ * summaries had drifted (writes that bypassed {@link LeadEngagementService}).
+ */
+@Component
+public class LeadEngagementReconciler {
+
+    private static final Logger logger = LoggerFactory.getLogger(LeadEngagementReconciler.class);
+
+    @Autowired
+    private LeadEngagementService leadEngagementService;
+
+    @Autowired
+    private LeadRepository leadRepository;
+
+    @Value("${lead.engagement.reconcile.enabled:true}")
+    private boolean enabled;
+
+    @Value("${lead.engagement.reconcile.chunk-size:500}")
+    private int chunkSize;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+    private volatile Map<String, Object> lastReport = Collections.emptyMap();
+
+    @Scheduled(cron = "${lead.engagement.reconcile.cron:0 30 3 * * *}")
+    public void scheduledReconcile() {
+        if (!enabled) return;
+        reconcile();
+    }
+
+    /**
+     * Rebuild all summaries; returns the report, or the previous one if a run is already in progress
+     */
+    public Map<String, Object> reconcile() {
+        if (!running.compareAndSet(false, true)) {
+            logger.info("Engagement reconciliation already running");
+            return lastReport;
+        }
+
+        try {
+            return runReconcile();
+        } finally {
+            running.set(false);
+        }
+    }
+
+    /**
+     * Start a full rebuild on a background thread; false if a run is already in progress
+     */
+    public boolean reconcileInBackground() {
+        if (!running.compareAndSet(false, true)) {
+            return false;
+        }
+
+        Thread.ofVirtual().name("engagement-reconciliation").start(() -> {
+            try {
+                runReconcile();
+            } catch (RuntimeException e) {
+                // Already logged by runReconcile; the previous report stays in place
+            } finally {
+                running.set(false);
+            }
+        });
+        return true;
+    }
+
+    private Map<String, Object> runReconcile() {
+        try {
+            long started = System.currentTimeMillis();
+            LocalDate today = LocalDate.now();
+            long checked = 0;
+            long created = 0;
+            long drifted = 0;
+
+            Long afterId = 0L;
+            List<Long> leadIds;
+            while (!(leadIds = leadRepository.findIdsAfter(afterId, PageRequest.of(0, chunkSize))).isEmpty()) {
+                int[] result = leadEngagementService.reconcileChunk(leadIds, today);
+                created += result[0];
+                drifted += result[1];
+                checked += leadIds.size();
+                afterId = leadIds.get(leadIds.size() - 1);
+            }
+            int orphans = leadEngagementService.deleteOrphans();
+
+            Map<String, Object> report = new LinkedHashMap<>();
+            report.put("finishedAt", LocalDateTime.now());
+            report.put("durationMs", System.currentTimeMillis() - started);
+            report.put("leadsChecked", checked);
+            report.put("summariesCreated", created);
+            report.put("summariesDrifted", drifted);
+            report.put("orphansRemoved", orphans);
+            lastReport = report;
+
+            if (drifted > 0 || orphans > 0) {
+                logger.warn("Engagement reconciliation corrected {} drifted summaries ({} created) and removed {} orphans",
+                           drifted, created, orphans);
+            } else {
+                logger.info("Engagement reconciliation checked {} leads, no drift", checked);
+            }
+            return report;
+        } catch (RuntimeException e) {
+            logger.error("Engagement reconciliation failed: {}", e.getMessage());
+            throw e;
+        }
+    }
+
+    /**
+     * Report of the last completed run
+     */
+    public Map<String, Object> getLastReport() {
+        return lastReport;
+    }
+}
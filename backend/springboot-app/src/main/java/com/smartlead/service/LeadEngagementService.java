@@ -0,0 +1,96 @@
+package com.smartlead.service;
+
+import com.smartlead.entity.Interaction;
+import com.smartlead.entity.LeadEngagement;
+import com.smartlead.repository.InteractionRepository;
+import com.smartlead.repository.InteractionRepository.DailyCountRow;
+import com.smartlead.repository.InteractionRepository.TypeSummaryRow;
+import com.smartlead.repository.LeadEngagementRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Write path for interactions and the lead_engagement summaries derived from them.
+ * An interaction and its summary update commit together; the summary row is
+ * locked first, so concurrent writers for the same lead serialize and
+ * {@link #reconcileChunk} never rebuilds from a half-applied state.
+ */
+@Service
+public class LeadEngagementService {
+
+    @Autowired
+    private InteractionRepository interactionRepository;
+
+    @Autowired
+    private LeadEngagementRepository leadEngagementRepository;
+
+    /**
+     * Save an interaction and count it in its lead's engagement summary
+     */
+    @Transactional
+    public Interaction recordInteraction(Interaction interaction) {
+        Long leadId = interaction.getLead().getId();
+        leadEngagementRepository.insertIfAbsent(leadId);
+        LeadEngagement engagement = leadEngagementRepository.findForUpdate(leadId)
+            .orElseThrow(() -> new IllegalStateException("Engagement summary missing for lead " + leadId));
+
+        Interaction saved = interactionRepository.save(interaction);
+        engagement.record(saved.getType(), saved.getCreatedAt(), LocalDate.now());
+        return saved;
+    }
+
+    /**
+     * Rebuild the summaries of the given leads from the interactions table.
+     * Returns {created, drifted}: summaries that had to be created, and
+     * summaries (created ones included) whose stored values were wrong.
+     */
+    @Transactional
+    public int[] reconcileChunk(List<Long> leadIds, LocalDate today) {
+        int created = leadEngagementRepository.insertMissing(leadIds);
+        List<LeadEngagement> summaries = leadEngagementRepository.findAllForUpdate(leadIds);
+        if (summaries.isEmpty()) return new int[] { created, 0 };
+
+        List<Long> summarized = summaries.stream().map(LeadEngagement::getLeadId).toList();
+        Map<Long, LeadEngagement> rebuilt = new HashMap<>();
+        for (Long leadId : summarized) {
+            rebuilt.put(leadId, new LeadEngagement(leadId, today));
+        }
+        for (TypeSummaryRow row : interactionRepository.summarizeByType(summarized)) {
+            rebuilt.get(row.getLeadId()).addCount(row.getType(), row.getTotal(), row.getLastAt());
+        }
+        LocalDate windowStart = today.minusDays(LeadEngagement.RECENT_DAYS - 1);
+        for (DailyCountRow row : interactionRepository.countByDay(summarized, windowStart.atStartOfDay())) {
+            rebuilt.get(row.getLeadId()).addToDay(row.getDay(), row.getTotal().intValue());
+        }
+
+        int drifted = 0;
+        for (LeadEngagement summary : summaries) {
+            LeadEngagement expected = rebuilt.get(summary.getLeadId());
+            if (!summary.sameAs(expected, today)) {
+                summary.replaceWith(expected, today);
+                drifted++;
+            }
+        }
+        return new int[] { created, drifted };
+    }
+
+    /**
+     * Remove summaries whose lead no longer exists
+     */
+    @Transactional
+    public int deleteOrphans() {
+        return leadEngagementRepository.deleteOrphans();
+    }
+
+    /**
+     * Drop a lead's summary when the lead is deleted
+     */
+    public void deleteForLead(Long leadId) {
+        leadEngagementRepository.deleteAllByIdInBatch(List.of(leadId));
+    }
+}
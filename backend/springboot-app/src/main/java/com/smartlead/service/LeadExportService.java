@@ -0,0 +1,187 @@
+package com.smartlead.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.smartlead.entity.Lead;
+import com.smartlead.repository.LeadRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Streams a tenant's leads as NDJSON or CSV. Rows come from a forward-only
+ * cursor and each lead is detached once written, so memory stays flat no
+ * matter how many leads the tenant has.
+ */
+@Service
+public class LeadExportService {
+
+    public enum Format {
+        NDJSON("application/x-ndjson", "ndjson"),
+        CSV("text/csv", "csv");
+
+        private final String contentType;
+        private final String extension;
+
+        Format(String contentType, String extension) {
+            this.contentType = contentType;
+            this.extension = extension;
+        }
+
+        public String getContentType() { return contentType; }
+        public String getExtension() { return extension; }
+
+        public static Format fromParam(String param) {
+            return Format.valueOf(param.toUpperCase(Locale.ROOT));
+        }
+    }
+
+    public enum Field {
+        ID("id", Lead::getId),
+        FIRST_NAME("firstName", Lead::getFirstName),
+        LAST_NAME("lastName", Lead::getLastName),
+        EMAIL("email", Lead::getEmail),
+        PHONE("phone", Lead::getPhone),
+        COMPANY("company", Lead::getCompany),
+        JOB_TITLE("jobTitle", Lead::getJobTitle),
+        STATUS("status", Lead::getStatus),
+        SCORE("score", Lead::getScore),
+        SCORE_VALUE("scoreValue", Lead::getScoreValue),
+        CREATED_AT("createdAt", Lead::getCreatedAt),
+        LAST_CONTACTED_AT("lastContactedAt", Lead::getLastContactedAt);
+
+        private final String param;
+        private final Function<Lead, Object> extractor;
+
+        Field(String param, Function<Lead, Object> extractor) {
+            this.param = param;
+            this.extractor = extractor;
+        }
+
+        public String getParam() { return param; }
+
+        Object valueOf(Lead lead) {
+            return extractor.apply(lead);
+        }
+
+        /**
+         * Fields from a comma-separated list of names; all fields when the list is empty
+         */
+        public static List<Field> fromParams(String params) {
+            if (params == null || params.isBlank()) return Arrays.asList(values());
+
+            List<Field> fields = new ArrayList<>();
+            for (String name : params.split(",")) {
+                Field field = Arrays.stream(values())
+                    .filter(f -> f.param.equals(name.trim()))
+                    .findFirst()
+                    .orElseThrow(() -> new IllegalArgumentException("Unknown export field: " + name));
+                if (!fields.contains(field)) fields.add(field);
+            }
+            return fields;
+        }
+    }
+
+    @Autowired
+    private LeadRepository leadRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * Write all leads of the tenant to {@code out}; returns the number of rows written
+     */
+    @Transactional(readOnly = true)
+    public long export(Long tenantId, Format format, List<Field> fields, OutputStream out) throws IOException {
+        try (Stream<Lead> leads = leadRepository.streamByTenantId(tenantId)) {
+            return format == Format.CSV
+                ? writeCsv(leads, fields, out)
+                : writeNdjson(leads, fields, out);
+        }
+    }
+
+    private long writeNdjson(Stream<Lead> leads, List<Field> fields, OutputStream out) throws IOException {
+        long rows = 0;
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setRootValueSeparator(null);
+            for (Lead lead : (Iterable<Lead>) leads::iterator) {
+                generator.writeStartObject();
+                for (Field field : fields) {
+                    generator.writeFieldName(field.param);
+                    Object value = field.valueOf(lead);
+                    if (value == null) {
+                        generator.writeNull();
+                    } else if (value instanceof Long number) {
+                        generator.writeNumber(number);
+                    } else if (value instanceof Integer number) {
+                        generator.writeNumber(number);
+                    } else {
+                        generator.writeString(value.toString());
+                    }
+                }
+                generator.writeEndObject();
+                generator.writeRaw('\n');
+                entityManager.detach(lead);
+                rows++;
+            }
+        }
+        return rows;
+    }
+
+    private long writeCsv(Stream<Lead> leads, List<Field> fields, OutputStream out) throws IOException {
+        long rows = 0;
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        for (int i = 0; i < fields.size(); i++) {
+            if (i > 0) writer.write(',');
+            writer.write(fields.get(i).param);
+        }
+        writer.write("\r\n");
+
+        for (Lead lead : (Iterable<Lead>) leads::iterator) {
+            for (int i = 0; i < fields.size(); i++) {
+                if (i > 0) writer.write(',');
+                Object value = fields.get(i).valueOf(lead);
+                if (value != null) writeCsvValue(writer, value.toString());
+            }
+            writer.write("\r\n");
+            entityManager.detach(lead);
+            rows++;
+        }
+        writer.flush();
+        return rows;
+    }
+
+    // RFC 4180: quote values containing separators, quotes or line breaks and double embedded quotes
+    private static void writeCsvValue(Writer writer, String value) throws IOException {
+        boolean quote = false;
+        for (int i = 0; i < value.length() && !quote; i++) {
+            char c = value.charAt(i);
+            quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        if (!quote) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+}
@@ -0,0 +1,423 @@
+package com.smartlead.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.smartlead.cache.TenantLeadCache;
+import com.smartlead.entity.Lead;
+import com.smartlead.entity.LeadImportJob;
+import com.smartlead.entity.LeadImportJob.ImportFormat;
+import com.smartlead.entity.LeadImportJob.ImportStatus;
+import com.smartlead.entity.Tenant;
+import com.smartlead.imports.LeadBatchWriter;
+import com.smartlead.imports.LeadImportPipeline;
+import com.smartlead.imports.LeadImportPipeline.PreparedRow;
+import com.smartlead.imports.LeadRecord;
+import com.smartlead.imports.LeadRecordReader;
+import com.smartlead.repository.LeadImportJobRepository;
+import com.smartlead.repository.TenantRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bulk lead import jobs. Uploads are spooled to the import storage directory,
+ * which every backend node must mount (a shared volume, required config), then
+ * parsed as a stream in chunks: each chunk is validated and rule-scored in
+ * parallel and written with JDBC batching in one transaction together with the
+ * job's progress, so a job interrupted by a crash, shutdown or redeploy resumes
+ * after its last committed chunk on whichever node claims it once its heartbeat
+ * has expired.
+ */
+@Service
+public class LeadImportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(LeadImportService.class);
+
+    private static final int MAX_REJECTION_SAMPLES = 20;
+    private static final List<ImportStatus> CLAIMABLE = List.of(ImportStatus.PENDING, ImportStatus.RUNNING);
+
+    @Autowired
+    private LeadImportJobRepository leadImportJobRepository;
+
+    @Autowired
+    private TenantRepository tenantRepository;
+
+    @Autowired
+    private LeadBatchWriter leadBatchWriter;
+
+    @Autowired
+    private AILeadScoringService aiLeadScoringService;
+
+    @Autowired
+    private TenantLeadCache tenantLeadCache;
+
+    @Autowired
+    private LeadStatsService leadStatsService;
+
+    @Autowired
+    private LeadDedupService leadDedupService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    // No default: a node-local directory would strand jobs whose runner dies
+    @Value("${lead.import.storage-dir:}")
+    private String storageDir;
+
+    @Value("${lead.import.workers:2}")
+    private int workerCount;
+
+    @Value("${lead.import.chunk-size:1000}")
+    private int chunkSize;
+
+    @Value("${lead.import.heartbeat-timeout-ms:120000}")
+    private long heartbeatTimeoutMs;
+
+    @Value("${lead.import.enqueue-full-scoring:true}")
+    private boolean enqueueFullScoring;
+
+    private ExecutorService executor;
+    private TransactionTemplate transactionTemplate;
+    private LeadImportPipeline pipeline;
+
+    // Jobs queued or running on this node, so the resume check does not queue them twice
+    private final Set<Long> scheduled = ConcurrentHashMap.newKeySet();
+
+    // Progress of jobs running on this node, for byte-level progress and throughput
+    private final Map<Long, RunProgress> running = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    public void start() throws IOException {
+        if (storageDir.isBlank()) {
+            throw new IllegalStateException("lead.import.storage-dir (LEAD_IMPORT_STORAGE_DIR) is not set; "
+                + "point it at a directory shared by every backend node so any node can resume an import");
+        }
+        Files.createDirectories(Paths.get(storageDir));
+
+        AtomicInteger threadIds = new AtomicInteger();
+        executor = Executors.newFixedThreadPool(workerCount, r -> {
+            Thread t = new Thread(r, "lead-import-" + threadIds.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        pipeline = new LeadImportPipeline(aiLeadScoringService);
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        // Interrupted jobs stop between chunks and stay RUNNING until another node (or restart) resumes them
+        executor.shutdownNow();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Spool an upload to the shared storage directory and start importing it;
+     * the format comes from the parameter or, failing that, the file extension
+     */
+    public LeadImportJob submit(MultipartFile file, String format, Long tenantId) throws IOException {
+        ImportFormat importFormat = resolveFormat(format, file.getOriginalFilename());
+
+        // Stored relative to the storage directory, so nodes may mount it at different paths
+        String fileName = UUID.randomUUID() + "." + importFormat.name().toLowerCase(Locale.ROOT);
+        Path target = Paths.get(storageDir).resolve(fileName);
+        file.transferTo(target);
+
+        LeadImportJob job = leadImportJobRepository.save(new LeadImportJob(
+            tenantId, importFormat, fileName, file.getOriginalFilename(), Files.size(target)));
+        schedule(job.getId());
+        return job;
+    }
+
+    public Optional<LeadImportJob> getJob(Long jobId, Long tenantId) {
+        return leadImportJobRepository.findByIdAndTenantId(jobId, tenantId);
+    }
+
+    public List<LeadImportJob> getRecentJobs(Long tenantId) {
+        return leadImportJobRepository.findTop20ByTenantIdOrderByCreatedAtDesc(tenantId);
+    }
+
+    /**
+     * Pick up jobs whose runner died (crash, redeploy) or that were never started
+     */
+    @Scheduled(fixedDelayString = "${lead.import.resume-check-ms:60000}")
+    public void resumeAbandoned() {
+        try {
+            LocalDateTime cutoff = LocalDateTime.now().minusNanos(heartbeatTimeoutMs * 1_000_000L);
+            for (Long jobId : leadImportJobRepository.findAbandoned(CLAIMABLE, cutoff)) {
+                schedule(jobId);
+            }
+        } catch (Exception e) {
+            logger.error("Error checking for abandoned import jobs: {}", e.getMessage());
+        }
+    }
+
+    private void schedule(Long jobId) {
+        if (!scheduled.add(jobId)) return;
+
+        try {
+            executor.execute(() -> {
+                try {
+                    run(jobId);
+                } finally {
+                    scheduled.remove(jobId);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            scheduled.remove(jobId);
+            logger.warn("Import job {} not scheduled, executor is shut down", jobId);
+        }
+    }
+
+    private void run(Long jobId) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime cutoff = now.minusNanos(heartbeatTimeoutMs * 1_000_000L);
+        if (leadImportJobRepository.claim(jobId, ImportStatus.RUNNING, CLAIMABLE, now, cutoff) == 0) {
+            return;
+        }
+
+        LeadImportJob job = leadImportJobRepository.findById(jobId).orElseThrow();
+        RunProgress progress = new RunProgress();
+        running.put(jobId, progress);
+        try {
+            if (job.getStartedAt() == null) {
+                job.setStartedAt(now);
+                job = leadImportJobRepository.save(job);
+            } else {
+                logger.info("Resuming import job {} after row {}", jobId, job.getRowsProcessed());
+            }
+
+            boolean finished = importFile(job, progress);
+            if (finished) {
+                complete(jobId, progress);
+            }
+        } catch (Exception e) {
+            logger.error("Import job {} failed: {}", jobId, e.getMessage());
+            fail(jobId, e);
+        } finally {
+            running.remove(jobId);
+        }
+    }
+
+    /**
+     * Import the remaining rows of the job; false when interrupted before the end of the file
+     */
+    private boolean importFile(LeadImportJob job, RunProgress progress) throws IOException {
+        Tenant tenant = tenantRepository.findById(job.getTenantId())
+            .orElseThrow(() -> new IllegalStateException("Tenant " + job.getTenantId() + " no longer exists"));
+
+        try (InputStream in = new CountingInputStream(Files.newInputStream(spooledFile(job)), progress.bytesRead);
+             LeadRecordReader reader = LeadRecordReader.open(job.getFormat(), in, objectMapper)) {
+
+            // Rows up to the checkpoint were committed by an earlier run
+            for (long skipped = 0; skipped < job.getRowsProcessed(); skipped++) {
+                if (reader.next() == null) return true;
+            }
+
+            List<LeadRecord> chunk = new ArrayList<>(chunkSize);
+            LeadRecord record;
+            while ((record = reader.next()) != null) {
+                chunk.add(record);
+                if (chunk.size() == chunkSize) {
+                    if (Thread.currentThread().isInterrupted()) return false;
+                    writeChunk(job, pipeline.prepare(chunk, tenant), progress);
+                    chunk.clear();
+                }
+            }
+            if (!chunk.isEmpty()) {
+                writeChunk(job, pipeline.prepare(chunk, tenant), progress);
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Insert a chunk's accepted leads and advance the job checkpoint atomically
+     */
+    private void writeChunk(LeadImportJob importJob, List<PreparedRow> rows, RunProgress progress) {
+        List<Lead> leads = new ArrayList<>(rows.size());
+        List<String> rejections = new ArrayList<>();
+        for (PreparedRow row : rows) {
+            if (row.isRejected()) {
+                rejections.add("row " + row.getRowNumber() + ": " + row.getRejection());
+            } else {
+                leads.add(row.getLead());
+            }
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            leadBatchWriter.insertLeads(leads);
+            leadStatsService.leadsImported(importJob.getTenantId(), leads);
+            leadDedupService.detect(importJob.getTenantId(), leads);
+            if (enqueueFullScoring) {
+                leadBatchWriter.enqueueScoring(leads);
+            }
+
+            LeadImportJob job = leadImportJobRepository.findById(importJob.getId()).orElseThrow();
+            job.setRowsProcessed(job.getRowsProcessed() + rows.size());
+            job.setRowsImported(job.getRowsImported() + leads.size());
+            job.setRowsRejected(job.getRowsRejected() + rejections.size());
+            job.setRejectionSample(appendSamples(job.getRejectionSample(), job.getRowsRejected(), rejections));
+            job.setHeartbeatAt(LocalDateTime.now());
+        });
+        progress.rowsThisRun.addAndGet(rows.size());
+        if (!leads.isEmpty()) {
+            tenantLeadCache.invalidate(importJob.getTenantId());
+        }
+    }
+
+    private void complete(Long jobId, RunProgress progress) {
+        leadImportJobRepository.findById(jobId).ifPresent(job -> {
+            job.setStatus(ImportStatus.COMPLETED);
+            job.setFinishedAt(LocalDateTime.now());
+            leadImportJobRepository.save(job);
+            deleteSpooledFile(job);
+            logger.info("Import job {} completed: {} imported, {} rejected, {} rows/s",
+                       jobId, job.getRowsImported(), job.getRowsRejected(), Math.round(progress.rowsPerSecond()));
+        });
+    }
+
+    private void fail(Long jobId, Exception e) {
+        leadImportJobRepository.findById(jobId).ifPresent(job -> {
+            String error = e.getMessage();
+            job.setStatus(ImportStatus.FAILED);
+            job.setLastError(error != null && error.length() > 1000 ? error.substring(0, 1000) : error);
+            job.setFinishedAt(LocalDateTime.now());
+            leadImportJobRepository.save(job);
+            deleteSpooledFile(job);
+        });
+    }
+
+    /**
+     * Job state for the API; byte progress and throughput only while it runs on this node
+     */
+    public Map<String, Object> getProgress(LeadImportJob job) {
+        Map<String, Object> progress = new LinkedHashMap<>();
+        progress.put("id", job.getId());
+        progress.put("status", job.getStatus().name());
+        progress.put("format", job.getFormat().name());
+        progress.put("filename", job.getOriginalFilename());
+        progress.put("rowsProcessed", job.getRowsProcessed());
+        progress.put("rowsImported", job.getRowsImported());
+        progress.put("rowsRejected", job.getRowsRejected());
+        progress.put("rejectionSample", job.getRejectionSample());
+        progress.put("lastError", job.getLastError());
+        progress.put("createdAt", job.getCreatedAt());
+        progress.put("startedAt", job.getStartedAt());
+        progress.put("finishedAt", job.getFinishedAt());
+
+        RunProgress run = running.get(job.getId());
+        if (run != null && job.getFileSize() > 0) {
+            progress.put("percent", Math.min(100.0, 100.0 * run.bytesRead.get() / job.getFileSize()));
+            progress.put("rowsPerSecond", Math.round(run.rowsPerSecond()));
+        } else if (job.getStatus() == ImportStatus.COMPLETED) {
+            progress.put("percent", 100.0);
+        }
+        return progress;
+    }
+
+    private static String appendSamples(String existing, long rejectedTotal, List<String> rejections) {
+        if (rejections.isEmpty() || rejectedTotal - rejections.size() >= MAX_REJECTION_SAMPLES) return existing;
+
+        StringBuilder sample = new StringBuilder(existing == null ? "" : existing);
+        long room = MAX_REJECTION_SAMPLES - (rejectedTotal - rejections.size());
+        for (int i = 0; i < rejections.size() && i < room; i++) {
+            String line = rejections.get(i);
+            if (sample.length() + line.length() + 1 > 4000) break;
+            if (sample.length() > 0) sample.append('\n');
+            sample.append(line);
+        }
+        return sample.toString();
+    }
+
+    private static ImportFormat resolveFormat(String format, String filename) {
+        if (format != null && !format.isBlank()) {
+            return ImportFormat.valueOf(format.trim().toUpperCase(Locale.ROOT));
+        }
+        String name = filename == null ? "" : filename.toLowerCase(Locale.ROOT);
+        if (name.endsWith(".csv")) return ImportFormat.CSV;
+        if (name.endsWith(".ndjson") || name.endsWith(".jsonl")) return ImportFormat.NDJSON;
+        throw new IllegalArgumentException("Cannot tell the import format of " + filename + "; pass format=csv|ndjson");
+    }
+
+    // Jobs spooled before paths became relative hold an absolute path, which resolve() keeps as is
+    private Path spooledFile(LeadImportJob job) {
+        return Paths.get(storageDir).resolve(job.getFilePath());
+    }
+
+    private void deleteSpooledFile(LeadImportJob job) {
+        try {
+            Files.deleteIfExists(spooledFile(job));
+        } catch (IOException e) {
+            logger.warn("Could not delete spooled import file {}: {}", job.getFilePath(), e.getMessage());
+        }
+    }
+
+    private static final class RunProgress {
+        private final long startedNanos = System.nanoTime();
+        private final AtomicLong bytesRead = new AtomicLong();
+        // Rows written by this run only, so a resumed job's throughput ignores the skipped prefix
+        private final AtomicLong rowsThisRun = new AtomicLong();
+
+        double rowsPerSecond() {
+            double seconds = Duration.ofNanos(System.nanoTime() - startedNanos).toMillis() / 1000.0;
+            return seconds <= 0 ? 0 : rowsThisRun.get() / seconds;
+        }
+    }
+
+    private static final class CountingInputStream extends FilterInputStream {
+        private final AtomicLong count;
+
+        CountingInputStream(InputStream in, AtomicLong count) {
+            super(in);
+            this.count = count;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b != -1) count.incrementAndGet();
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int n = super.read(b, off, len);
+            if (n > 0) count.addAndGet(n);
+            return n;
+        }
+    }
+}
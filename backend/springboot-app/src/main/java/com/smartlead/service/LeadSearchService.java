@@ -0,0 +1,168 @@
+package com.smartlead.service;
+
+import com.smartlead.dto.LeadDto;
+import com.smartlead.entity.Lead.LeadScore;
+import com.smartlead.entity.Lead.LeadStatus;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Service;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Ranked lead search within a tenant over a trigram index on
+ * {@code leads.search_text} (names, email and company, lower-cased).
+ * Substring matches (which covers prefixes) rank first, then fuzzy word
+ * matches by similarity, so typos like "jonh smiht" still find the lead.
+ */
+@Service
+public class LeadSearchService {
+
+    private static final Logger logger = LoggerFactory.getLogger(LeadSearchService.class);
+
+    private static final String INDEX_NAME = "idx_leads_tenant_search_trgm";
+
+    // search_text is a stored generated column: every write path (JPA, JDBC import) keeps it current.
+    // Adding it rewrites the table under an ACCESS EXCLUSIVE lock, so it only runs as part of the migration.
+    private static final String ADD_COLUMN =
+        "ALTER TABLE leads ADD COLUMN search_text text GENERATED ALWAYS AS " +
+        "(lower(first_name || ' ' || last_name || ' ' || email || ' ' || coalesce(company, ''))) STORED";
+
+    // The composite GIN index (btree_gin for tenant_id) serves the tenant filter and the trigram match together
+    private static final String CREATE_INDEX =
+        "CREATE INDEX CONCURRENTLY " + INDEX_NAME + " ON leads USING gin (tenant_id, search_text gin_trgm_ops)";
+
+    private static final String COLUMN_EXISTS =
+        "SELECT count(*) FROM information_schema.columns " +
+        "WHERE table_schema = current_schema() AND table_name = 'leads' AND column_name = 'search_text'";
+
+    // A CREATE INDEX CONCURRENTLY that failed half-way leaves the index behind with indisvalid = false
+    private static final String INDEX_VALID =
+        "SELECT i.indisvalid FROM pg_index i JOIN pg_class c ON c.oid = i.indexrelid " +
+        "WHERE c.relname = '" + INDEX_NAME + "' AND c.relnamespace = current_schema()::regnamespace";
+
+    // Substring matches and whole-text prefixes first, then fuzzy word matches (<%) by word similarity.
+    // Only the columns LeadDto shows are read.
+    private static final String SEARCH =
+        "SELECT id, first_name, last_name, email, phone, company, job_title, status, score, score_value, " +
+        "created_at, last_contacted_at FROM leads WHERE tenant_id = ? " +
+        "AND (search_text LIKE ? OR ? <% search_text) " +
+        "ORDER BY search_text LIKE ? DESC, search_text LIKE ? DESC, word_similarity(?, search_text) DESC, id DESC " +
+        "LIMIT ?";
+
+    private static final RowMapper<LeadDto> LEAD_DTO_MAPPER = (rs, rowNum) -> {
+        String status = rs.getString("status");
+        String score = rs.getString("score");
+        return new LeadDto(rs.getLong("id"), rs.getString("first_name"), rs.getString("last_name"),
+            rs.getString("email"), rs.getString("phone"), rs.getString("company"), rs.getString("job_title"),
+            status == null ? null : LeadStatus.valueOf(status), score == null ? null : LeadScore.valueOf(score),
+            rs.getObject("score_value", Integer.class), toLocalDateTime(rs.getTimestamp("created_at")),
+            toLocalDateTime(rs.getTimestamp("last_contacted_at")));
+    };
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Value("${lead.search.min-query-length:3}")
+    private int minQueryLength;
+
+    @Value("${lead.search.default-limit:20}")
+    private int defaultLimit;
+
+    @Value("${lead.search.max-limit:100}")
+    private int maxLimit;
+
+    @Value("${lead.search.migrate-on-startup:false}")
+    private boolean migrateOnStartup;
+
+    private volatile boolean indexReady;
+
+    /**
+     * Check that the search column and a valid index exist; search is refused
+     * until they do. With {@code lead.search.migrate-on-startup} (meant for a
+     * single node, once) the missing pieces are created first.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void verifySearchIndex() {
+        if (migrateOnStartup) {
+            migrateSearchIndex();
+        }
+        boolean hasColumn = jdbcTemplate.queryForObject(COLUMN_EXISTS, Long.class) > 0;
+        Boolean indexValid = indexValidity();
+        indexReady = hasColumn && Boolean.TRUE.equals(indexValid);
+        if (!hasColumn || indexValid == null) {
+            logger.error("Lead search column or index {} is missing, search is disabled; " +
+                        "run once with lead.search.migrate-on-startup=true", INDEX_NAME);
+        } else if (!indexValid) {
+            logger.error("Lead search index {} is INVALID (an interrupted concurrent build), search is disabled; " +
+                        "run once with lead.search.migrate-on-startup=true to rebuild it", INDEX_NAME);
+        }
+    }
+
+    /**
+     * One-off migration: extensions, the generated column (table rewrite, only
+     * when missing) and the index, built concurrently. An invalid index left by
+     * an earlier failed build is dropped and rebuilt.
+     */
+    void migrateSearchIndex() {
+        jdbcTemplate.execute("CREATE EXTENSION IF NOT EXISTS pg_trgm");
+        jdbcTemplate.execute("CREATE EXTENSION IF NOT EXISTS btree_gin");
+        if (jdbcTemplate.queryForObject(COLUMN_EXISTS, Long.class) == 0) {
+            logger.info("Adding leads.search_text, this rewrites the leads table");
+            jdbcTemplate.execute(ADD_COLUMN);
+        }
+        Boolean indexValid = indexValidity();
+        if (Boolean.FALSE.equals(indexValid)) {
+            logger.warn("Dropping invalid lead search index {} before rebuilding it", INDEX_NAME);
+            jdbcTemplate.execute("DROP INDEX CONCURRENTLY " + INDEX_NAME);
+        }
+        if (!Boolean.TRUE.equals(indexValid)) {
+            logger.info("Building lead search index {}", INDEX_NAME);
+            jdbcTemplate.execute(CREATE_INDEX);
+        }
+    }
+
+    // null when the index does not exist
+    private Boolean indexValidity() {
+        List<Boolean> valid = jdbcTemplate.queryForList(INDEX_VALID, Boolean.class);
+        return valid.isEmpty() ? null : valid.get(0);
+    }
+
+    /**
+     * Best matches for the query among the tenant's leads. Queries shorter
+     * than the minimum length are rejected: they yield no trigrams and would
+     * scan the whole index. Throws IllegalStateException while the index is
+     * missing or invalid.
+     */
+    public List<LeadDto> search(Long tenantId, String query, Integer limit) {
+        String term = query == null ? "" : query.trim().toLowerCase(Locale.ROOT);
+        if (!indexReady) {
+            throw new IllegalStateException("Lead search index is not ready");
+        }
+        if (term.length() < minQueryLength) {
+            throw new IllegalArgumentException("Search query needs at least " + minQueryLength + " characters");
+        }
+        int size = limit == null ? defaultLimit : Math.max(1, Math.min(limit, maxLimit));
+
+        String literal = escapeLike(term);
+        String pattern = "%" + literal + "%";
+        return jdbcTemplate.query(SEARCH, LEAD_DTO_MAPPER,
+            tenantId, pattern, term, literal + "%", pattern, term, size);
+    }
+
+    private static LocalDateTime toLocalDateTime(Timestamp timestamp) {
+        return timestamp == null ? null : timestamp.toLocalDateTime();
+    }
+
+    private static String escapeLike(String term) {
+        return term.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
@@ -1,53 +1,263 @@
 // src/main/java/com/smartlead/service/LeadService.java
 package com.smartlead.service;
 
+import com.smartlead.cache.TenantLeadCache;
+import com.smartlead.dto.CursorPage;
+import com.smartlead.dto.LeadCursor;
+import com.smartlead.dto.LeadDto;
 import com.smartlead.entity.Lead;
+import com.smartlead.entity.LeadMergeSuggestion.SuggestionStatus;
 import com.smartlead.entity.Lead.LeadScore;
+import com.smartlead.entity.Lead.LeadStatus;
 import com.smartlead.entity.Tenant;
+import com.smartlead.repository.InteractionRepository;
 import com.smartlead.repository.LeadRepository;
+import com.smartlead.scoring.ScoringResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.cache.annotation.Cacheable;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
+import java.util.OptionalLong;
 import java.time.LocalDateTime;
 
 @Service
 public class LeadService {
     
+    private static final Logger logger = LoggerFactory.getLogger(LeadService.class);
+    
     @Autowired
     private LeadRepository leadRepository;
     
     @Autowired
     private AILeadScoringService aiLeadScoringService;
     
+    @Autowired
+    private ScoringQueueService scoringQueueService;
+    
+    @Autowired
+    private LeadEngagementService leadEngagementService;
+    
+    @Autowired
+    private TenantLeadCache tenantLeadCache;
+    
+    @Autowired
+    private LeadStatsService leadStatsService;
+    
+    @Autowired
+    private LeadDedupService leadDedupService;
+    
+    @Autowired
+    private InteractionRepository interactionRepository;
+    
+    @Autowired
+    private RescoreScheduler rescoreScheduler;
+    
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    
+    @Value("${lead.pagination.default-size:50}")
+    private int defaultPageSize;
+    
+    @Value("${lead.pagination.max-size:200}")
+    private int maxPageSize;
+    
+    @Transactional
     public Lead createLead(String firstName, String lastName, String email, 
                           String phone, String company, String jobTitle, Tenant tenant) {
         Lead lead = new Lead(firstName, lastName, email, phone, company, jobTitle, tenant);
         
-        // AI Lead Scoring
-        int aiScore = aiLeadScoringService.calculateLeadScore(lead);
-        lead.setScoreValue(aiScore);
-        lead.setScore(determineLeadScore(aiScore));
+        // Provisional rule-based score; engagement and AI scoring run on the scoring queue
+        int provisionalScore = aiLeadScoringService.calculateProvisionalScore(lead);
+        lead.setScoreValue(provisionalScore);
+        lead.setScore(determineLeadScore(provisionalScore));
         
-        return leadRepository.save(lead);
+        Lead saved = leadRepository.save(lead);
+        scoringQueueService.enqueue(saved.getId());
+        leadStatsService.leadCreated(saved);
+        leadDedupService.detect(tenant.getId(), List.of(saved));
+        tenantLeadCache.invalidateAfterCommit(tenant.getId());
+        return saved;
     }
     
-    @Cacheable("leads")
-    public List<Lead> getLeadsByTenant(Long tenantId) {
-        return leadRepository.findByTenantId(tenantId);
+    /**
+     * Full scoring (engagement + AI) of a stored lead. Runs outside a transaction so
+     * the OpenAI round trip never holds a connection; only the score columns and the
+     * tenant's score counter are written, together in one short transaction, along
+     * with the time the score next changes by itself. An unchanged score writes
+     * nothing and leaves the tenant's lead cache (and list ETag) alone. A partial
+     * score (a stage missed the scoring deadline) is still stored and returned as
+     * such so the caller can retry; null when the lead no longer exists.
+     */
+    public ScoringResult rescoreLead(Long leadId) {
+        return leadRepository.findById(leadId).map(lead -> {
+            LocalDateTime scoredAt = LocalDateTime.now();
+            ScoringResult result = aiLeadScoringService.scoreLead(lead);
+            int scoreValue = result.getScore();
+            LocalDateTime nextChange = aiLeadScoringService.nextScoreChangeAt(lead, scoredAt);
+            boolean changed = Boolean.TRUE.equals(new TransactionTemplate(transactionManager).execute(status ->
+                leadRepository.lockScoreValue(leadId).map(previousScore -> {
+                    rescoreScheduler.schedule(leadId, nextChange);
+                    if (leadRepository.updateScore(leadId, scoreValue, determineLeadScore(scoreValue)) == 0) {
+                        return false;
+                    }
+                    leadStatsService.scoreChanged(lead.getTenant().getId(), previousScore, scoreValue);
+                    return true;
+                }).orElse(false)));
+            if (changed) {
+                tenantLeadCache.invalidate(lead.getTenant().getId());
+            }
+            return result;
+        }).orElse(null);
+    }
+    
+    /**
+     * One keyset page of a tenant's leads. First pages, which nearly every
+     * listing request hits, are served from the lead cache under the tenant
+     * version the caller read (see {@link #getLeadListVersion}); read straight
+     * from the database when that version is unknown.
+     */
+    public CursorPage<LeadDto> getLeadPage(Long tenantId, OptionalLong version, LeadCursor.Sort sort,
+                                           String cursorToken, Integer limit) {
+        int pageSize = limit == null ? defaultPageSize : Math.max(1, Math.min(limit, maxPageSize));
+        if (cursorToken == null || cursorToken.isEmpty()) {
+            if (version.isEmpty()) {
+                return loadLeadPage(tenantId, sort, null, pageSize);
+            }
+            return tenantLeadCache.get(tenantId, version.getAsLong(), "page:" + sort + ":" + pageSize,
+                () -> loadLeadPage(tenantId, sort, null, pageSize));
+        }
+        return loadLeadPage(tenantId, sort, LeadCursor.decode(cursorToken, sort), pageSize);
+    }
+    
+    /**
+     * Fetches one extra row to tell whether another page follows, so no count query is needed
+     */
+    private CursorPage<LeadDto> loadLeadPage(Long tenantId, LeadCursor.Sort sort, LeadCursor cursor, int pageSize) {
+        Pageable window = PageRequest.of(0, pageSize + 1);
+        
+        List<LeadDto> leads;
+        if (sort == LeadCursor.Sort.SCORE) {
+            leads = cursor == null
+                ? leadRepository.findPageByScore(tenantId, window)
+                : leadRepository.findPageByScoreBelow(tenantId, cursor.getScoreValue(), cursor.getId(), window);
+        } else {
+            leads = cursor == null
+                ? leadRepository.findPageByCreatedAt(tenantId, window)
+                : leadRepository.findPageByCreatedAtBefore(tenantId, cursor.getCreatedAt(), cursor.getId(), window);
+        }
+        
+        if (leads.size() <= pageSize) {
+            return new CursorPage<>(leads, null);
+        }
+        
+        leads = leads.subList(0, pageSize);
+        LeadDto last = leads.get(pageSize - 1);
+        LeadCursor next = sort == LeadCursor.Sort.SCORE
+            ? LeadCursor.afterScore(last.getScoreValue(), last.getId())
+            : LeadCursor.afterCreatedAt(last.getCreatedAt(), last.getId());
+        return new CursorPage<>(leads, next.encode());
     }
     
     public Optional<Lead> getLeadById(Long id) {
         return leadRepository.findById(id);
     }
     
+    /**
+     * The tenant's durable lead version, bumped in the transaction of every
+     * lead write, so it never repeats or goes back. One primary key read; empty
+     * when it cannot be read, in which case listings carry no ETag.
+     */
+    public OptionalLong getLeadListVersion(Long tenantId) {
+        try {
+            return OptionalLong.of(leadStatsService.leadsVersion(tenantId));
+        } catch (DataAccessException e) {
+            logger.warn("Reading the lead version of tenant {} failed: {}", tenantId, e.getMessage());
+            return OptionalLong.empty();
+        }
+    }
+    
+    /**
+     * Strong ETag for the tenant's lead listings at the given lead version
+     */
+    public String getLeadListETag(Long tenantId, long version) {
+        return "\"leads-" + tenantId + "-" + version + "\"";
+    }
+    
+    /**
+     * Strong ETag for one lead's detail view, from its version column (a
+     * primary key read). Empty when the tenant has no such lead.
+     */
+    public Optional<String> getLeadETag(Long tenantId, Long id) {
+        return leadRepository.findVersionById(id, tenantId).map(v -> "\"lead-" + id + "-" + v + "\"");
+    }
+    
+    /**
+     * Detail view of one of the tenant's leads, read straight into the DTO
+     */
+    public Optional<LeadDto> getLeadDto(Long tenantId, Long id) {
+        return leadRepository.findDtoById(id, tenantId);
+    }
+    
+    @Transactional
     public Lead updateLead(Lead lead) {
-        return leadRepository.save(lead);
+        LeadStatus previousStatus = lead.getPersistedStatus();
+        LocalDateTime previousConvertedAt = lead.getConvertedAt();
+        boolean statusChanged = lead.getStatus() != previousStatus;
+        if (statusChanged) {
+            lead.setConvertedAt(lead.getStatus() == LeadStatus.CONVERTED ? LocalDateTime.now() : null);
+        }
+        
+        Lead saved = leadRepository.save(lead);
+        if (statusChanged) {
+            leadStatsService.statusChanged(saved, previousStatus, previousConvertedAt);
+        } else {
+            leadStatsService.leadUpdated(saved);
+        }
+        leadDedupService.reindex(saved);
+        tenantLeadCache.invalidateAfterCommit(saved.getTenant().getId());
+        return saved;
     }
     
+    @Transactional
     public void deleteLead(Long id) {
-        leadRepository.deleteById(id);
+        leadRepository.findById(id).ifPresent(lead -> {
+            leadRepository.delete(lead);
+            leadEngagementService.deleteForLead(id);
+            leadStatsService.leadDeleted(lead);
+            leadDedupService.deleteForLead(id);
+            rescoreScheduler.schedule(id, null);
+            tenantLeadCache.invalidateAfterCommit(lead.getTenant().getId());
+        });
+    }
+    
+    /**
+     * Accept a merge suggestion: the duplicate's interactions move to the lead
+     * it duplicates, the duplicate is deleted and the kept lead is re-scored.
+     * Returns false if the suggestion is unknown or already resolved.
+     */
+    @Transactional
+    public boolean mergeDuplicate(Long tenantId, Long suggestionId) {
+        return leadDedupService.lockOpenSuggestion(suggestionId, tenantId).map(suggestion -> {
+            Long keepId = suggestion.getDuplicateOfLeadId();
+            Long dropId = suggestion.getLeadId();
+            leadDedupService.resolve(suggestion, SuggestionStatus.MERGED);
+            
+            interactionRepository.reassignLead(dropId, keepId);
+            deleteLead(dropId);
+            leadEngagementService.reconcileChunk(List.of(keepId), LocalDate.now());
+            scoringQueueService.enqueue(keepId);
+            return true;
+        }).orElse(false);
     }
     
     public List<Lead> getStaleLeads(Long tenantId, int daysOld) {
@@ -55,7 +265,7 @@ public class LeadService {
         return leadRepository.findStaleLeads(tenantId, cutoffDate);
     }
     
-    private LeadScore determineLeadScore(int scoreValue) {
+    public static LeadScore determineLeadScore(int scoreValue) {
         if (scoreValue >= 80) return LeadScore.HOT;
         if (scoreValue >= 50) return LeadScore.WARM;
         return LeadScore.COLD;
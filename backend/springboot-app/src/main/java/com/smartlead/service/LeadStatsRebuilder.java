@@ -0,0 +1,122 @@
+package com.smartlead.service;
+
+import com.smartlead.repository.TenantRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Periodically recomputes every tenant's dashboard counters from the leads
+ * table, one tenant per transaction, and reports how many had drifted
+ * (lead writes that bypassed {@link LeadStatsService}).
+ */
+@Component
+public class LeadStatsRebuilder {
+
+    private static final Logger logger = LoggerFactory.getLogger(LeadStatsRebuilder.class);
+
+    @Autowired
+    private LeadStatsService leadStatsService;
+
+    @Autowired
+    private TenantRepository tenantRepository;
+
+    @Value("${dashboard.stats.rebuild.enabled:true}")
+    private boolean enabled;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+    private volatile Map<String, Object> lastReport = Collections.emptyMap();
+
+    @Scheduled(cron = "${dashboard.stats.rebuild.cron:0 0 4 * * *}")
+    public void scheduledRebuild() {
+        if (!enabled) return;
+        rebuild();
+    }
+
+    /**
+     * Rebuild all tenants; returns the report, or the previous one if a run is already in progress
+     */
+    public Map<String, Object> rebuild() {
+        if (!running.compareAndSet(false, true)) {
+            logger.info("Dashboard stats rebuild already running");
+            return lastReport;
+        }
+
+        try {
+            return runRebuild();
+        } finally {
+            running.set(false);
+        }
+    }
+
+    /**
+     * Start a rebuild of all tenants on a background thread; false if a run is already in progress
+     */
+    public boolean rebuildInBackground() {
+        if (!running.compareAndSet(false, true)) {
+            return false;
+        }
+
+        Thread.ofVirtual().name("dashboard-stats-rebuild").start(() -> {
+            try {
+                runRebuild();
+            } catch (RuntimeException e) {
+                // Already logged by runRebuild; the previous report stays in place
+            } finally {
+                running.set(false);
+            }
+        });
+        return true;
+    }
+
+    private Map<String, Object> runRebuild() {
+        try {
+            long started = System.currentTimeMillis();
+            long tenants = 0;
+            long driftedTenants = 0;
+            long driftedCounters = 0;
+            for (Long tenantId : tenantRepository.findAllIds()) {
+                int drifted = leadStatsService.rebuildTenant(tenantId);
+                if (drifted > 0) {
+                    driftedTenants++;
+                    driftedCounters += drifted;
+                }
+                tenants++;
+            }
+
+            Map<String, Object> report = new LinkedHashMap<>();
+            report.put("finishedAt", LocalDateTime.now());
+            report.put("durationMs", System.currentTimeMillis() - started);
+            report.put("tenantsChecked", tenants);
+            report.put("tenantsDrifted", driftedTenants);
+            report.put("countersCorrected", driftedCounters);
+            lastReport = report;
+
+            if (driftedCounters > 0) {
+                logger.warn("Dashboard stats rebuild corrected {} counters across {} tenants",
+                           driftedCounters, driftedTenants);
+            } else {
+                logger.info("Dashboard stats rebuild checked {} tenants, no drift", tenants);
+            }
+            return report;
+        } catch (RuntimeException e) {
+            logger.error("Dashboard stats rebuild failed: {}", e.getMessage());
+            throw e;
+        }
+    }
+
+    /**
+     * Report of the last completed run
+     */
+    public Map<String, Object> getLastReport() {
+        return lastReport;
+    }
+}
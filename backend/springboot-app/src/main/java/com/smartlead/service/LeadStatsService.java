@@ -0,0 +1,223 @@
+package com.smartlead.service;
+
+import com.smartlead.entity.Lead;
+import com.smartlead.entity.Lead.LeadStatus;
+import com.smartlead.entity.TenantLeadStat;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Write path of the tenant_lead_stats counters behind the dashboard. Lead
+ * writes pass their effect on the counters as a {@link Delta}, applied in the
+ * caller's transaction. Every delta touches the tenant's TOTAL row first, so
+ * concurrent writers of a tenant and {@link #rebuildTenant} serialize on that
+ * row instead of deadlocking on the others. Every delta, even an empty one,
+ * also bumps the tenant's VERSION row, the durable lead version behind list
+ * ETags and the tenant lead cache.
+ */
+@Service
+public class LeadStatsService {
+
+    private static final String ADD =
+        "INSERT INTO tenant_lead_stats (tenant_id, metric, bucket, stat_value) VALUES (?, ?, ?, ?) " +
+        "ON CONFLICT (tenant_id, metric, bucket) DO UPDATE SET stat_value = tenant_lead_stats.stat_value + EXCLUDED.stat_value";
+
+    private static final String SET =
+        "INSERT INTO tenant_lead_stats (tenant_id, metric, bucket, stat_value) VALUES (?, ?, ?, ?) " +
+        "ON CONFLICT (tenant_id, metric, bucket) DO UPDATE SET stat_value = EXCLUDED.stat_value";
+
+    private static final String DELETE =
+        "DELETE FROM tenant_lead_stats WHERE tenant_id = ? AND metric = ? AND bucket = ?";
+
+    private static final String SELECT_STATS =
+        "SELECT metric, bucket, stat_value FROM tenant_lead_stats WHERE tenant_id = ?";
+
+    private static final String SELECT_VALUE =
+        "SELECT stat_value FROM tenant_lead_stats WHERE tenant_id = ? AND metric = ? AND bucket = ?";
+
+    private static final String COUNT_BY_STATUS =
+        "SELECT status, COUNT(*) AS leads, COALESCE(SUM(score_value), 0) AS score_sum " +
+        "FROM leads WHERE tenant_id = ? GROUP BY status";
+
+    // Same bucket as Delta.sourceBucket: missing or empty is unknown, long sources are cut to the bucket length
+    private static final String COUNT_BY_SOURCE =
+        "SELECT LEFT(COALESCE(NULLIF(source, ''), '" + TenantLeadStat.UNKNOWN_SOURCE + "'), " + TenantLeadStat.BUCKET_LENGTH + ") AS source, " +
+        "COUNT(*) AS leads FROM leads WHERE tenant_id = ? GROUP BY 1";
+
+    private static final String CONVERSIONS_BY_MONTH =
+        "SELECT to_char(converted_at, 'YYYY-MM') AS month, COUNT(*) AS conversions FROM leads " +
+        "WHERE tenant_id = ? AND status = 'CONVERTED' AND converted_at IS NOT NULL GROUP BY 1";
+
+    /**
+     * Counter changes caused by one or more lead writes of a tenant
+     */
+    public static final class Delta {
+        private final Map<String, Long> counts = new TreeMap<>();
+
+        public Delta add(String metric, String bucket, long amount) {
+            if (amount != 0) {
+                counts.merge(metric + '|' + bucket, amount, Long::sum);
+            }
+            return this;
+        }
+
+        /**
+         * Count the lead in ({@code sign} 1) or out of ({@code sign} -1) every counter it contributes to
+         */
+        public Delta addLead(LeadStatus status, Integer scoreValue, LocalDateTime convertedAt, String source, int sign) {
+            add(TenantLeadStat.TOTAL, TenantLeadStat.NO_BUCKET, sign);
+            add(TenantLeadStat.SCORE_SUM, TenantLeadStat.NO_BUCKET, sign * (long) (scoreValue == null ? 0 : scoreValue));
+            add(TenantLeadStat.SOURCE, sourceBucket(source), sign);
+            addStatus(status, convertedAt, sign);
+            return this;
+        }
+
+        static String sourceBucket(String source) {
+            if (source == null || source.isEmpty()) return TenantLeadStat.UNKNOWN_SOURCE;
+            return source.length() > TenantLeadStat.BUCKET_LENGTH ? source.substring(0, TenantLeadStat.BUCKET_LENGTH) : source;
+        }
+
+        public Delta addStatus(LeadStatus status, LocalDateTime convertedAt, int sign) {
+            if (status != null) {
+                add(TenantLeadStat.STATUS, status.name(), sign);
+            }
+            if (status == LeadStatus.CONVERTED && convertedAt != null) {
+                add(TenantLeadStat.CONVERSIONS, YearMonth.from(convertedAt).toString(), sign);
+            }
+            return this;
+        }
+    }
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    public void leadCreated(Lead lead) {
+        apply(lead.getTenant().getId(),
+              new Delta().addLead(lead.getStatus(), lead.getScoreValue(), lead.getConvertedAt(), lead.getSource(), 1));
+    }
+
+    public void leadDeleted(Lead lead) {
+        apply(lead.getTenant().getId(),
+              new Delta().addLead(lead.getStatus(), lead.getScoreValue(), lead.getConvertedAt(), lead.getSource(), -1));
+    }
+
+    public void leadsImported(Long tenantId, List<Lead> leads) {
+        if (leads.isEmpty()) return;
+        Delta delta = new Delta();
+        for (Lead lead : leads) {
+            delta.addLead(lead.getStatus(), lead.getScoreValue(), lead.getConvertedAt(), lead.getSource(), 1);
+        }
+        apply(tenantId, delta);
+    }
+
+    public void statusChanged(Lead lead, LeadStatus previousStatus, LocalDateTime previousConvertedAt) {
+        apply(lead.getTenant().getId(), new Delta()
+            .addStatus(previousStatus, previousConvertedAt, -1)
+            .addStatus(lead.getStatus(), lead.getConvertedAt(), 1));
+    }
+
+    public void scoreChanged(Long tenantId, int previousScore, int newScore) {
+        apply(tenantId, new Delta().add(TenantLeadStat.SCORE_SUM, TenantLeadStat.NO_BUCKET, newScore - previousScore));
+    }
+
+    /**
+     * A lead write that moves no counter (e.g. a contact detail edit); only the tenant's version moves
+     */
+    public void leadUpdated(Lead lead) {
+        apply(lead.getTenant().getId(), new Delta());
+    }
+
+    /**
+     * Add the delta to the tenant's counters and bump its version; runs in the caller's transaction
+     */
+    public void apply(Long tenantId, Delta delta) {
+        List<Object[]> rows = new ArrayList<>();
+        String total = TenantLeadStat.TOTAL + '|' + TenantLeadStat.NO_BUCKET;
+        rows.add(new Object[] { tenantId, TenantLeadStat.TOTAL, TenantLeadStat.NO_BUCKET, delta.counts.getOrDefault(total, 0L) });
+        delta.counts.forEach((key, amount) -> {
+            if (amount == 0 || key.equals(total)) return;
+            int separator = key.indexOf('|');
+            rows.add(new Object[] { tenantId, key.substring(0, separator), key.substring(separator + 1), amount });
+        });
+        rows.add(new Object[] { tenantId, TenantLeadStat.VERSION, TenantLeadStat.NO_BUCKET, 1L });
+        jdbcTemplate.batchUpdate(ADD, rows);
+    }
+
+    /**
+     * The tenant's committed lead version: 0 before its first lead write, then
+     * strictly increasing with every committed write. A primary key lookup.
+     */
+    public long leadsVersion(Long tenantId) {
+        List<Long> version = jdbcTemplate.queryForList(SELECT_VALUE, Long.class,
+            tenantId, TenantLeadStat.VERSION, TenantLeadStat.NO_BUCKET);
+        return version.isEmpty() ? 0L : version.get(0);
+    }
+
+    /**
+     * Recompute the tenant's counters from the leads table and overwrite the
+     * ones that drifted; returns how many counters were corrected
+     */
+    @Transactional
+    public int rebuildTenant(Long tenantId) {
+        // Taking the TOTAL row lock first waits out in-flight writers and holds off new ones
+        jdbcTemplate.update(ADD, tenantId, TenantLeadStat.TOTAL, TenantLeadStat.NO_BUCKET, 0L);
+
+        Map<String, Long> expected = new HashMap<>();
+        expected.put(TenantLeadStat.TOTAL + '|', 0L);
+        jdbcTemplate.query(COUNT_BY_STATUS, rs -> {
+            long leads = rs.getLong("leads");
+            expected.merge(TenantLeadStat.TOTAL + '|', leads, Long::sum);
+            expected.merge(TenantLeadStat.SCORE_SUM + '|', rs.getLong("score_sum"), Long::sum);
+            if (rs.getString("status") != null) {
+                expected.put(TenantLeadStat.STATUS + '|' + rs.getString("status"), leads);
+            }
+        }, tenantId);
+        jdbcTemplate.query(COUNT_BY_SOURCE, rs -> {
+            expected.put(TenantLeadStat.SOURCE + '|' + rs.getString("source"), rs.getLong("leads"));
+        }, tenantId);
+        jdbcTemplate.query(CONVERSIONS_BY_MONTH, rs -> {
+            expected.put(TenantLeadStat.CONVERSIONS + '|' + rs.getString("month"), rs.getLong("conversions"));
+        }, tenantId);
+
+        // VERSION has nothing to recompute it from and must never go back
+        Map<String, Long> stored = new HashMap<>();
+        jdbcTemplate.query(SELECT_STATS, rs -> {
+            if (TenantLeadStat.VERSION.equals(rs.getString("metric"))) return;
+            stored.put(rs.getString("metric") + '|' + rs.getString("bucket"), rs.getLong("stat_value"));
+        }, tenantId);
+
+        int drifted = 0;
+        Set<String> keys = new HashSet<>(expected.keySet());
+        keys.addAll(stored.keySet());
+        for (String key : keys) {
+            int separator = key.indexOf('|');
+            String metric = key.substring(0, separator);
+            String bucket = key.substring(separator + 1);
+            long value = expected.getOrDefault(key, 0L);
+            long current = stored.getOrDefault(key, 0L);
+
+            // Counters that dropped to zero are removed; only a non-zero one counts as drift
+            if (value == 0 && !metric.equals(TenantLeadStat.TOTAL)) {
+                if (stored.containsKey(key)) {
+                    jdbcTemplate.update(DELETE, tenantId, metric, bucket);
+                    if (current != 0) drifted++;
+                }
+            } else if (value != current || !stored.containsKey(key)) {
+                jdbcTemplate.update(SET, tenantId, metric, bucket, value);
+                drifted++;
+            }
+        }
+        return drifted;
+    }
+}
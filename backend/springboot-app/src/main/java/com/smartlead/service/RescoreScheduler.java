@@ -0,0 +1,129 @@
+package com.smartlead.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Time-driven rescoring. After each scoring the lead's next possible score
+ * change ({@link AILeadScoringService#nextScoreChangeAt}) is stored in
+ * lead_rescore_schedule; the poller moves leads that have come due onto the
+ * scoring queue in batches. Rescoring work follows actual score changes, not
+ * tenant size, and leads with nothing time-dependent are never revisited.
+ */
+@Component
+public class RescoreScheduler {
+
+    private static final Logger logger = LoggerFactory.getLogger(RescoreScheduler.class);
+
+    private static final String UPSERT =
+        "INSERT INTO lead_rescore_schedule (lead_id, due_at) VALUES (?, ?) " +
+        "ON CONFLICT (lead_id) DO UPDATE SET due_at = EXCLUDED.due_at";
+
+    private static final String DELETE =
+        "DELETE FROM lead_rescore_schedule WHERE lead_id = ?";
+
+    // SKIP LOCKED: pollers on other nodes claim disjoint batches
+    private static final String CLAIM_DUE =
+        "DELETE FROM lead_rescore_schedule WHERE lead_id IN (" +
+        "SELECT lead_id FROM lead_rescore_schedule WHERE due_at <= ? ORDER BY due_at LIMIT ? FOR UPDATE SKIP LOCKED) " +
+        "RETURNING lead_id";
+
+    // A lead already waiting on the scoring queue gets no second task
+    private static final String ENQUEUE_SCORING =
+        "INSERT INTO scoring_tasks (lead_id, status, attempts, next_attempt_at, created_at) " +
+        "SELECT ?, 'PENDING', 0, ?, ? WHERE NOT EXISTS " +
+        "(SELECT 1 FROM scoring_tasks WHERE lead_id = ? AND status = 'PENDING')";
+
+    private static final String STATS =
+        "SELECT COUNT(*) AS scheduled, COUNT(*) FILTER (WHERE due_at <= ?) AS due, MIN(due_at) AS next_due " +
+        "FROM lead_rescore_schedule";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${lead.scoring.rescore.enabled:true}")
+    private boolean enabled;
+
+    @Value("${lead.scoring.rescore.batch-size:500}")
+    private int batchSize;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final AtomicLong released = new AtomicLong();
+
+    /**
+     * Record when the lead's score next changes; null clears it. Joins the caller's transaction.
+     */
+    public void schedule(Long leadId, LocalDateTime dueAt) {
+        if (dueAt == null) {
+            jdbcTemplate.update(DELETE, leadId);
+        } else {
+            jdbcTemplate.update(UPSERT, leadId, Timestamp.valueOf(dueAt));
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${lead.scoring.rescore.poll-interval-ms:60000}")
+    public void poll() {
+        if (!enabled || !running.compareAndSet(false, true)) return;
+
+        try {
+            TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+            int claimed;
+            do {
+                // Claim and enqueue in one transaction, so a crash between them loses nothing
+                claimed = transactionTemplate.execute(status -> releaseDue(LocalDateTime.now()));
+                released.addAndGet(claimed);
+            } while (claimed == batchSize);
+        } catch (Exception e) {
+            logger.error("Error releasing due rescores: {}", e.getMessage());
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private int releaseDue(LocalDateTime now) {
+        List<Long> leadIds = jdbcTemplate.queryForList(CLAIM_DUE, Long.class, Timestamp.valueOf(now), batchSize);
+        if (leadIds.isEmpty()) return 0;
+
+        Timestamp queuedAt = Timestamp.valueOf(now);
+        jdbcTemplate.batchUpdate(ENQUEUE_SCORING, leadIds, leadIds.size(), (ps, leadId) -> {
+            ps.setLong(1, leadId);
+            ps.setTimestamp(2, queuedAt);
+            ps.setTimestamp(3, queuedAt);
+            ps.setLong(4, leadId);
+        });
+        logger.debug("Queued {} leads for time-driven rescoring", leadIds.size());
+        return leadIds.size();
+    }
+
+    /**
+     * Schedule size, leads currently due and the next due time
+     */
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        jdbcTemplate.query(STATS, rs -> {
+            Timestamp nextDue = rs.getTimestamp("next_due");
+            stats.put("scheduled", rs.getLong("scheduled"));
+            stats.put("due", rs.getLong("due"));
+            stats.put("nextDueAt", nextDue == null ? null : nextDue.toLocalDateTime());
+        }, Timestamp.valueOf(LocalDateTime.now()));
+        stats.put("releasedTotal", released.get());
+        return stats;
+    }
+}
@@ -0,0 +1,113 @@
+package com.smartlead.service;
+
+import com.smartlead.entity.ScoringTask;
+import com.smartlead.entity.ScoringTask.TaskStatus;
+import com.smartlead.repository.ScoringTaskRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Durable scoring queue backed by the scoring_tasks outbox table.
+ * Tasks are written in the same transaction as the lead they refer to and
+ * claimed by {@link ScoringQueueWorker} with row locks that skip rows other
+ * pollers hold, so several backend nodes can drain the queue together.
+ */
+@Service
+public class ScoringQueueService {
+
+    @Autowired
+    private ScoringTaskRepository scoringTaskRepository;
+
+    @Value("${lead.scoring.queue.max-attempts:5}")
+    private int maxAttempts;
+
+    @Value("${lead.scoring.queue.backoff-initial-ms:1000}")
+    private long backoffInitialMs;
+
+    @Value("${lead.scoring.queue.backoff-max-ms:300000}")
+    private long backoffMaxMs;
+
+    /**
+     * Queue a lead for full (engagement + AI) scoring; joins the caller's transaction
+     */
+    @Transactional
+    public ScoringTask enqueue(Long leadId) {
+        return scoringTaskRepository.save(new ScoringTask(leadId));
+    }
+
+    /**
+     * Claim up to {@code limit} due tasks and mark them in progress
+     */
+    @Transactional
+    public List<ScoringTask> claimBatch(int limit) {
+        LocalDateTime now = LocalDateTime.now();
+        List<ScoringTask> tasks = scoringTaskRepository.findDueForUpdate(
+                TaskStatus.PENDING, now, PageRequest.of(0, limit));
+        for (ScoringTask task : tasks) {
+            task.setStatus(TaskStatus.IN_PROGRESS);
+            task.setLockedAt(now);
+            task.setAttempts(task.getAttempts() + 1);
+        }
+        return tasks;
+    }
+
+    /**
+     * Remove a task once its lead has been scored
+     */
+    @Transactional
+    public void complete(Long taskId) {
+        scoringTaskRepository.deleteById(taskId);
+    }
+
+    /**
+     * Schedule a retry with exponential backoff, or park the task as FAILED
+     */
+    @Transactional
+    public void fail(Long taskId, String error) {
+        scoringTaskRepository.findById(taskId).ifPresent(task -> {
+            task.setLockedAt(null);
+            task.setLastError(error != null && error.length() > 1000 ? error.substring(0, 1000) : error);
+            if (task.getAttempts() >= maxAttempts) {
+                task.setStatus(TaskStatus.FAILED);
+            } else {
+                task.setStatus(TaskStatus.PENDING);
+                task.setNextAttemptAt(LocalDateTime.now().plusNanos(backoffMs(task.getAttempts()) * 1_000_000L));
+            }
+        });
+    }
+
+    /**
+     * Return tasks held by a crashed or stalled worker to the queue
+     */
+    @Transactional
+    public int releaseExpiredLeases(long leaseTimeoutMs) {
+        LocalDateTime cutoff = LocalDateTime.now().minusNanos(leaseTimeoutMs * 1_000_000L);
+        return scoringTaskRepository.releaseExpiredLeases(TaskStatus.PENDING, TaskStatus.IN_PROGRESS, cutoff);
+    }
+
+    /**
+     * Queue depth by task status
+     */
+    public Map<TaskStatus, Long> getDepthByStatus() {
+        Map<TaskStatus, Long> depth = new EnumMap<>(TaskStatus.class);
+        for (TaskStatus status : TaskStatus.values()) {
+            depth.put(status, 0L);
+        }
+        for (Object[] row : scoringTaskRepository.countByStatus()) {
+            depth.put((TaskStatus) row[0], (Long) row[1]);
+        }
+        return depth;
+    }
+
+    private long backoffMs(int attempts) {
+        long delay = backoffInitialMs << Math.min(attempts - 1, 20);
+        return Math.min(delay, backoffMaxMs);
+    }
+}
@@ -0,0 +1,142 @@
+package com.smartlead.service;
+
+import com.smartlead.entity.ScoringTask;
+import com.smartlead.entity.ScoringTask.TaskStatus;
+import com.smartlead.scoring.ScoringResult;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Drains the scoring queue: claims due tasks and runs full lead scoring
+ * (engagement + AI) on a bounded worker pool, retrying failures with backoff.
+ */
+@Component
+public class ScoringQueueWorker {
+
+    private static final Logger logger = LoggerFactory.getLogger(ScoringQueueWorker.class);
+
+    @Autowired
+    private ScoringQueueService scoringQueueService;
+
+    @Autowired
+    private LeadService leadService;
+
+    @Value("${lead.scoring.queue.enabled:true}")
+    private boolean enabled;
+
+    @Value("${lead.scoring.queue.workers:8}")
+    private int workerCount;
+
+    @Value("${lead.scoring.queue.capacity:200}")
+    private int capacity;
+
+    @Value("${lead.scoring.queue.lease-timeout-ms:300000}")
+    private long leaseTimeoutMs;
+
+    private ThreadPoolExecutor executor;
+    private final AtomicLong processed = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+
+    @PostConstruct
+    public void start() {
+        AtomicInteger threadIds = new AtomicInteger();
+        executor = new ThreadPoolExecutor(workerCount, workerCount, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(capacity), r -> {
+                    Thread t = new Thread(r, "scoring-worker-" + threadIds.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                });
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        executor.shutdown();
+        // Unfinished tasks stay IN_PROGRESS and are picked up again once their lease expires
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Claim due tasks while the local work queue has room
+     */
+    @Scheduled(fixedDelayString = "${lead.scoring.queue.poll-interval-ms:500}")
+    public void poll() {
+        if (!enabled || executor.isShutdown()) return;
+
+        try {
+            int room;
+            while ((room = executor.getQueue().remainingCapacity()) > 0) {
+                List<ScoringTask> tasks = scoringQueueService.claimBatch(room);
+                for (ScoringTask task : tasks) {
+                    executor.execute(() -> process(task));
+                }
+                if (tasks.size() < room) break;
+            }
+        } catch (Exception e) {
+            logger.error("Error polling scoring queue: {}", e.getMessage());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${lead.scoring.queue.lease-check-ms:60000}")
+    public void releaseExpiredLeases() {
+        if (!enabled) return;
+
+        int released = scoringQueueService.releaseExpiredLeases(leaseTimeoutMs);
+        if (released > 0) {
+            logger.warn("Released {} scoring tasks with expired leases", released);
+        }
+    }
+
+    private void process(ScoringTask task) {
+        try {
+            ScoringResult result = leadService.rescoreLead(task.getLeadId());
+            if (result != null && result.isPartial()) {
+                // The partial score is stored; retry with backoff for the stages that timed out or were skipped
+                failed.incrementAndGet();
+                String missing = "timed out: " + result.getTimedOutStages() + ", skipped: " + result.getSkippedStages();
+                logger.info("Scoring task {} for lead {} produced a partial score, {}",
+                           task.getId(), task.getLeadId(), missing);
+                scoringQueueService.fail(task.getId(), "Partial score, " + missing);
+                return;
+            }
+            scoringQueueService.complete(task.getId());
+            processed.incrementAndGet();
+        } catch (Exception e) {
+            failed.incrementAndGet();
+            logger.warn("Scoring task {} for lead {} failed (attempt {}): {}",
+                       task.getId(), task.getLeadId(), task.getAttempts(), e.getMessage());
+            scoringQueueService.fail(task.getId(), e.getMessage());
+        }
+    }
+
+    /**
+     * Queue depth and worker pool state
+     */
+    public Map<String, Object> getStats() {
+        Map<TaskStatus, Long> depth = scoringQueueService.getDepthByStatus();
+
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("pending", depth.get(TaskStatus.PENDING));
+        stats.put("inProgress", depth.get(TaskStatus.IN_PROGRESS));
+        stats.put("failed", depth.get(TaskStatus.FAILED));
+        stats.put("workers", workerCount);
+        stats.put("activeWorkers", executor.getActiveCount());
+        stats.put("buffered", executor.getQueue().size());
+        stats.put("processedTotal", processed.get());
+        stats.put("failedAttemptsTotal", failed.get());
+        return stats;
+    }
+}
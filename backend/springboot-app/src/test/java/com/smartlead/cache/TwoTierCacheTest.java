@@ -0,0 +1,107 @@
+package com.smartlead.cache;
+
+import com.smartlead.scoring.AIAdjustmentCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * {@link TwoTierCache} lookups across the Caffeine and Redis tiers, with Redis
+ * faked by a map shared between two caches standing in for two nodes.
+ */
+class TwoTierCacheTest {
+
+    private final Map<String, byte[]> redis = new ConcurrentHashMap<>();
+    private final List<String> broadcasts = new ArrayList<>();
+    private RedisTemplate<String, byte[]> redisTemplate;
+    private boolean redisDown;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        ValueOperations<String, byte[]> ops = mock(ValueOperations.class);
+        when(ops.get(anyString())).thenAnswer(call -> {
+            if (redisDown) throw new RedisConnectionFailureException("down");
+            return redis.get(call.<String>getArgument(0));
+        });
+        doAnswer(call -> {
+            if (redisDown) throw new RedisConnectionFailureException("down");
+            redis.put(call.getArgument(0), call.getArgument(1));
+            return null;
+        }).when(ops).set(anyString(), any(byte[].class), any(Duration.class));
+        redisTemplate = mock(RedisTemplate.class);
+        when(redisTemplate.opsForValue()).thenReturn(ops);
+    }
+
+    @Test
+    void localMissIsAnsweredByRedisAndFillsTheLocalTier() {
+        node().put("lead-1", 7);
+        TwoTierCache other = node();
+
+        assertThat(other.get("lead-1", Integer.class)).isEqualTo(7);
+        assertThat(other.get("lead-1", Integer.class)).isEqualTo(7);
+
+        assertThat(other.getStats())
+                .containsEntry("redisHits", 1L)
+                .containsEntry("localHits", 1L)
+                .containsEntry("misses", 0L)
+                .containsEntry("localSize", 1L);
+    }
+
+    @Test
+    void loaderRunsOnceAcrossNodes() {
+        AtomicInteger loads = new AtomicInteger();
+
+        assertThat(node().get("lead-2", () -> 40 + loads.incrementAndGet())).isEqualTo(41);
+        assertThat(node().get("lead-2", () -> 40 + loads.incrementAndGet())).isEqualTo(41);
+
+        assertThat(loads).hasValue(1);
+        assertThat(redis).containsKey("cache:" + AIAdjustmentCache.CACHE_NAME + ":lead-2");
+    }
+
+    @Test
+    void evictedLocalCopyIsReadBackFromRedis() {
+        TwoTierCache cache = node();
+        cache.put("lead-3", -5);
+
+        cache.evictLocal("lead-3");
+
+        assertThat(cache.get("lead-3", Integer.class)).isEqualTo(-5);
+        assertThat(cache.getStats()).containsEntry("redisHits", 1L).containsEntry("localHits", 0L);
+        assertThat(broadcasts).containsExactly("lead-3");
+    }
+
+    @Test
+    void redisFailureDegradesToTheLocalTier() {
+        redisDown = true;
+        TwoTierCache cache = node();
+
+        cache.put("lead-4", 3);
+
+        assertThat(cache.get("lead-4", Integer.class)).isEqualTo(3);
+        assertThat(node().get("lead-4", Integer.class)).isNull();
+        assertThat(cache.getStats()).containsEntry("redisErrors", 1L);
+    }
+
+    private TwoTierCache node() {
+        CacheSpecProperties.CacheSpec spec = new CacheSpecProperties.CacheSpec();
+        return new TwoTierCache(AIAdjustmentCache.CACHE_NAME, spec, redisTemplate, AIAdjustmentCache.CODEC,
+                broadcasts::add);
+    }
+}
@@ -0,0 +1,130 @@
+package com.smartlead.dedup;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * {@link LeadFingerprint} normalization, trigram similarity and LSH band keys.
+ */
+class LeadFingerprintTest {
+
+    @Test
+    void emailDropsThePlusTagAndCase() {
+        assertThat(LeadFingerprint.normalizeEmail("  Jane.Doe+CRM@Acme.COM ")).isEqualTo("jane.doe@acme.com");
+        assertThat(LeadFingerprint.normalizeEmail("jane@acme.com")).isEqualTo("jane@acme.com");
+        // A plus after the @ or leading the local part is not a tag
+        assertThat(LeadFingerprint.normalizeEmail("jane@a+b.com")).isEqualTo("jane@a+b.com");
+        assertThat(LeadFingerprint.normalizeEmail("+jane@acme.com")).isEqualTo("+jane@acme.com");
+        assertThat(LeadFingerprint.normalizeEmail("   ")).isNull();
+        assertThat(LeadFingerprint.normalizeEmail(null)).isNull();
+    }
+
+    @Test
+    void phoneKeepsTheLastTenDigits() {
+        assertThat(LeadFingerprint.normalizePhone("+1 (555) 010-2030")).isEqualTo("5550102030");
+        assertThat(LeadFingerprint.normalizePhone("555.010.2030")).isEqualTo("5550102030");
+        assertThat(LeadFingerprint.normalizePhone("0044 20 7946 0958")).isEqualTo("2079460958");
+        assertThat(LeadFingerprint.normalizePhone("010-2030")).isEqualTo("0102030");
+        assertThat(LeadFingerprint.normalizePhone("ext. 123456")).isNull();
+        assertThat(LeadFingerprint.normalizePhone(null)).isNull();
+    }
+
+    @Test
+    void companyDropsLegalSuffixesAndPunctuation() {
+        assertThat(LeadFingerprint.normalizeCompany("Acme, Inc.")).isEqualTo("acme");
+        assertThat(LeadFingerprint.normalizeCompany("ACME Corporation")).isEqualTo("acme");
+        assertThat(LeadFingerprint.normalizeCompany("Müller GmbH & Co")).isEqualTo("müller");
+        // Suffix words are only dropped as whole words
+        assertThat(LeadFingerprint.normalizeCompany("Incognito Labs Ltd")).isEqualTo("incognito labs");
+        assertThat(LeadFingerprint.normalizeCompany("Inc.")).isNull();
+        assertThat(LeadFingerprint.normalizeCompany(null)).isNull();
+    }
+
+    @Test
+    void exactKeysAgreeAcrossFormatting() {
+        LeadFingerprint a = new LeadFingerprint("Jane", "Doe", "jane+crm@acme.com", "+1 555 010 2030", "Acme Inc");
+        LeadFingerprint b = new LeadFingerprint("JANE", "doe", "Jane@Acme.com", "(555) 010-2030", "acme, inc.");
+
+        assertThat(a.matchKeys()).containsAll(b.matchKeys());
+        assertThat(a.matchKeys()).contains("EMAIL:jane@acme.com", "PHONE:5550102030", "NAMECO:jane doe|acme");
+        assertThat(a.similarity(b)).isEqualTo(1.0);
+    }
+
+    @Test
+    void similarityIsTrigramJaccard() {
+        LeadFingerprint jon = new LeadFingerprint("Jon", "Smith", null, null, null);
+        LeadFingerprint john = new LeadFingerprint("John", "Smith", null, null, null);
+        LeadFingerprint other = new LeadFingerprint("Maria", "Garcia", null, null, null);
+
+        // " jon smith " and " john smith " share 7 of 12 distinct trigrams
+        assertThat(jon.similarity(john)).isCloseTo(7.0 / 12, within(1e-9));
+        assertThat(jon.similarity(john)).isEqualTo(john.similarity(jon));
+        assertThat(jon.similarity(other)).isZero();
+    }
+
+    @Test
+    void emptyNameGetsNoFuzzyKeys() {
+        LeadFingerprint nameless = new LeadFingerprint("-", " ", "info@acme.com", null, "Acme Inc");
+        LeadFingerprint alsoNameless = new LeadFingerprint("", "", "sales@acme.com", null, "Acme");
+
+        assertThat(nameless.matchKeys()).containsExactly("EMAIL:info@acme.com");
+        assertThat(alsoNameless.matchKeys()).containsExactly("EMAIL:sales@acme.com");
+        assertThat(nameless.similarity(alsoNameless)).isZero();
+        // Null names are empty, not the word "null"
+        assertThat(new LeadFingerprint(null, null, null, null, "Acme").matchKeys()).isEmpty();
+    }
+
+    @Test
+    void everyBandGetsAKey() {
+        List<String> keys = new LeadFingerprint("Jane", "Doe", null, null, null).matchKeys();
+
+        assertThat(keys).hasSize(LeadFingerprint.BANDS);
+        for (int band = 0; band < LeadFingerprint.BANDS; band++) {
+            assertThat(keys.get(band)).startsWith(LeadFingerprint.BAND + band + ":");
+        }
+    }
+
+    @Test
+    void nearIdenticalNamesShareABandKey() {
+        LeadFingerprint a = new LeadFingerprint("Jonathan", "Smithson", null, null, "Globex");
+        LeadFingerprint b = new LeadFingerprint("Jonathon", "Smithson", null, null, "Globex Corp");
+
+        assertThat(a.similarity(b)).isGreaterThan(0.75);
+        assertThat(bandKeys(a)).containsAnyElementsOf(bandKeys(b));
+    }
+
+    @Test
+    void unrelatedNamesRarelyShareABandKey() {
+        String[] firstNames = {"Ada", "Grace", "Alan", "Edsger", "Barbara", "Donald", "Radia", "Ken", "Frances", "Niklaus"};
+        String[] lastNames = {"Lovelace", "Hopper", "Turing", "Dijkstra", "Liskov", "Knuth", "Perlman", "Thompson", "Allen", "Wirth"};
+
+        int pairs = 0;
+        int colliding = 0;
+        for (int i = 0; i < firstNames.length; i++) {
+            for (int j = i + 1; j < firstNames.length; j++) {
+                Set<String> a = bandKeys(new LeadFingerprint(firstNames[i], lastNames[i], null, null, null));
+                Set<String> b = bandKeys(new LeadFingerprint(firstNames[j], lastNames[j], null, null, null));
+                a.retainAll(b);
+                pairs++;
+                if (!a.isEmpty()) colliding++;
+            }
+        }
+
+        assertThat(pairs).isEqualTo(45);
+        assertThat(colliding).isLessThanOrEqualTo(2);
+    }
+
+    private static Set<String> bandKeys(LeadFingerprint fingerprint) {
+        Set<String> keys = new HashSet<>();
+        for (String key : fingerprint.matchKeys()) {
+            if (key.startsWith(LeadFingerprint.BAND)) keys.add(key);
+        }
+        return keys;
+    }
+}
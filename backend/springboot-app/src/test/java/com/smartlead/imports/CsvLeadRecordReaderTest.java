@@ -0,0 +1,109 @@
+package com.smartlead.imports;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * {@link CsvLeadRecordReader} quoting, line endings, blank lines and
+ * malformed rows.
+ */
+class CsvLeadRecordReaderTest {
+
+    @Test
+    void mapsFieldsToNormalizedHeaderColumns() throws IOException {
+        List<LeadRecord> records = readAll("First Name,last_name,EMAIL\nAda,Lovelace,ada@acme.com\n");
+
+        assertThat(records).hasSize(1);
+        assertThat(records.get(0).getRowNumber()).isEqualTo(1);
+        assertThat(records.get(0).get("firstname")).isEqualTo("Ada");
+        assertThat(records.get(0).get("lastname")).isEqualTo("Lovelace");
+        assertThat(records.get(0).get("email")).isEqualTo("ada@acme.com");
+    }
+
+    @Test
+    void quotedFieldsKeepSeparatorsQuotesAndLineBreaks() throws IOException {
+        List<LeadRecord> records = readAll("name,company,notes\r\n"
+                + "Ada,\"Acme, Inc.\",\"She said \"\"call me\"\"\"\r\n"
+                + "Grace,Globex,\"line one\r\nline two\nline three\"\r\n");
+
+        assertThat(records).hasSize(2);
+        assertThat(records.get(0).get("company")).isEqualTo("Acme, Inc.");
+        assertThat(records.get(0).get("notes")).isEqualTo("She said \"call me\"");
+        assertThat(records.get(1).get("notes")).isEqualTo("line one\r\nline two\nline three");
+        assertThat(records.get(1).getRowNumber()).isEqualTo(2);
+    }
+
+    @Test
+    void handlesCrlfAndAMissingFinalNewline() throws IOException {
+        List<LeadRecord> records = readAll("name,email\r\nAda,ada@acme.com\r\nGrace,grace@acme.com");
+
+        assertThat(records).extracting(r -> r.get("email")).containsExactly("ada@acme.com", "grace@acme.com");
+    }
+
+    @Test
+    void skipsBlankLinesWithoutCountingThem() throws IOException {
+        List<LeadRecord> records = readAll("name,email\n\nAda,ada@acme.com\r\n\r\n\nGrace,grace@acme.com\n\n");
+
+        assertThat(records).extracting(LeadRecord::getRowNumber).containsExactly(1L, 2L);
+    }
+
+    @Test
+    void emptyFieldsStayEmpty() throws IOException {
+        LeadRecord record = readAll("name,phone,email\nAda,,\"\"\n").get(0);
+
+        assertThat(record.isRejected()).isFalse();
+        assertThat(record.get("phone")).isEmpty();
+        assertThat(record.get("email")).isEmpty();
+    }
+
+    @Test
+    void rejectsARowWithTheWrongColumnCountAndCarriesOn() throws IOException {
+        List<LeadRecord> records = readAll("name,email\nAda,ada@acme.com,extra\nGrace,grace@acme.com\n");
+
+        assertThat(records).hasSize(2);
+        assertThat(records.get(0).isRejected()).isTrue();
+        assertThat(records.get(0).getError()).isEqualTo("expected 2 columns, found 3");
+        assertThat(records.get(1).get("name")).isEqualTo("Grace");
+    }
+
+    @Test
+    void unterminatedQuoteRejectsItsRowAndEndsTheFile() throws IOException {
+        List<LeadRecord> records = readAll("name,notes\nAda,fine\nGrace,\"never closed\nHedy,lost\n");
+
+        assertThat(records).hasSize(2);
+        assertThat(records.get(0).get("notes")).isEqualTo("fine");
+        assertThat(records.get(1).isRejected()).isTrue();
+        assertThat(records.get(1).getRowNumber()).isEqualTo(2);
+        assertThat(records.get(1).getError()).startsWith("unterminated quoted field");
+    }
+
+    @Test
+    void unterminatedQuoteInTheHeaderFailsTheFile() {
+        assertThatThrownBy(() -> readAll("name,\"notes\nAda,fine\n"))
+                .isInstanceOf(IOException.class);
+    }
+
+    @Test
+    void emptyInputHasNoRecords() throws IOException {
+        assertThat(readAll("")).isEmpty();
+        assertThat(readAll("name,email\n")).isEmpty();
+    }
+
+    private static List<LeadRecord> readAll(String csv) throws IOException {
+        List<LeadRecord> records = new ArrayList<>();
+        try (CsvLeadRecordReader reader = new CsvLeadRecordReader(new StringReader(csv))) {
+            LeadRecord record;
+            while ((record = reader.next()) != null) {
+                records.add(record);
+            }
+        }
+        return records;
+    }
+}
@@ -0,0 +1,145 @@
+package com.smartlead.repository;
+
+import com.smartlead.dto.LeadDto;
+import com.smartlead.entity.Lead;
+import com.smartlead.entity.Tenant;
+import com.smartlead.service.LeadSearchService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCallback;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The list page, detail view and search each cost exactly one SQL statement:
+ * no tenant or assignee loads, no per-row follow-ups. Hibernate statistics
+ * count the JPA reads; search goes through JdbcTemplate, which is counted
+ * directly. Needs Docker; skipped without it.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@TestPropertySource(properties = "lead.search.migrate-on-startup=true")
+@Import({LeadSearchService.class, LeadReadQueriesTest.CountingJdbcConfig.class})
+@Testcontainers(disabledWithoutDocker = true)
+// CREATE INDEX CONCURRENTLY cannot run inside the test transaction
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class LeadReadQueriesTest {
+
+    @Container
+    @ServiceConnection
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:15-alpine");
+
+    @Autowired
+    private LeadRepository leadRepository;
+
+    @Autowired
+    private TenantRepository tenantRepository;
+
+    @Autowired
+    private LeadSearchService leadSearchService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private CountingJdbcTemplate jdbcTemplate;
+
+    private Statistics statistics;
+    private Tenant tenant;
+    private List<Lead> leads;
+
+    @BeforeEach
+    void setUp() {
+        leadSearchService.verifySearchIndex();
+        tenant = tenantRepository.save(new Tenant("stmt-tenant", "Statement Co", "statement.io"));
+        leads = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            leads.add(new Lead("Lead" + i, "Smith", "lead" + i + "@acme.com", "555-01" + i,
+                    i % 2 == 0 ? "Acme" : "Globex", "Buyer", tenant));
+        }
+        leads = leadRepository.saveAll(leads);
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        jdbcTemplate.statements.set(0);
+    }
+
+    @AfterEach
+    void tearDown() {
+        leadRepository.deleteAll();
+        tenantRepository.deleteAll();
+    }
+
+    @Test
+    void listPageIsOneStatement() {
+        List<LeadDto> page = leadRepository.findPageByCreatedAt(tenant.getId(), PageRequest.of(0, 21));
+
+        assertThat(page).hasSize(21);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void detailViewIsOneStatement() {
+        Optional<LeadDto> lead = leadRepository.findDtoById(leads.get(0).getId(), tenant.getId());
+
+        assertThat(lead).isPresent();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void searchIsOneStatement() {
+        List<LeadDto> found = leadSearchService.search(tenant.getId(), "globex", 10);
+
+        assertThat(found).hasSize(10);
+        assertThat(jdbcTemplate.statements.get()).isEqualTo(1);
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    static class CountingJdbcTemplate extends JdbcTemplate {
+        final AtomicInteger statements = new AtomicInteger();
+
+        CountingJdbcTemplate(DataSource dataSource) {
+            super(dataSource);
+        }
+
+        @Override
+        public <T> T execute(PreparedStatementCreator psc, PreparedStatementCallback<T> action) {
+            statements.incrementAndGet();
+            return super.execute(psc, action);
+        }
+    }
+
+    @TestConfiguration
+    static class CountingJdbcConfig {
+        @Bean
+        CountingJdbcTemplate jdbcTemplate(DataSource dataSource) {
+            return new CountingJdbcTemplate(dataSource);
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.smartlead.scoring;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * {@link AICircuitBreaker} state transitions: closed to open on the failure
+ * rate, half-open probes after the open duration, and 429 hold-offs.
+ */
+class AICircuitBreakerTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private AICircuitBreaker breaker;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        breaker = new AICircuitBreaker(meterRegistry, 0.5, 4, 4, Duration.ofMillis(100), 2);
+    }
+
+    @Test
+    void opensOnceMinimumCallsReachTheFailureRate() {
+        call(true);
+        call(false);
+        call(false);
+        assertThat(breaker.getState()).isEqualTo(AICircuitBreaker.State.CLOSED);
+
+        call(false);
+
+        assertThat(breaker.getState()).isEqualTo(AICircuitBreaker.State.OPEN);
+        assertThat(breaker.isOpen()).isTrue();
+        assertThat(breaker.tryAcquire()).isFalse();
+        assertThat(meterRegistry.get("openai.circuit.opened").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("openai.circuit.rejected").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void staysClosedBelowTheFailureRate() {
+        call(true);
+        call(true);
+        call(true);
+        call(false);
+        call(true);
+
+        assertThat(breaker.getState()).isEqualTo(AICircuitBreaker.State.CLOSED);
+        assertThat(breaker.tryAcquire()).isTrue();
+    }
+
+    @Test
+    void closesAfterSuccessfulHalfOpenProbes() throws Exception {
+        open();
+        Thread.sleep(150);
+        assertThat(breaker.isOpen()).isFalse();
+
+        assertThat(breaker.tryAcquire()).isTrue();
+        assertThat(breaker.getState()).isEqualTo(AICircuitBreaker.State.HALF_OPEN);
+        assertThat(breaker.tryAcquire()).isTrue();
+        assertThat(breaker.tryAcquire()).as("only two probes").isFalse();
+
+        breaker.onSuccess();
+        assertThat(breaker.getState()).isEqualTo(AICircuitBreaker.State.HALF_OPEN);
+        breaker.onSuccess();
+
+        assertThat(breaker.getState()).isEqualTo(AICircuitBreaker.State.CLOSED);
+        assertThat(breaker.tryAcquire()).isTrue();
+    }
+
+    @Test
+    void failedProbeOpensAgain() throws Exception {
+        open();
+        Thread.sleep(150);
+        assertThat(breaker.tryAcquire()).isTrue();
+
+        breaker.onFailure();
+
+        assertThat(breaker.getState()).isEqualTo(AICircuitBreaker.State.OPEN);
+        assertThat(breaker.isOpen()).isTrue();
+        assertThat(breaker.tryAcquire()).isFalse();
+    }
+
+    @Test
+    void holdOffRefusesCallsForTheRetryAfter() throws Exception {
+        breaker.holdOff(Duration.ofMillis(400));
+        breaker.holdOff(Duration.ofMillis(10));
+
+        assertThat(breaker.isOpen()).isTrue();
+        Thread.sleep(150);
+        assertThat(breaker.tryAcquire()).as("a shorter hold-off does not cut the longer one").isFalse();
+
+        Thread.sleep(350);
+        assertThat(breaker.tryAcquire()).isTrue();
+        assertThat(breaker.getState()).isEqualTo(AICircuitBreaker.State.HALF_OPEN);
+    }
+
+    private void open() {
+        for (int i = 0; i < 4; i++) {
+            call(false);
+        }
+        assertThat(breaker.getState()).isEqualTo(AICircuitBreaker.State.OPEN);
+    }
+
+    private void call(boolean success) {
+        assertThat(breaker.tryAcquire()).isTrue();
+        if (success) {
+            breaker.onSuccess();
+        } else {
+            breaker.onFailure();
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.smartlead.scoring;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static com.smartlead.scoring.AIScoringGatewayTest.lead;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * {@link AIScoringGateway} with the production HTTP client, circuit breaker
+ * and tenant rate limiter against a slow, rate-limiting
+ * {@link StubOpenAiServer}. Leads the gateway cannot serve must fail with
+ * {@link AIAdjustmentUnavailableException}, never resolve to 0.
+ */
+class AIScoringGatewayResilienceTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private StubOpenAiServer server;
+    private AICircuitBreaker circuitBreaker;
+    private TenantRateLimiter rateLimiter;
+    private AIScoringGateway gateway;
+
+    @AfterEach
+    void tearDown() {
+        gateway.shutdown();
+        rateLimiter.shutdown();
+        server.close();
+    }
+
+    @Test
+    void rateLimitedBatchFailsAndHoldsOffForRetryAfter() throws Exception {
+        start(50, Duration.ofSeconds(5), 0);
+        server.enqueue(429);
+
+        CompletableFuture<Integer> limited = gateway.requestAdjustment(lead(1L, "Acme"));
+
+        assertUnavailable(limited);
+        assertThat(circuitBreaker.isOpen()).isTrue();
+        assertThat(gateway.isAvailable()).isFalse();
+        assertThat(server.requestCount()).as("the retry is refused by the open circuit").isEqualTo(1);
+
+        // Retry-After: 1 from the stub; afterwards a probe goes through and closes the circuit
+        Thread.sleep(1200);
+        assertThat(gateway.isAvailable()).isTrue();
+        server.enqueue(prompt -> StubOpenAiServer.answers(Map.of(
+                StubOpenAiServer.leadSections(prompt).keySet().iterator().next(), 4)));
+        assertThat(gateway.requestAdjustment(lead(2L, "Globex")).get(5, TimeUnit.SECONDS)).isEqualTo(4);
+        assertThat(circuitBreaker.getState()).isEqualTo(AICircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void slowAnswersPastTheReadTimeoutOpenTheCircuit() throws Exception {
+        start(500, Duration.ofMillis(100), 0);
+
+        CompletableFuture<Integer> slow = gateway.requestAdjustment(lead(1L, "Acme"));
+
+        assertUnavailable(slow);
+        assertThat(server.requestCount()).isEqualTo(2);
+        assertThat(circuitBreaker.getState()).isEqualTo(AICircuitBreaker.State.OPEN);
+        assertThat(meterRegistry.get("openai.requests").tag("outcome", "error").timer().count()).isEqualTo(2);
+
+        // Open circuit: new leads fail at once without reaching OpenAI
+        assertUnavailable(gateway.requestAdjustment(lead(2L, "Globex")));
+        assertThat(server.requestCount()).isEqualTo(2);
+        assertThat(adjustments("rejected")).isEqualTo(1);
+    }
+
+    @Test
+    void tenantOverItsLimitIsRejectedNotZeroed() throws Exception {
+        start(50, Duration.ofSeconds(5), 1);
+
+        CompletableFuture<Integer> admitted = gateway.requestAdjustment(lead(1L, "Acme"));
+        CompletableFuture<Integer> queued = gateway.requestAdjustment(lead(2L, "Globex"));
+        CompletableFuture<Integer> rejected = gateway.requestAdjustment(lead(3L, "Initech"));
+
+        assertUnavailable(rejected);
+        assertThat(admitted.get(5, TimeUnit.SECONDS)).isBetween(-20, 20);
+        assertThat(queued.get(5, TimeUnit.SECONDS)).isBetween(-20, 20);
+        assertThat(adjustments("rejected")).isEqualTo(1);
+    }
+
+    private void start(long latencyMs, Duration readTimeout, double leadsPerSecond) throws Exception {
+        server = new StubOpenAiServer(latencyMs, 0, 0.0, 0.0, 0.0);
+        circuitBreaker = new AICircuitBreaker(meterRegistry, 0.5, 10, 2, Duration.ofSeconds(30), 1);
+        rateLimiter = new TenantRateLimiter(meterRegistry, leadsPerSecond, 1, 1, 50);
+        rateLimiter.start();
+        gateway = new AIScoringGateway(
+                AIScoringGateway.openAiClient(new RestTemplateBuilder(), Duration.ofSeconds(1), readTimeout),
+                new ObjectMapper(), new AIAdjustmentCache(1000, Duration.ofHours(1)), circuitBreaker, rateLimiter,
+                meterRegistry, server.url(), "test-key", "gpt-4",
+                10, 20, 2, 2, 1000);
+        gateway.start();
+    }
+
+    private static void assertUnavailable(CompletableFuture<Integer> future) {
+        assertThatThrownBy(() -> future.get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(AIAdjustmentUnavailableException.class);
+    }
+
+    private double adjustments(String result) {
+        return meterRegistry.get("openai.adjustments").tag("result", result).counter().count();
+    }
+}
@@ -0,0 +1,161 @@
+package com.smartlead.scoring;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.smartlead.entity.Lead;
+import com.smartlead.entity.Tenant;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * {@link AIScoringGateway} batching, answer parsing and retries against
+ * {@link StubOpenAiServer} with scripted partial and malformed answers.
+ */
+class AIScoringGatewayTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private StubOpenAiServer server;
+    private AIScoringGateway gateway;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        meterRegistry = new SimpleMeterRegistry();
+        server = new StubOpenAiServer(5, 0, 0.0, 0.0, 0.0);
+        gateway = new AIScoringGateway(new RestTemplate(), new ObjectMapper(),
+                new AIAdjustmentCache(1000, Duration.ofHours(1)),
+                new AICircuitBreaker(meterRegistry, 1.0, 20, 10, Duration.ofSeconds(30), 2),
+                new TenantRateLimiter(meterRegistry, 0, 1, 1, 50),
+                meterRegistry, server.url(), "test-key", "gpt-4",
+                10, 500, 2, 2, 1000);
+        gateway.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        gateway.shutdown();
+        server.close();
+    }
+
+    @Test
+    void parsesAdjustmentsByKeyAndClampsThem() {
+        Map<String, Integer> adjustments = gateway.parseBatchResponse("""
+                Sure, here you go:
+                [{"leadId": "1", "adjustment": 5, "reasoning": "ok"},
+                 {"leadId": "2", "adjustment": "-7"},
+                 {"leadId": "3", "adjustment": 99}]
+                """);
+
+        assertThat(adjustments).containsExactlyInAnyOrderEntriesOf(Map.of("1", 5, "2", -7, "3", 20));
+    }
+
+    @Test
+    void skipsEntriesWithoutKeyOrNumericAdjustment() {
+        Map<String, Integer> adjustments = gateway.parseBatchResponse("""
+                [{"adjustment": 3},
+                 {"leadId": "", "adjustment": 3},
+                 {"leadId": "4", "adjustment": "high"},
+                 {"leadId": "5", "adjustment": null},
+                 {"leadId": "6"},
+                 {"leadId": "7", "adjustment": 2}]
+                """);
+
+        assertThat(adjustments).containsExactly(Map.entry("7", 2));
+    }
+
+    @Test
+    void answerWithoutJsonArrayYieldsNothing() {
+        assertThat(gateway.parseBatchResponse("I cannot score these leads.")).isEmpty();
+        assertThat(gateway.parseBatchResponse("[{\"leadId\": \"1\", \"adjustment\": ")).isEmpty();
+        assertThat(gateway.parseBatchResponse("] then [")).isEmpty();
+    }
+
+    @Test
+    void retriesLeadsMissingFromTheAnswer() throws Exception {
+        server.enqueue(prompt -> StubOpenAiServer.answers(Map.of()));
+
+        List<CompletableFuture<Integer>> futures = List.of(
+                gateway.requestAdjustment(lead(1L, "Acme")),
+                gateway.requestAdjustment(lead(2L, "Globex")),
+                gateway.requestAdjustment(lead(3L, "Initech")));
+
+        for (CompletableFuture<Integer> future : futures) {
+            assertThat(future.get(5, TimeUnit.SECONDS)).isBetween(-20, 20);
+        }
+        assertThat(server.requestCount()).isEqualTo(2);
+        assertThat(adjustments("retried")).isEqualTo(3);
+        assertThat(adjustments("applied")).isEqualTo(3);
+    }
+
+    @Test
+    void retriesAfterMalformedAnswer() throws Exception {
+        server.enqueue(prompt -> "[{\"leadId\": \"1\", \"adjustment\": ");
+
+        CompletableFuture<Integer> future = gateway.requestAdjustment(lead(1L, "Acme"));
+
+        assertThat(future.get(5, TimeUnit.SECONDS)).isBetween(-20, 20);
+        assertThat(server.requestCount()).isEqualTo(2);
+    }
+
+    @Test
+    void failsOnceAttemptsAreUsedUp() {
+        server.enqueue(prompt -> StubOpenAiServer.answers(Map.of()));
+        server.enqueue(prompt -> StubOpenAiServer.answers(Map.of()));
+
+        CompletableFuture<Integer> future = gateway.requestAdjustment(lead(1L, "Acme"));
+
+        assertThatThrownBy(() -> future.get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(AIAdjustmentUnavailableException.class);
+        assertThat(server.requestCount()).isEqualTo(2);
+        assertThat(adjustments("dropped")).isEqualTo(1);
+    }
+
+    @Test
+    void editedLeadInTheSameBatchGetsItsOwnAnswer() throws Exception {
+        server.enqueue(prompt -> {
+            Map<String, Integer> answers = new HashMap<>();
+            StubOpenAiServer.leadSections(prompt).forEach((key, section) ->
+                    answers.put(key, section.contains("Company: Acme") ? 7 : -7));
+            return StubOpenAiServer.answers(answers);
+        });
+
+        CompletableFuture<Integer> before = gateway.requestAdjustment(lead(42L, "Acme"));
+        CompletableFuture<Integer> after = gateway.requestAdjustment(lead(42L, "Globex"));
+
+        assertThat(before.get(5, TimeUnit.SECONDS)).isEqualTo(7);
+        assertThat(after.get(5, TimeUnit.SECONDS)).isEqualTo(-7);
+        assertThat(server.requestCount()).isEqualTo(1);
+        assertThat(StubOpenAiServer.leadSections(server.prompts().get(0))).hasSize(2);
+
+        // Each content version is cached with its own answer
+        assertThat(gateway.requestAdjustment(lead(42L, "Acme")).get(5, TimeUnit.SECONDS)).isEqualTo(7);
+        assertThat(gateway.requestAdjustment(lead(42L, "Globex")).get(5, TimeUnit.SECONDS)).isEqualTo(-7);
+        assertThat(server.requestCount()).isEqualTo(1);
+    }
+
+    private double adjustments(String result) {
+        return meterRegistry.get("openai.adjustments").tag("result", result).counter().count();
+    }
+
+    static Lead lead(Long id, String company) {
+        Tenant tenant = new Tenant("test-tenant", "Test Co", "test.io");
+        tenant.setId(1L);
+        Lead lead = new Lead("Ada", "Lovelace", "ada@" + company.toLowerCase() + ".com", "555-0100",
+                company, "VP Engineering", tenant);
+        lead.setId(id);
+        return lead;
+    }
+}
@@ -0,0 +1,187 @@
+package com.smartlead.scoring;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.smartlead.entity.Interaction.InteractionType;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * {@link CompiledScoringRules} built from scoring-rules/default.json against
+ * {@link Legacy}, the HashMap and {@code contains} scoring it replaced, plus
+ * tier precedence within the compiled job title table. Where several lead
+ * source or interaction entries match, the compiled rules take the first in
+ * table order rather than the legacy HashMap's iteration order.
+ */
+class CompiledScoringRulesTest {
+
+    private static CompiledScoringRules rules;
+
+    @BeforeAll
+    static void loadDefaultRules() throws Exception {
+        try (InputStream in = CompiledScoringRulesTest.class.getResourceAsStream("/scoring-rules/default.json")) {
+            rules = CompiledScoringRules.compile(new ObjectMapper().readValue(in, ScoringRules.class));
+        }
+    }
+
+    @Test
+    void emailScoresMatchTheLegacyRules() {
+        for (String email : List.of("", "ada@gmail.com", "ADA@GMAIL.COM", "ada@acme.io", "ada@mit.edu",
+                "ada@MIT.EDU", "no-at-sign.com", "ada@gmail.company.com", "ada@mail.yahoo.com", "ada@icloud.com.edu")) {
+            assertThat(rules.scoreEmailDomain(email)).as(email).isEqualTo(Legacy.scoreEmailDomain(email));
+        }
+        assertThat(rules.scoreEmailDomain(null)).isZero();
+    }
+
+    @Test
+    void companyScoresMatchTheLegacyRules() {
+        for (String company : List.of("   ", "Acme", "Acme Inc.", "ACME CORPORATION", "Initech Solutions", "Globex LLC",
+                "Princeton", "Blue Sky Technologies", "Holdings Ltd")) {
+            assertThat(rules.scoreCompany(company)).as(company).isEqualTo(Legacy.scoreCompany(company));
+        }
+    }
+
+    @Test
+    void jobTitleScoresMatchTheLegacyRules() {
+        for (String title : List.of("", "CEO", "Chief Revenue Officer", "Senior Vice President", "VP Engineering",
+                "Head of Growth", "Co-Founder & CTO", "Lead Developer", "Senior Manager", "Engineer", "Accountant",
+                "Director of Sales, team lead")) {
+            assertThat(rules.scoreJobTitle(title)).as(title).isEqualTo(Legacy.scoreJobTitle(title));
+        }
+    }
+
+    @Test
+    void earlierTierWinsWhenSeveralMatch() {
+        // senior (tier 3), vice president (tier 2) and president (tier 1) all match
+        assertThat(rules.scoreJobTitle("Senior Vice President")).isEqualTo(30);
+        assertThat(rules.scoreJobTitle("Senior Head of Sales")).isEqualTo(25);
+        // "director" contains "cto", as it did for the legacy rules
+        assertThat(rules.scoreJobTitle("Senior Director")).isEqualTo(30);
+        assertThat(rules.scoreJobTitle("Team Lead, Director's office, CFO")).isEqualTo(30);
+    }
+
+    @Test
+    void leadSourceScoresMatchTheLegacyRules() {
+        for (String source : Arrays.asList(null, "", "Referral", "DIRECT", "company website", "LinkedIn Ads",
+                "email campaign Q3", "social media", "cold outreach", "trade show")) {
+            assertThat(rules.scoreLeadSource(source)).as(source).isEqualTo(Legacy.scoreLeadSource(source));
+        }
+    }
+
+    @Test
+    void interactionScoresMatchTheLegacyRules() {
+        for (InteractionType type : InteractionType.values()) {
+            assertThat(rules.scoreInteractionType(type)).as(type.name()).isEqualTo(Legacy.scoreInteractionType(type.name()));
+            assertThat(rules.scoreInteractionType(type.name())).isEqualTo(Legacy.scoreInteractionType(type.name()));
+        }
+        assertThat(rules.scoreInteractionType("unknown")).isEqualTo(Legacy.scoreInteractionType("unknown"));
+    }
+
+    @Test
+    void severalMatchingEntriesResolveInTableOrder() {
+        // The only intended difference: legacy took whichever entry HashMap iteration reached first
+        assertThat(rules.scoreInteractionType("product demo call")).isEqualTo(5);
+        assertThat(Legacy.scoreInteractionType("product demo call")).isEqualTo(3);
+        assertThat(rules.scoreLeadSource("LinkedIn referral")).isEqualTo(10);
+    }
+
+    @Test
+    void needScoresMatchTheLegacyRules() {
+        for (String notes : List.of("", "All good", "We NEED this", "Urgent problem, urgent issue",
+                "looking for a fix to a challenge we need solved urgently: big problem, issue")) {
+            assertThat(rules.scoreNeed(notes)).as(notes).isEqualTo(Legacy.scoreNeed(notes));
+        }
+    }
+
+    /**
+     * The rule-based scoring of AILeadScoringService before the tables moved to
+     * default.json, kept as written (lowercased copies, contains, HashMap tables)
+     */
+    static final class Legacy {
+
+        static int scoreEmailDomain(String email) {
+            if (email == null || email.isEmpty()) return 0;
+            email = email.toLowerCase();
+            for (String provider : Arrays.asList("gmail.com", "yahoo.com", "hotmail.com", "outlook.com", "aol.com", "icloud.com")) {
+                if (email.contains("@" + provider)) return 10;
+            }
+            if (email.contains("@") && !email.endsWith(".edu")) return 25;
+            return 5;
+        }
+
+        static int scoreCompany(String company) {
+            if (company == null || company.trim().isEmpty()) return 0;
+            company = company.toLowerCase();
+            for (String indicator : Arrays.asList("inc", "corp", "ltd", "llc", "technologies", "solutions")) {
+                if (company.contains(indicator)) return 20;
+            }
+            return 15;
+        }
+
+        static int scoreJobTitle(String jobTitle) {
+            if (jobTitle == null || jobTitle.isEmpty()) return 0;
+            String title = jobTitle.toLowerCase();
+            for (String role : Arrays.asList("ceo", "cto", "cfo", "coo", "cmo", "chief", "president")) {
+                if (title.contains(role)) return 30;
+            }
+            for (String role : Arrays.asList("vp", "vice president", "director", "head of", "founder")) {
+                if (title.contains(role)) return 25;
+            }
+            for (String role : Arrays.asList("manager", "lead", "senior")) {
+                if (title.contains(role)) return 20;
+            }
+            return 10;
+        }
+
+        static int scoreLeadSource(String source) {
+            if (source == null) return 5;
+            String lower = source.toLowerCase();
+            Map<String, Integer> sourceScores = new HashMap<>();
+            sourceScores.put("referral", 10);
+            sourceScores.put("direct", 9);
+            sourceScores.put("website", 8);
+            sourceScores.put("linkedin", 7);
+            sourceScores.put("email campaign", 6);
+            sourceScores.put("social media", 5);
+            sourceScores.put("cold outreach", 3);
+            return sourceScores.entrySet().stream()
+                    .filter(entry -> lower.contains(entry.getKey()))
+                    .map(Map.Entry::getValue)
+                    .findFirst()
+                    .orElse(5);
+        }
+
+        static int scoreInteractionType(String type) {
+            if (type == null) return 0;
+            String lower = type.toLowerCase();
+            Map<String, Integer> typeScores = new HashMap<>();
+            typeScores.put("meeting", 5);
+            typeScores.put("demo", 5);
+            typeScores.put("call", 3);
+            typeScores.put("email_reply", 2);
+            typeScores.put("email_open", 1);
+            typeScores.put("website_visit", 1);
+            return typeScores.entrySet().stream()
+                    .filter(entry -> lower.contains(entry.getKey()))
+                    .map(Map.Entry::getValue)
+                    .findFirst()
+                    .orElse(1);
+        }
+
+        static int scoreNeed(String notes) {
+            if (notes == null || notes.isEmpty()) return 0;
+            String lower = notes.toLowerCase();
+            long needCount = Arrays.asList("problem", "challenge", "issue", "looking for", "need", "urgent").stream()
+                    .filter(lower::contains)
+                    .count();
+            return (int) Math.min(needCount * 3, 10);
+        }
+    }
+}
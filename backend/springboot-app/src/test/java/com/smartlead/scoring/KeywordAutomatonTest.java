@@ -0,0 +1,102 @@
+package com.smartlead.scoring;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * {@link KeywordAutomaton} matching: overlapping and nested keywords found
+ * through the folded failure links, case folding, rank precedence and the
+ * 64-keyword limit of distinct counting.
+ */
+class KeywordAutomatonTest {
+
+    private final KeywordAutomaton classic = KeywordAutomaton.compile(List.of("he", "she", "his", "hers"));
+
+    @Test
+    void findsOverlappingAndNestedKeywords() {
+        // "ushers" holds she, he (inside she) and hers (overlapping she)
+        assertThat(classic.countDistinct("ushers")).isEqualTo(3);
+        assertThat(classic.countDistinct("his")).isEqualTo(1);
+        assertThat(classic.countDistinct("hishers")).isEqualTo(4);
+        assertThat(classic.countDistinct("the shelf")).isEqualTo(2);
+        assertThat(classic.countDistinct("xyz")).isZero();
+    }
+
+    @Test
+    void suffixKeywordReachedOnlyThroughAFailureLinkKeepsItsRank() {
+        // The text never passes the trie's own "he" path: "he" is found as the suffix of "she"
+        assertThat(classic.bestRank("she")).isZero();
+        assertThat(classic.bestRank("sh")).isEqualTo(KeywordAutomaton.NO_MATCH);
+        assertThat(classic.bestRank("shis")).isEqualTo(2);
+    }
+
+    @Test
+    void matchesCaseInsensitively() {
+        KeywordAutomaton automaton = KeywordAutomaton.compile(List.of("Vice President", "café"));
+
+        assertThat(automaton.matches("SENIOR VICE PRESIDENT, SALES")).isTrue();
+        assertThat(automaton.matches("vice-president")).isFalse();
+        assertThat(automaton.matches("Le CAFÉ Corp")).isTrue();
+        assertThat(classic.countDistinct("USHERS")).isEqualTo(3);
+    }
+
+    @Test
+    void lowestRankWinsWhateverTheTextOrder() {
+        KeywordAutomaton tiers = KeywordAutomaton.compile(List.of("manager", "director", "ceo"), new int[] {2, 1, 0});
+
+        assertThat(tiers.bestRank("Engineering Manager")).isEqualTo(2);
+        assertThat(tiers.bestRank("Manager, then Director")).isEqualTo(1);
+        assertThat(tiers.bestRank("manager director ceo")).isZero();
+        assertThat(tiers.bestRank(null)).isEqualTo(KeywordAutomaton.NO_MATCH);
+    }
+
+    @Test
+    void duplicateKeywordKeepsItsLowestRank() {
+        KeywordAutomaton automaton = KeywordAutomaton.compile(List.of("lead", "LEAD"), new int[] {5, 3});
+
+        assertThat(automaton.bestRank("Team Lead")).isEqualTo(3);
+    }
+
+    @Test
+    void countsEachKeywordOnce() {
+        KeywordAutomaton needs = KeywordAutomaton.compile(List.of("need", "urgent"));
+
+        assertThat(needs.countDistinct("need need need")).isEqualTo(1);
+        assertThat(needs.countDistinct("Urgent need")).isEqualTo(2);
+        assertThat(needs.countDistinct(null)).isZero();
+    }
+
+    @Test
+    void distinctCountingStopsAt64Keywords() {
+        KeywordAutomaton atLimit = KeywordAutomaton.compile(keywords(64));
+        KeywordAutomaton overLimit = KeywordAutomaton.compile(keywords(65));
+
+        assertThat(atLimit.countDistinct("kw0# kw63# kw0#")).isEqualTo(2);
+        assertThatThrownBy(() -> overLimit.countDistinct("kw0#"))
+                .isInstanceOf(IllegalStateException.class);
+        // Ranked matching has no such limit
+        assertThat(overLimit.bestRank("kw64#")).isEqualTo(64);
+    }
+
+    @Test
+    void rejectsEmptyKeywordsAndMismatchedRanks() {
+        assertThatThrownBy(() -> KeywordAutomaton.compile(List.of("ok", "")))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> KeywordAutomaton.compile(List.of("a", "b"), new int[] {0}))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static List<String> keywords(int count) {
+        List<String> keywords = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            // Terminated so no keyword is contained in another ("kw1" in "kw10")
+            keywords.add("kw" + i + "#");
+        }
+        return keywords;
+    }
+}
@@ -0,0 +1,232 @@
+package com.smartlead.scoring;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Local HTTP server emulating the OpenAI chat-completions endpoint for
+ * multi-lead scoring prompts. Latency, latency spikes, HTTP errors, 429 rate
+ * limiting (with Retry-After), malformed bodies and partial answers (leads
+ * left out of the JSON array) are configurable. Tests can script the next
+ * answers with {@link #enqueue(int)} and {@link #enqueue(Function)}; scripted
+ * answers still get the configured latency.
+ */
+public final class StubOpenAiServer implements AutoCloseable {
+
+    private static final Pattern LEAD_KEY = Pattern.compile("^Lead (\\S+):$", Pattern.MULTILINE);
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final HttpServer server;
+    private final long latencyMs;
+    private final long jitterMs;
+    private final double spikeRate;
+    private final long spikeMs;
+    private final double errorRate;
+    private final double rateLimitRate;
+    private final double malformedRate;
+    private final double dropLeadRate;
+    private final AtomicLong requests = new AtomicLong();
+    private final Queue<Function<String, Reply>> scripted = new ConcurrentLinkedQueue<>();
+    private final Queue<String> prompts = new ConcurrentLinkedQueue<>();
+
+    private record Reply(int status, String body) {}
+
+    public StubOpenAiServer(long latencyMs, long jitterMs, double errorRate,
+                            double malformedRate, double dropLeadRate) throws IOException {
+        this(latencyMs, jitterMs, 0.0, 0, errorRate, 0.0, malformedRate, dropLeadRate);
+    }
+
+    /**
+     * @param spikeRate share of requests delayed by an extra {@code spikeMs}
+     * @param rateLimitRate share of requests answered 429 with Retry-After: 1
+     */
+    public StubOpenAiServer(long latencyMs, long jitterMs, double spikeRate, long spikeMs, double errorRate,
+                            double rateLimitRate, double malformedRate, double dropLeadRate) throws IOException {
+        this.latencyMs = latencyMs;
+        this.jitterMs = jitterMs;
+        this.spikeRate = spikeRate;
+        this.spikeMs = spikeMs;
+        this.errorRate = errorRate;
+        this.rateLimitRate = rateLimitRate;
+        this.malformedRate = malformedRate;
+        this.dropLeadRate = dropLeadRate;
+        this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        this.server.createContext("/v1/chat/completions", this::handle);
+        this.server.setExecutor(Executors.newCachedThreadPool(r -> {
+            Thread t = new Thread(r, "stub-openai");
+            t.setDaemon(true);
+            return t;
+        }));
+        this.server.start();
+    }
+
+    public String url() {
+        return "http://127.0.0.1:" + server.getAddress().getPort() + "/v1/chat/completions";
+    }
+
+    public long requestCount() {
+        return requests.get();
+    }
+
+    /**
+     * User prompts received so far, oldest first
+     */
+    public List<String> prompts() {
+        return new ArrayList<>(prompts);
+    }
+
+    /**
+     * Answer the next unscripted request with an error status; 429 comes with Retry-After: 1
+     */
+    public void enqueue(int status) {
+        scripted.add(prompt -> new Reply(status, "{\"error\":{\"message\":\"scripted " + status + "\"}}"));
+    }
+
+    /**
+     * Answer the next unscripted request with the chat-completion content the
+     * function builds from its prompt
+     */
+    public void enqueue(Function<String, String> content) {
+        scripted.add(prompt -> new Reply(200, chatCompletion(content.apply(prompt))));
+    }
+
+    /**
+     * Model output with one JSON array entry per key
+     */
+    public static String answers(Map<String, Integer> adjustmentsByKey) {
+        ArrayNode answers = MAPPER.createArrayNode();
+        adjustmentsByKey.forEach((key, adjustment) -> answers.addObject()
+                .put("leadId", key)
+                .put("adjustment", adjustment)
+                .put("reasoning", "Scripted reasoning."));
+        return "Here is the analysis:\n" + answers;
+    }
+
+    /**
+     * Each lead section of a prompt by its key, in prompt order
+     */
+    public static Map<String, String> leadSections(String prompt) {
+        Map<String, String> sections = new LinkedHashMap<>();
+        Matcher matcher = LEAD_KEY.matcher(prompt);
+        String key = null;
+        int start = 0;
+        while (matcher.find()) {
+            if (key != null) sections.put(key, prompt.substring(start, matcher.start()));
+            key = matcher.group(1);
+            start = matcher.end();
+        }
+        if (key != null) {
+            int end = prompt.indexOf("For every lead provide:", start);
+            sections.put(key, prompt.substring(start, end < 0 ? prompt.length() : end));
+        }
+        return sections;
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+
+    /**
+     * Chat-completion body answering every lead in the prompt, minus dropped ones
+     */
+    public static String completionFor(String prompt, double dropLeadRate) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        ArrayNode answers = MAPPER.createArrayNode();
+        for (String key : leadKeys(prompt)) {
+            if (random.nextDouble() < dropLeadRate) continue;
+            ObjectNode answer = answers.addObject();
+            answer.put("leadId", key);
+            answer.put("adjustment", random.nextInt(-20, 21));
+            answer.put("reasoning", "Synthetic reasoning.");
+            answer.put("nextAction", "Follow up");
+        }
+        return chatCompletion("Here is the analysis:\n" + answers);
+    }
+
+    private static List<String> leadKeys(String prompt) {
+        List<String> keys = new ArrayList<>();
+        Matcher matcher = LEAD_KEY.matcher(prompt);
+        while (matcher.find()) {
+            keys.add(matcher.group(1));
+        }
+        return keys;
+    }
+
+    private static String chatCompletion(String content) {
+        ObjectNode root = MAPPER.createObjectNode();
+        root.putArray("choices").addObject().putObject("message")
+                .put("role", "assistant")
+                .put("content", content);
+        return root.toString();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        requests.incrementAndGet();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        try {
+            JsonNode request = MAPPER.readTree(exchange.getRequestBody());
+            String prompt = request.path("messages").path(1).path("content").asText();
+            prompts.add(prompt);
+
+            long delay = latencyMs + (jitterMs > 0 ? random.nextLong(jitterMs + 1) : 0);
+            if (random.nextDouble() < spikeRate) {
+                delay += spikeMs;
+            }
+            if (delay > 0) {
+                Thread.sleep(delay);
+            }
+
+            Function<String, Reply> script = scripted.poll();
+            if (script != null) {
+                Reply reply = script.apply(prompt);
+                if (reply.status() == 429) {
+                    exchange.getResponseHeaders().add("Retry-After", "1");
+                }
+                respond(exchange, reply.status(), reply.body());
+            } else if (random.nextDouble() < rateLimitRate) {
+                exchange.getResponseHeaders().add("Retry-After", "1");
+                respond(exchange, 429, "{\"error\":{\"message\":\"Rate limit reached\",\"type\":\"requests\"}}");
+            } else if (random.nextDouble() < errorRate) {
+                respond(exchange, 500, "{\"error\":{\"message\":\"stub failure\"}}");
+            } else if (random.nextDouble() < malformedRate) {
+                respond(exchange, 200, chatCompletion("[{\"leadId\": \"1\", \"adjustment\": "));
+            } else {
+                respond(exchange, 200, completionFor(prompt, dropLeadRate));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            respond(exchange, 503, "{}");
+        }
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
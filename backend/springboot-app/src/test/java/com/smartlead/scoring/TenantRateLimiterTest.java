@@ -0,0 +1,100 @@
+package com.smartlead.scoring;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * {@link TenantRateLimiter}: burst admission, queueing until tokens refill,
+ * rejection once a tenant's queue is full, and per-tenant isolation.
+ */
+class TenantRateLimiterTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private TenantRateLimiter limiter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        limiter = new TenantRateLimiter(meterRegistry, 10, 2, 2, 10);
+        limiter.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        limiter.shutdown();
+    }
+
+    @Test
+    void admitsTheBurstThenQueuesUntilTokensRefill() throws Exception {
+        assertThat(limiter.acquire(1L)).isCompleted();
+        assertThat(limiter.acquire(1L)).isCompleted();
+
+        CompletableFuture<Void> queued = limiter.acquire(1L);
+        assertThat(queued).isNotDone();
+        assertThat(limiter.queuedCount()).isEqualTo(1);
+
+        queued.get(2, TimeUnit.SECONDS);
+        assertThat(limiter.queuedCount()).isZero();
+        assertThat(admissions("admitted")).isEqualTo(2);
+        assertThat(admissions("queued")).isEqualTo(1);
+    }
+
+    @Test
+    void rejectsOnceTheTenantQueueIsFull() {
+        limiter.acquire(1L);
+        limiter.acquire(1L);
+        limiter.acquire(1L);
+        limiter.acquire(1L);
+
+        CompletableFuture<Void> rejected = limiter.acquire(1L);
+
+        assertThat(rejected).isCompletedExceptionally();
+        assertThatThrownBy(rejected::join).hasCauseInstanceOf(RejectedExecutionException.class);
+        assertThat(admissions("rejected")).isEqualTo(1);
+    }
+
+    @Test
+    void tenantsHaveSeparateBuckets() {
+        limiter.acquire(1L);
+        limiter.acquire(1L);
+        assertThat(limiter.acquire(1L)).isNotDone();
+
+        assertThat(limiter.acquire(2L)).isCompleted();
+    }
+
+    @Test
+    void shutdownRejectsWaitersAndNewRequests() {
+        limiter.acquire(1L);
+        limiter.acquire(1L);
+        CompletableFuture<Void> queued = limiter.acquire(1L);
+
+        limiter.shutdown();
+
+        assertThat(queued).isCompletedExceptionally();
+        assertThat(limiter.queuedCount()).isZero();
+        assertThat(limiter.acquire(1L)).isCompletedExceptionally();
+    }
+
+    @Test
+    void zeroRateDisablesLimiting() {
+        TenantRateLimiter unlimited = new TenantRateLimiter(meterRegistry, 0, 1, 1, 10);
+        unlimited.start();
+
+        for (int i = 0; i < 100; i++) {
+            assertThat(unlimited.acquire(1L)).isCompleted();
+        }
+    }
+
+    private double admissions(String result) {
+        return meterRegistry.get("openai.tenant.admissions").tag("result", result).counter().count();
+    }
+}
@@ -483,7 +483,7 @@ resource "aws_lb_target_group" "backend" {
     unhealthy_threshold = 2
     timeout             = 5
     interval            = 30
-    path                = "/actuator/health"
+    path                = "/readyz"
     matcher             = "200"
   }
 